@@ -0,0 +1,440 @@
+package edu.ncsu.csc216.wolf_scheduler.catalog;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictAudit;
+
+/**
+ * Which sections of a course catalog conflict with which others, under the rules of
+ * Activity.checkConflict. Sections that meet on the same days at the same times
+ * conflict with exactly the same sections, so the matrix is kept compressed by
+ * meeting pattern: each distinct combination of meeting days, start time and end
+ * time is a pattern, the patterns conflicting with each pattern are a bit set, and
+ * each pattern lists the catalog positions of its sections. A section's row of the
+ * matrix is the sections of the patterns its pattern conflicts with, less itself.
+ * A catalog has far fewer patterns than sections, so the matrix takes memory for
+ * the patterns squared instead of the sections squared.
+ *
+ * The pattern conflicts are found by the sweep line of ConflictAudit, so each
+ * pattern is compared only with the patterns it overlaps. The days are swept in
+ * parallel.
+ *
+ * Courses appended to the catalog are added by update(), and a course whose days or
+ * times changed is moved to its new pattern by update(position). The matrix may be
+ * queried by many threads at once, but not while it is being updated.
+ *
+ * @author Dania Swelam
+ */
+public class CatalogConflictMatrix {
+
+	/** Number of days in a week */
+	private static final int DAYS = 7;
+	/** Number of patterns the pattern arrays hold at first */
+	private static final int INITIAL_PATTERNS = 64;
+
+	/** The catalog */
+	private final CourseCatalog catalog;
+	/** Number of catalog courses in the matrix */
+	private int size;
+	/** Pattern of each course by catalog position */
+	private int[] patternOf;
+	/** Number of patterns */
+	private int patternCount;
+	/** Pattern id of each combination of meeting days and times */
+	private final HashMap<Long, Integer> patternIds = new HashMap<Long, Integer>();
+	/** Meeting days bit mask of each pattern */
+	private int[] masks;
+	/** Start time of each pattern */
+	private int[] starts;
+	/** End time of each pattern */
+	private int[] ends;
+	/** Catalog positions of the sections of each pattern, in no particular order */
+	private int[][] members;
+	/** Number of sections of each pattern */
+	private int[] memberCounts;
+	/** Patterns each pattern conflicts with, as bit sets of pattern ids */
+	private long[][] conflicts;
+
+	/**
+	 * Builds the conflict matrix of the courses in the catalog, sweeping the days on
+	 * as many threads as there are processors.
+	 * @param catalog the catalog
+	 * @throws IllegalArgumentException if the catalog is null
+	 */
+	public CatalogConflictMatrix(CourseCatalog catalog) {
+		this(catalog, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Builds the conflict matrix of the courses in the catalog.
+	 * @param catalog the catalog
+	 * @param parallelism number of threads to sweep the days on
+	 * @throws IllegalArgumentException if the catalog is null or parallelism is less than one
+	 */
+	public CatalogConflictMatrix(CourseCatalog catalog, int parallelism) {
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Invalid parallelism.");
+		}
+		this.catalog = catalog;
+		int courses = catalog.size();
+		patternOf = new int[Math.max(courses, 1)];
+		allocatePatterns(INITIAL_PATTERNS);
+		for (int i = 0; i < courses; i++) {
+			int mask = catalog.getMeetingDaysMask(i);
+			int start = catalog.getStartTime(i);
+			int end = catalog.getEndTime(i);
+			int pattern = findPattern(mask, start, end);
+			if (pattern < 0) {
+				pattern = newPattern(mask, start, end);
+			}
+			addMember(pattern, i);
+		}
+		size = courses;
+
+		long[] pairs;
+		if (parallelism == 1) {
+			pairs = new SweepTask(0, DAYS).compute();
+		} else {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				pairs = pool.invoke(new SweepTask(0, DAYS));
+			} finally {
+				pool.shutdown();
+			}
+		}
+		for (long pair : pairs) {
+			setConflict((int) (pair >>> Integer.SIZE), (int) pair);
+		}
+		for (int pattern = 0; pattern < patternCount; pattern++) {
+			if (masks[pattern] != 0) {
+				setConflict(pattern, pattern);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of catalog courses in the matrix.
+	 * @return the number of courses
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of distinct meeting patterns of the courses.
+	 * @return the number of patterns
+	 */
+	public int getPatternCount() {
+		return patternCount;
+	}
+
+	/**
+	 * Returns whether two catalog courses conflict. A course does not conflict with itself.
+	 * @param first position of the first course
+	 * @param second position of the second course
+	 * @return true if the courses conflict
+	 * @throws IndexOutOfBoundsException if a position is not in the matrix
+	 */
+	public boolean conflicts(int first, int second) {
+		checkPosition(first);
+		checkPosition(second);
+		return first != second && isSet(conflicts[patternOf[first]], patternOf[second]);
+	}
+
+	/**
+	 * Returns the positions of the catalog courses conflicting with a course.
+	 * @param position position of the course
+	 * @return the positions of the conflicting courses
+	 * @throws IndexOutOfBoundsException if the position is not in the matrix
+	 */
+	public BitSet getConflicts(int position) {
+		checkPosition(position);
+		BitSet sections = sectionsOf(conflicts[patternOf[position]]);
+		sections.clear(position);
+		return sections;
+	}
+
+	/**
+	 * Returns the number of catalog courses conflicting with a course, without listing them.
+	 * @param position position of the course
+	 * @return the number of conflicting courses
+	 * @throws IndexOutOfBoundsException if the position is not in the matrix
+	 */
+	public int getConflictCount(int position) {
+		checkPosition(position);
+		long[] row = conflicts[patternOf[position]];
+		int count = 0;
+		for (int w = 0; w < row.length; w++) {
+			for (long bits = row[w]; bits != 0; bits &= bits - 1) {
+				count += memberCounts[w * Long.SIZE + Long.numberOfTrailingZeros(bits)];
+			}
+		}
+		return isSet(row, patternOf[position]) ? count - 1 : count;
+	}
+
+	/**
+	 * Returns the positions of the catalog courses conflicting with any activity, such
+	 * as an event or a course from another catalog.
+	 * @param activity the activity
+	 * @return the positions of the courses conflicting with the activity
+	 * @throws IllegalArgumentException if the activity is null
+	 */
+	public BitSet getConflicts(Activity activity) {
+		if (activity == null) {
+			throw new IllegalArgumentException("Invalid activity.");
+		}
+		long[] row = new long[conflicts.length == 0 ? 0 : conflicts[0].length];
+		for (int pattern = 0; pattern < patternCount; pattern++) {
+			if ((masks[pattern] & activity.getMeetingDaysMask()) != 0 && starts[pattern] <= activity.getEndTime()
+					&& activity.getStartTime() <= ends[pattern]) {
+				row[pattern / Long.SIZE] |= 1L << pattern;
+			}
+		}
+		return sectionsOf(row);
+	}
+
+	/**
+	 * Adds the courses appended to the catalog since the matrix was built or last
+	 * updated, comparing each new meeting pattern with the existing patterns.
+	 */
+	public void update() {
+		int courses = catalog.size();
+		if (courses > patternOf.length) {
+			patternOf = Arrays.copyOf(patternOf, Math.max(courses, patternOf.length * 2));
+		}
+		for (int i = size; i < courses; i++) {
+			addMember(findOrAddPattern(i), i);
+		}
+		size = Math.max(size, courses);
+	}
+
+	/**
+	 * Moves a course whose meeting days or times changed to its new pattern.
+	 * @param position position of the course
+	 * @throws IndexOutOfBoundsException if the position is not in the matrix
+	 */
+	public void update(int position) {
+		checkPosition(position);
+		int pattern = findOrAddPattern(position);
+		int old = patternOf[position];
+		if (pattern != old) {
+			int[] oldMembers = members[old];
+			for (int i = 0; i < memberCounts[old]; i++) {
+				if (oldMembers[i] == position) {
+					oldMembers[i] = oldMembers[--memberCounts[old]];
+					break;
+				}
+			}
+			addMember(pattern, position);
+		}
+	}
+
+	/**
+	 * Returns the pattern of a catalog course, adding a pattern and its conflicts with
+	 * the existing patterns if the course's days and times are new.
+	 * @param position position of the course in the catalog
+	 * @return the pattern id
+	 */
+	private int findOrAddPattern(int position) {
+		int mask = catalog.getMeetingDaysMask(position);
+		int start = catalog.getStartTime(position);
+		int end = catalog.getEndTime(position);
+		int pattern = findPattern(mask, start, end);
+		if (pattern < 0) {
+			pattern = newPattern(mask, start, end);
+			for (int other = 0; other < patternCount; other++) {
+				if ((masks[pattern] & masks[other]) != 0 && starts[pattern] <= ends[other]
+						&& starts[other] <= ends[pattern]) {
+					setConflict(pattern, other);
+				}
+			}
+		}
+		return pattern;
+	}
+
+	/**
+	 * Returns the pattern with the given days and times.
+	 * @param mask meeting days bit mask
+	 * @param start start time
+	 * @param end end time
+	 * @return the pattern id, or -1 if there is none
+	 */
+	private int findPattern(int mask, int start, int end) {
+		Integer pattern = patternIds.get(key(mask, start, end));
+		return pattern == null ? -1 : pattern;
+	}
+
+	/**
+	 * Adds a pattern with the given days and times and no conflicts.
+	 * @param mask meeting days bit mask
+	 * @param start start time
+	 * @param end end time
+	 * @return the new pattern id
+	 */
+	private int newPattern(int mask, int start, int end) {
+		if (patternCount == masks.length) {
+			allocatePatterns(masks.length * 2);
+		}
+		int pattern = patternCount++;
+		masks[pattern] = mask;
+		starts[pattern] = start;
+		ends[pattern] = end;
+		members[pattern] = new int[2];
+		patternIds.put(key(mask, start, end), pattern);
+		return pattern;
+	}
+
+	/**
+	 * Returns the key of days and times in patternIds.
+	 * @param mask meeting days bit mask
+	 * @param start start time
+	 * @param end end time
+	 * @return the key
+	 */
+	private static Long key(int mask, int start, int end) {
+		return (long) mask << 32 | (long) start << 16 | end;
+	}
+
+	/**
+	 * Grows the pattern arrays and conflict bit sets to hold a number of patterns.
+	 * @param capacity number of patterns to hold
+	 */
+	private void allocatePatterns(int capacity) {
+		int words = (capacity + Long.SIZE - 1) / Long.SIZE;
+		if (masks == null) {
+			masks = new int[capacity];
+			starts = new int[capacity];
+			ends = new int[capacity];
+			members = new int[capacity][];
+			memberCounts = new int[capacity];
+			conflicts = new long[capacity][words];
+			return;
+		}
+		int old = masks.length;
+		masks = Arrays.copyOf(masks, capacity);
+		starts = Arrays.copyOf(starts, capacity);
+		ends = Arrays.copyOf(ends, capacity);
+		members = Arrays.copyOf(members, capacity);
+		memberCounts = Arrays.copyOf(memberCounts, capacity);
+		conflicts = Arrays.copyOf(conflicts, capacity);
+		for (int pattern = 0; pattern < capacity; pattern++) {
+			conflicts[pattern] = pattern < old ? Arrays.copyOf(conflicts[pattern], words) : new long[words];
+		}
+	}
+
+	/**
+	 * Adds a catalog position to the sections of a pattern.
+	 * @param pattern the pattern id
+	 * @param position the catalog position
+	 */
+	private void addMember(int pattern, int position) {
+		if (memberCounts[pattern] == members[pattern].length) {
+			members[pattern] = Arrays.copyOf(members[pattern], members[pattern].length * 2);
+		}
+		members[pattern][memberCounts[pattern]++] = position;
+		patternOf[position] = pattern;
+	}
+
+	/**
+	 * Marks two patterns as conflicting with each other.
+	 * @param first the first pattern id
+	 * @param second the second pattern id
+	 */
+	private void setConflict(int first, int second) {
+		conflicts[first][second / Long.SIZE] |= 1L << second;
+		conflicts[second][first / Long.SIZE] |= 1L << first;
+	}
+
+	/**
+	 * Returns the sections of the patterns in a bit set of patterns.
+	 * @param patterns the pattern ids
+	 * @return the catalog positions of their sections
+	 */
+	private BitSet sectionsOf(long[] patterns) {
+		BitSet sections = new BitSet(size);
+		for (int w = 0; w < patterns.length; w++) {
+			for (long bits = patterns[w]; bits != 0; bits &= bits - 1) {
+				int pattern = w * Long.SIZE + Long.numberOfTrailingZeros(bits);
+				int[] positions = members[pattern];
+				for (int i = 0; i < memberCounts[pattern]; i++) {
+					sections.set(positions[i]);
+				}
+			}
+		}
+		return sections;
+	}
+
+	/**
+	 * Returns whether a bit is set in a bit set.
+	 * @param bits the bit set
+	 * @param bit the bit
+	 * @return true if the bit is set
+	 */
+	private static boolean isSet(long[] bits, int bit) {
+		return (bits[bit / Long.SIZE] & 1L << bit) != 0;
+	}
+
+	/**
+	 * Checks that a position is in the matrix.
+	 * @param position the catalog position
+	 * @throws IndexOutOfBoundsException if the position is not in the matrix
+	 */
+	private void checkPosition(int position) {
+		if (position < 0 || position >= size) {
+			throw new IndexOutOfBoundsException("Invalid position " + position);
+		}
+	}
+
+	/**
+	 * Sweeps a range of days, splitting it in two and sweeping the halves in parallel
+	 * while it holds more than one day. Returns each pair of different patterns whose
+	 * first shared day is in the range, packed as by ConflictAudit.sweepDay.
+	 */
+	private class SweepTask extends RecursiveTask<long[]> {
+
+		/** ID used for serialization. */
+		private static final long serialVersionUID = 1L;
+		/** First day to sweep, 0 for Sunday */
+		private final int firstDay;
+		/** Day after the last day to sweep */
+		private final int endDay;
+
+		/**
+		 * Constructs a task sweeping a range of days.
+		 * @param firstDay first day to sweep, 0 for Sunday
+		 * @param endDay day after the last day to sweep
+		 */
+		SweepTask(int firstDay, int endDay) {
+			this.firstDay = firstDay;
+			this.endDay = endDay;
+		}
+
+		/**
+		 * Sweeps the days of this task.
+		 * @return the conflicting pairs of patterns
+		 */
+		@Override
+		protected long[] compute() {
+			if (endDay - firstDay > 1) {
+				int middle = (firstDay + endDay) / 2;
+				SweepTask first = new SweepTask(firstDay, middle);
+				SweepTask second = new SweepTask(middle, endDay);
+				second.fork();
+				long[] firstPairs = first.compute();
+				long[] secondPairs = second.join();
+				long[] pairs = Arrays.copyOf(firstPairs, firstPairs.length + secondPairs.length);
+				System.arraycopy(secondPairs, 0, pairs, firstPairs.length, secondPairs.length);
+				return pairs;
+			}
+			return ConflictAudit.sweepDay(firstDay, masks, starts, ends, patternCount);
+		}
+	}
+}
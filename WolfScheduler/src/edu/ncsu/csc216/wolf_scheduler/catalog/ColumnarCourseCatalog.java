@@ -0,0 +1,509 @@
+package edu.ncsu.csc216.wolf_scheduler.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Course catalog that stores its courses column by column instead of as Course
+ * objects, for catalogs too large to keep every Course on the heap. Names,
+ * titles, sections and instructor ids are indexes into a dictionary of the
+ * distinct Strings, times are packed two to an int, and meeting days and credits
+ * take a byte each. Built from a list, a catalog takes 30 to 40 bytes a section
+ * plus its distinct Strings, against about 70 bytes for each Course object and
+ * its list and index entries.
+ *
+ * Courses are created from the columns each time they are asked for, so the
+ * catalog holds a copy of the courses added to it: changes to a course returned
+ * by the catalog do not change the catalog, and two lookups of the same course
+ * return equal but different Course objects. Callers reading every course, such
+ * as indexes and displays, read the columns through the field accessors instead.
+ * Display rows are built from the columns each time they are asked for and are
+ * not kept, so callers that show the catalog again keep the rows themselves.
+ * Courses of the same meeting days and times share one meeting string, kept in a
+ * table of the catalog's distinct meeting patterns.
+ *
+ * Courses must not be added while other threads read the catalog; otherwise the
+ * catalog can be read by many threads at once.
+ *
+ * @author Dania Swelam
+ */
+public class ColumnarCourseCatalog implements CourseCatalog {
+
+	/** Initial number of courses the columns hold */
+	private static final int INITIAL_CAPACITY = 16;
+	/** Meeting days byte flag for meeting days not written in the order of DAY_LETTERS */
+	private static final int DAYS_OUT_OF_ORDER = 0x80;
+	/** Letters of the days of the week, Sunday first, in the order of the meeting days bits */
+	private static final String DAY_LETTERS = "UMTWHFS";
+	/** Meeting days for every combination of day bits, with the days in order; arranged for none */
+	private static final String[] MEETING_DAYS = new String[1 << DAY_LETTERS.length()];
+
+	static {
+		MEETING_DAYS[0] = "A";
+		for (int mask = 1; mask < MEETING_DAYS.length; mask++) {
+			StringBuilder days = new StringBuilder();
+			for (int day = 0; day < DAY_LETTERS.length(); day++) {
+				if ((mask & 1 << day) != 0) {
+					days.append(DAY_LETTERS.charAt(day));
+				}
+			}
+			MEETING_DAYS[mask] = days.toString();
+		}
+	}
+
+	/** Distinct Strings of the catalog */
+	private final ArrayList<String> strings = new ArrayList<String>();
+	/** Index of each distinct String in strings */
+	private final HashMap<String, Integer> stringIndexes = new HashMap<String, Integer>();
+	/** Dictionary index of each course's name */
+	private int[] names;
+	/** Dictionary index of each course's title */
+	private int[] titles;
+	/** Dictionary index of each course's section */
+	private int[] sections;
+	/** Dictionary index of each course's instructor id */
+	private int[] instructors;
+	/** Each course's start time in the high 16 bits and end time in the low 16 bits */
+	private int[] times;
+	/** Each course's meeting days bit mask, with DAYS_OUT_OF_ORDER set when meetingDaysOutOfOrder holds the days */
+	private byte[] days;
+	/** Each course's credits */
+	private byte[] credits;
+	/** Meeting days of the courses whose days are not in the order of DAY_LETTERS, by course position */
+	private final HashMap<Integer, String> meetingDaysOutOfOrder = new HashMap<Integer, String>();
+	/** Number of courses in the catalog */
+	private int size;
+	/** Open addressing table of course positions plus one by name and section, 0 where empty */
+	private int[] lookup;
+	/** Open addressing table of the meeting keys of the courses whose days are in order, 0 where empty */
+	private long[] meetingKeys = new long[INITIAL_CAPACITY];
+	/** Meeting string of the key in the same slot of meetingKeys */
+	private String[] meetingStrings = new String[INITIAL_CAPACITY];
+	/** Number of keys in meetingKeys */
+	private int meetingCount;
+
+	/**
+	 * Constructs an empty catalog.
+	 */
+	public ColumnarCourseCatalog() {
+		allocate(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Constructs a catalog holding the given courses in the same order.
+	 * @param courses the courses in the catalog
+	 * @throws IllegalArgumentException if the list or any course in it is null
+	 */
+	public ColumnarCourseCatalog(List<Course> courses) {
+		if (courses == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		allocate(Math.max(INITIAL_CAPACITY, courses.size()));
+		for (Course course : courses) {
+			add(course);
+		}
+	}
+
+	/**
+	 * Adds a copy of the course to the end of the catalog.
+	 * @param course the course to add
+	 * @throws IllegalArgumentException if the course is null
+	 */
+	public void add(Course course) {
+		if (course == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		if (size == names.length) {
+			grow();
+		}
+
+		names[size] = stringIndex(course.getName());
+		titles[size] = stringIndex(course.getTitle());
+		sections[size] = stringIndex(course.getSection());
+		instructors[size] = stringIndex(course.getInstructorId());
+		times[size] = course.getStartTime() << 16 | course.getEndTime();
+		credits[size] = (byte) course.getCredits();
+		int mask = course.getMeetingDaysMask();
+		if (MEETING_DAYS[mask].equals(course.getMeetingDays())) {
+			days[size] = (byte) mask;
+			addMeetingString(size);
+		} else {
+			days[size] = (byte) (mask | DAYS_OUT_OF_ORDER);
+			meetingDaysOutOfOrder.put(size, course.getMeetingDays());
+		}
+		size++;
+
+		if (find(names[size - 1], sections[size - 1]) < 0) {
+			insert(size - 1);
+		}
+		if (size * 2 > lookup.length) {
+			lookup = new int[lookup.length * 2];
+			for (int i = 0; i < size; i++) {
+				if (find(names[i], sections[i]) < 0) {
+					insert(i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of courses in the catalog.
+	 * @return the number of courses
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a new Course with the fields of the course at the given position.
+	 * @param index position of the course
+	 * @return the course at the position
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public Course getCourse(int index) {
+		Objects.checkIndex(index, size);
+		String name = strings.get(names[index]);
+		String title = strings.get(titles[index]);
+		String section = strings.get(sections[index]);
+		String instructorId = strings.get(instructors[index]);
+		if (getMeetingDaysMask(index) == 0) {
+			return new Course(name, title, section, credits[index], instructorId, getMeetingDays(index));
+		}
+		return new Course(name, title, section, credits[index], instructorId, getMeetingDays(index),
+				getStartTime(index), getEndTime(index));
+	}
+
+	/**
+	 * Returns the name, section, title and meeting string of the course at the given
+	 * position, as a new row built from the columns.
+	 * @param index position of the course
+	 * @return the display row of the course
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public String[] getDisplayRow(int index) {
+		Objects.checkIndex(index, size);
+		return new String[] { strings.get(names[index]), strings.get(sections[index]), strings.get(titles[index]),
+				getMeetingString(index) };
+	}
+
+	/**
+	 * Returns the name of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's name
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public String getName(int index) {
+		Objects.checkIndex(index, size);
+		return strings.get(names[index]);
+	}
+
+	/**
+	 * Returns the title of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's title
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public String getTitle(int index) {
+		Objects.checkIndex(index, size);
+		return strings.get(titles[index]);
+	}
+
+	/**
+	 * Returns the section of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's section
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public String getSection(int index) {
+		Objects.checkIndex(index, size);
+		return strings.get(sections[index]);
+	}
+
+	/**
+	 * Returns the credits of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's credits
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public int getCredits(int index) {
+		Objects.checkIndex(index, size);
+		return credits[index];
+	}
+
+	/**
+	 * Returns the instructor id of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's instructor id
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public String getInstructorId(int index) {
+		Objects.checkIndex(index, size);
+		return strings.get(instructors[index]);
+	}
+
+	/**
+	 * Returns the meeting days bit mask of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's meeting days bit mask
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public int getMeetingDaysMask(int index) {
+		Objects.checkIndex(index, size);
+		return days[index] & 0xFF & ~DAYS_OUT_OF_ORDER;
+	}
+
+	/**
+	 * Returns the start time of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's start time
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public int getStartTime(int index) {
+		Objects.checkIndex(index, size);
+		return times[index] >>> 16;
+	}
+
+	/**
+	 * Returns the end time of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's end time
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public int getEndTime(int index) {
+		Objects.checkIndex(index, size);
+		return times[index] & 0xFFFF;
+	}
+
+	/**
+	 * Returns the meeting days of the course at a position in the catalog.
+	 * @param index position of the course
+	 * @return the course's meeting days
+	 */
+	private String getMeetingDays(int index) {
+		if ((days[index] & DAYS_OUT_OF_ORDER) != 0) {
+			return meetingDaysOutOfOrder.get(index);
+		}
+		return MEETING_DAYS[days[index]];
+	}
+
+	/**
+	 * Returns the meeting string of the course at a position in the catalog, shared
+	 * with every course whose days are in order and that meets at the same days and times.
+	 * @param index position of the course
+	 * @return the course's meeting string
+	 */
+	private String getMeetingString(int index) {
+		if ((days[index] & DAYS_OUT_OF_ORDER) != 0) {
+			return Activity.getMeetingString(getMeetingDays(index), getStartTime(index), getEndTime(index));
+		}
+		return meetingStrings[meetingSlot(meetingKeys, meetingKey(index))];
+	}
+
+	/**
+	 * Adds the meeting string of the course at a position to the table of meeting
+	 * strings, if no course with the same meeting days and times added it already.
+	 * The course's days must be in order.
+	 * @param index position of the course
+	 */
+	private void addMeetingString(int index) {
+		long key = meetingKey(index);
+		int slot = meetingSlot(meetingKeys, key);
+		if (meetingKeys[slot] != 0) {
+			return;
+		}
+		meetingKeys[slot] = key;
+		meetingStrings[slot] = Activity.getMeetingString(MEETING_DAYS[days[index]], times[index] >>> 16,
+				times[index] & 0xFFFF);
+		meetingCount++;
+		if (meetingCount * 2 > meetingKeys.length) {
+			long[] keys = new long[meetingKeys.length * 2];
+			String[] values = new String[keys.length];
+			for (int i = 0; i < meetingKeys.length; i++) {
+				if (meetingKeys[i] != 0) {
+					int newSlot = meetingSlot(keys, meetingKeys[i]);
+					keys[newSlot] = meetingKeys[i];
+					values[newSlot] = meetingStrings[i];
+				}
+			}
+			meetingKeys = keys;
+			meetingStrings = values;
+		}
+	}
+
+	/**
+	 * Returns the key of the meeting days and times of the course at a position in the
+	 * table of meeting strings. Keys are never 0.
+	 * @param index position of the course
+	 * @return the meeting key
+	 */
+	private long meetingKey(int index) {
+		return 1L << 40 | (long) (days[index] & 0xFF) << Integer.SIZE | times[index] & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * Returns the slot of a table of meeting keys holding the key, or the empty slot
+	 * where it would be added.
+	 * @param keys the table of meeting keys
+	 * @param key the meeting key
+	 * @return the slot
+	 */
+	private static int meetingSlot(long[] keys, long key) {
+		int mask = keys.length - 1;
+		long hash = key * 0x9E3779B97F4A7C15L;
+		int slot = (int) (hash >>> 32) & mask;
+		while (keys[slot] != 0 && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Returns a new Course with the fields of the first course in the catalog with
+	 * the given name and section.
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @return the course, or null if the catalog has no such course
+	 */
+	@Override
+	public Course getCourse(String name, String section) {
+		Integer nameIndex = stringIndexes.get(name);
+		Integer sectionIndex = stringIndexes.get(section);
+		if (nameIndex == null || sectionIndex == null) {
+			return null;
+		}
+		int index = find(nameIndex, sectionIndex);
+		return index < 0 ? null : getCourse(index);
+	}
+
+	/**
+	 * Returns a count that changes whenever a course already in the catalog changes.
+	 * The catalog holds copies of its courses that are never changed, so the count is
+	 * always 0.
+	 * @return the change count
+	 */
+	@Override
+	public long getChangeCount() {
+		return 0;
+	}
+
+	/**
+	 * Returns the positions of the courses changed since getChangeCount returned the
+	 * given count. The catalog's courses are never changed, so there are none.
+	 * @param since an earlier change count
+	 * @return an empty array
+	 * @throws IllegalArgumentException if the count is not 0
+	 */
+	@Override
+	public int[] getChangedPositions(long since) {
+		if (since != 0) {
+			throw new IllegalArgumentException("Invalid change count.");
+		}
+		return new int[0];
+	}
+
+	/**
+	 * Returns the dictionary index of the String, adding it to the dictionary if needed.
+	 * @param s the String to find
+	 * @return the dictionary index of the String
+	 */
+	private int stringIndex(String s) {
+		Integer index = stringIndexes.get(s);
+		if (index == null) {
+			index = strings.size();
+			strings.add(s);
+			stringIndexes.put(s, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the position of the first course in the lookup table with the given
+	 * name and section.
+	 * @param name dictionary index of the name
+	 * @param section dictionary index of the section
+	 * @return the position of the course, or -1 if there is none
+	 */
+	private int find(int name, int section) {
+		int mask = lookup.length - 1;
+		for (int slot = slot(name, section, mask); lookup[slot] != 0; slot = (slot + 1) & mask) {
+			int index = lookup[slot] - 1;
+			if (names[index] == name && sections[index] == section) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Adds the course at the given position to the lookup table.
+	 * @param index position of the course
+	 */
+	private void insert(int index) {
+		int mask = lookup.length - 1;
+		int slot = slot(names[index], sections[index], mask);
+		while (lookup[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		lookup[slot] = index + 1;
+	}
+
+	/**
+	 * Returns the first lookup table slot to try for a name and section.
+	 * @param name dictionary index of the name
+	 * @param section dictionary index of the section
+	 * @param mask lookup table length minus one
+	 * @return the slot
+	 */
+	private static int slot(int name, int section, int mask) {
+		int hash = name * 31 + section;
+		hash *= 0x9E3779B9;
+		return (hash ^ hash >>> 16) & mask;
+	}
+
+	/**
+	 * Creates empty columns that hold the given number of courses, and a lookup table
+	 * large enough for them.
+	 * @param capacity number of courses the columns hold
+	 */
+	private void allocate(int capacity) {
+		names = new int[capacity];
+		titles = new int[capacity];
+		sections = new int[capacity];
+		instructors = new int[capacity];
+		times = new int[capacity];
+		days = new byte[capacity];
+		credits = new byte[capacity];
+		lookup = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+	}
+
+	/**
+	 * Doubles the number of courses the columns can hold.
+	 */
+	private void grow() {
+		int capacity = names.length * 2;
+		names = Arrays.copyOf(names, capacity);
+		titles = Arrays.copyOf(titles, capacity);
+		sections = Arrays.copyOf(sections, capacity);
+		instructors = Arrays.copyOf(instructors, capacity);
+		times = Arrays.copyOf(times, capacity);
+		days = Arrays.copyOf(days, capacity);
+		credits = Arrays.copyOf(credits, capacity);
+	}
+}
@@ -0,0 +1,130 @@
+package edu.ncsu.csc216.wolf_scheduler.catalog;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The courses available for scheduling, in catalog order, with lookups by name
+ * and section. When the catalog holds more than one course with the same name
+ * and section, the first one in catalog order is found by a lookup.
+ * @author Dania Swelam
+ */
+public interface CourseCatalog {
+
+	/**
+	 * Returns the number of courses in the catalog.
+	 * @return the number of courses
+	 */
+	int size();
+
+	/**
+	 * Returns the course at the given position in the catalog.
+	 * @param index position of the course
+	 * @return the course at the position
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	Course getCourse(int index);
+
+	/**
+	 * Returns the first course in the catalog with the given name and section.
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @return the course, or null if the catalog has no such course
+	 */
+	Course getCourse(String name, String section);
+
+	/**
+	 * Returns the name, section, title and meeting string of the course at the given
+	 * position, as its short display array, without creating a Course. Callers must
+	 * not modify the row.
+	 * @param index position of the course
+	 * @return the display row of the course
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	String[] getDisplayRow(int index);
+
+	/**
+	 * Returns the name of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's name
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	String getName(int index);
+
+	/**
+	 * Returns the title of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's title
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	String getTitle(int index);
+
+	/**
+	 * Returns the section of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's section
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	String getSection(int index);
+
+	/**
+	 * Returns the credits of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's credits
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	int getCredits(int index);
+
+	/**
+	 * Returns the instructor id of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's instructor id
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	String getInstructorId(int index);
+
+	/**
+	 * Returns the meeting days bit mask of the course at the given position, as
+	 * Activity.getMeetingDaysMask returns it.
+	 * @param index position of the course
+	 * @return the course's meeting days bit mask
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	int getMeetingDaysMask(int index);
+
+	/**
+	 * Returns the start time of the course at the given position, 0 for arranged courses.
+	 * @param index position of the course
+	 * @return the course's start time
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	int getStartTime(int index);
+
+	/**
+	 * Returns the end time of the course at the given position, 0 for arranged courses.
+	 * @param index position of the course
+	 * @return the course's end time
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	int getEndTime(int index);
+
+	/**
+	 * Returns a count that changes whenever a course already in this catalog changes,
+	 * so that anything built from the catalog's courses, such as display rows, can
+	 * tell when it is stale. Adding courses to the end of the catalog does not change
+	 * it, and changes to courses in other catalogs never do.
+	 * @return the change count
+	 */
+	long getChangeCount();
+
+	/**
+	 * Returns the positions of the courses changed since getChangeCount returned the
+	 * given count, in the order they changed and possibly more than once each, so that
+	 * anything built from the catalog can bring just those courses up to date. A
+	 * catalog need not remember every change; when the changes since the count are no
+	 * longer known, null is returned and callers rebuild from the whole catalog.
+	 * @param since an earlier change count
+	 * @return the positions changed since, or null if the catalog no longer knows them
+	 * @throws IllegalArgumentException if the count is negative or more than the change count
+	 */
+	int[] getChangedPositions(long since);
+}
@@ -0,0 +1,164 @@
+package edu.ncsu.csc216.wolf_scheduler.catalog;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Criteria for searching a course catalog. A course matches when it meets every
+ * criterion that is set; a query with no criteria matches every course. Criteria
+ * are cleared by setting them to null, or to 0 for credits and -1 for times.
+ * @author Dania Swelam
+ */
+public class CourseQuery {
+
+	/** Letters of the days a course can meet on */
+	private static final String DAY_LETTERS = "UMTWHFS";
+
+	/** Start of the course name, ignoring case, or null */
+	private String namePrefix;
+	/** Words that must all appear in the title, or null */
+	private String titleKeywords;
+	/** Instructor id, or null */
+	private String instructorId;
+	/** Credits, or 0 */
+	private int credits;
+	/** Days the course must meet on, or null */
+	private String meetingDays;
+	/** Earliest start time in military format, or -1 */
+	private int earliestStart = -1;
+	/** Latest end time in military format, or -1 */
+	private int latestEnd = -1;
+
+	/**
+	 * Returns the start of the course name to match.
+	 * @return the name prefix, or null
+	 */
+	public String getNamePrefix() {
+		return namePrefix;
+	}
+
+	/**
+	 * Sets the start of the course name to match, ignoring case, such as "CSC 2".
+	 * @param namePrefix the name prefix, or null to match any name
+	 */
+	public void setNamePrefix(String namePrefix) {
+		this.namePrefix = namePrefix == null || namePrefix.isEmpty() ? null : namePrefix;
+	}
+
+	/**
+	 * Returns the words that must all appear in the title.
+	 * @return the title keywords, or null
+	 */
+	public String getTitleKeywords() {
+		return titleKeywords;
+	}
+
+	/**
+	 * Sets the words that must all appear in the title, ignoring case and
+	 * punctuation, such as "software development".
+	 * @param titleKeywords the title keywords, or null to match any title
+	 */
+	public void setTitleKeywords(String titleKeywords) {
+		this.titleKeywords = titleKeywords == null || titleKeywords.trim().isEmpty() ? null : titleKeywords;
+	}
+
+	/**
+	 * Returns the instructor id to match.
+	 * @return the instructor id, or null
+	 */
+	public String getInstructorId() {
+		return instructorId;
+	}
+
+	/**
+	 * Sets the instructor id to match exactly.
+	 * @param instructorId the instructor id, or null to match any instructor
+	 */
+	public void setInstructorId(String instructorId) {
+		this.instructorId = instructorId == null || instructorId.isEmpty() ? null : instructorId;
+	}
+
+	/**
+	 * Returns the credits to match.
+	 * @return the credits, or 0
+	 */
+	public int getCredits() {
+		return credits;
+	}
+
+	/**
+	 * Sets the credits to match.
+	 * @param credits the credits, or 0 to match any credits
+	 * @throws IllegalArgumentException if the credits are negative
+	 */
+	public void setCredits(int credits) {
+		if (credits < 0) {
+			throw new IllegalArgumentException("Invalid credits.");
+		}
+		this.credits = credits;
+	}
+
+	/**
+	 * Returns the days a course must meet on.
+	 * @return the meeting days, or null
+	 */
+	public String getMeetingDays() {
+		return meetingDays;
+	}
+
+	/**
+	 * Sets the days a course must meet on, such as "TH" for courses that meet on both
+	 * Tuesday and Thursday. Arranged courses never match.
+	 * @param meetingDays letters of the days, or null to match any days
+	 * @throws IllegalArgumentException if a letter is not one of UMTWHFS
+	 */
+	public void setMeetingDays(String meetingDays) {
+		if (meetingDays != null) {
+			for (int i = 0; i < meetingDays.length(); i++) {
+				if (DAY_LETTERS.indexOf(meetingDays.charAt(i)) < 0) {
+					throw new IllegalArgumentException("Invalid meeting days.");
+				}
+			}
+		}
+		this.meetingDays = meetingDays == null || meetingDays.isEmpty() ? null : meetingDays;
+	}
+
+	/**
+	 * Returns the earliest start time to match.
+	 * @return the earliest start time, or -1
+	 */
+	public int getEarliestStart() {
+		return earliestStart;
+	}
+
+	/**
+	 * Sets the earliest time a course may start. Arranged courses never match.
+	 * @param earliestStart the time in military format, or -1 to match any start
+	 * @throws IllegalArgumentException if the time is not -1 or a valid time
+	 */
+	public void setEarliestStart(int earliestStart) {
+		if (earliestStart != -1 && !Activity.isValidTimes(earliestStart, earliestStart)) {
+			throw new IllegalArgumentException("Invalid time.");
+		}
+		this.earliestStart = earliestStart;
+	}
+
+	/**
+	 * Returns the latest end time to match.
+	 * @return the latest end time, or -1
+	 */
+	public int getLatestEnd() {
+		return latestEnd;
+	}
+
+	/**
+	 * Sets the latest time a course may end. Arranged courses never match.
+	 * @param latestEnd the time in military format, or -1 to match any end
+	 * @throws IllegalArgumentException if the time is not -1 or a valid time
+	 */
+	public void setLatestEnd(int latestEnd) {
+		if (latestEnd != -1 && !Activity.isValidTimes(latestEnd, latestEnd)) {
+			throw new IllegalArgumentException("Invalid time.");
+		}
+		this.latestEnd = latestEnd;
+	}
+}
@@ -0,0 +1,364 @@
+package edu.ncsu.csc216.wolf_scheduler.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Inverted indexes over a course catalog for answering CourseQuery searches
+ * without scanning the catalog. Course names are kept sorted for prefix searches,
+ * title words, instructor ids and credits map to the sorted positions of the
+ * courses that have them, each day of the week has a bit set of the courses
+ * meeting on it, and start and end times are kept sorted for range searches.
+ * Each criterion of a query selects a bit set of positions, and the sets are
+ * intersected, so a search costs about a bit per course plus the matches of each
+ * criterion. The index is built from the catalog's field accessors, and only the
+ * courses on the page asked for are taken from the catalog as Course objects.
+ *
+ * The index holds the courses in the catalog when it is built and does not see
+ * courses added later. Once built it is not changed, so many threads can search
+ * it at once if the catalog can be read by many threads at once.
+ *
+ * @author Dania Swelam
+ */
+public class CourseSearchIndex {
+
+	/** Letters of the days of the week, Sunday first, in the order of the meeting days bits */
+	private static final String DAY_LETTERS = "UMTWHFS";
+
+	/** The catalog searched */
+	private final CourseCatalog catalog;
+	/** Number of courses indexed */
+	private final int size;
+	/** Upper case course names in sorted order */
+	private final String[] sortedNames;
+	/** Position of the course of each name in sortedNames, in catalog order among equal names */
+	private final int[] byName;
+	/** Sorted positions of the courses with each lower case title word */
+	private final HashMap<String, int[]> titleWords = new HashMap<String, int[]>();
+	/** Sorted positions of the courses with each instructor id */
+	private final HashMap<String, int[]> instructors = new HashMap<String, int[]>();
+	/** Sorted positions of the courses with each number of credits */
+	private final HashMap<Integer, int[]> credits = new HashMap<Integer, int[]>();
+	/** Courses meeting on each day, in the order of DAY_LETTERS */
+	private final BitSet[] days = new BitSet[DAY_LETTERS.length()];
+	/** Start times of the courses that are not arranged, in ascending order */
+	private final int[] sortedStarts;
+	/** Position of the course of each start time in sortedStarts */
+	private final int[] byStart;
+	/** End times of the courses that are not arranged, in ascending order */
+	private final int[] sortedEnds;
+	/** Position of the course of each end time in sortedEnds */
+	private final int[] byEnd;
+
+	/**
+	 * Builds the indexes of the courses in the catalog.
+	 * @param catalog the catalog to index
+	 * @throws IllegalArgumentException if the catalog is null
+	 */
+	public CourseSearchIndex(CourseCatalog catalog) {
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		this.catalog = catalog;
+		this.size = catalog.size();
+		for (int day = 0; day < days.length; day++) {
+			days[day] = new BitSet(size);
+		}
+
+		String[] names = new String[size];
+		long[] starts = new long[size];
+		long[] ends = new long[size];
+		int timed = 0;
+		for (int i = 0; i < size; i++) {
+			names[i] = catalog.getName(i).toUpperCase(Locale.ROOT);
+			for (String word : words(catalog.getTitle(i))) {
+				addPosting(titleWords, word, i);
+			}
+			addPosting(instructors, catalog.getInstructorId(i), i);
+			addPosting(credits, catalog.getCredits(i), i);
+			int mask = catalog.getMeetingDaysMask(i);
+			for (int day = 0; day < days.length; day++) {
+				if ((mask & 1 << day) != 0) {
+					days[day].set(i);
+				}
+			}
+			if (mask != 0) {
+				starts[timed] = (long) catalog.getStartTime(i) << Integer.SIZE | i;
+				ends[timed] = (long) catalog.getEndTime(i) << Integer.SIZE | i;
+				timed++;
+			}
+		}
+		trimPostings(titleWords);
+		trimPostings(instructors);
+		trimPostings(credits);
+
+		Integer[] nameOrder = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			nameOrder[i] = i;
+		}
+		Arrays.sort(nameOrder, (a, b) -> names[a].compareTo(names[b]));
+		sortedNames = new String[size];
+		byName = new int[size];
+		for (int i = 0; i < size; i++) {
+			byName[i] = nameOrder[i];
+			sortedNames[i] = names[nameOrder[i]];
+		}
+
+		Arrays.sort(starts, 0, timed);
+		Arrays.sort(ends, 0, timed);
+		sortedStarts = new int[timed];
+		byStart = new int[timed];
+		sortedEnds = new int[timed];
+		byEnd = new int[timed];
+		for (int i = 0; i < timed; i++) {
+			sortedStarts[i] = (int) (starts[i] >>> Integer.SIZE);
+			byStart[i] = (int) starts[i];
+			sortedEnds[i] = (int) (ends[i] >>> Integer.SIZE);
+			byEnd[i] = (int) ends[i];
+		}
+	}
+
+	/**
+	 * Returns the number of courses indexed.
+	 * @return the number of courses
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the positions of the courses with exactly the given name, in catalog
+	 * order, without creating a Course.
+	 * @param name the course name
+	 * @return the positions of the courses with the name
+	 * @throws IllegalArgumentException if the name is null
+	 */
+	public int[] getPositions(String name) {
+		if (name == null) {
+			throw new IllegalArgumentException("Invalid name.");
+		}
+		String key = name.toUpperCase(Locale.ROOT);
+		int first = lowerBound(sortedNames, key);
+		int[] positions = new int[0];
+		int count = 0;
+		for (int i = first; i < size && sortedNames[i].equals(key); i++) {
+			if (catalog.getName(byName[i]).equals(name)) {
+				if (count == positions.length) {
+					positions = Arrays.copyOf(positions, Math.max(4, count * 2));
+				}
+				positions[count++] = byName[i];
+			}
+		}
+		return Arrays.copyOf(positions, count);
+	}
+
+	/**
+	 * Returns the number of courses matching the query.
+	 * @param query the search criteria
+	 * @return the number of matches
+	 * @throws IllegalArgumentException if the query is null
+	 */
+	public int count(CourseQuery query) {
+		return match(query).cardinality();
+	}
+
+	/**
+	 * Returns a page of the courses matching the query, in catalog order.
+	 * @param query the search criteria
+	 * @param offset number of matches before the page
+	 * @param limit largest number of courses on the page
+	 * @return the page of matches
+	 * @throws IllegalArgumentException if the query is null, the offset is negative,
+	 *                                  or the limit is not positive
+	 */
+	public CourseSearchPage search(CourseQuery query, int offset, int limit) {
+		if (offset < 0 || limit < 1) {
+			throw new IllegalArgumentException("Invalid page.");
+		}
+		BitSet matches = match(query);
+		int total = matches.cardinality();
+
+		ArrayList<Course> courses = new ArrayList<Course>(Math.max(0, Math.min(limit, total - offset)));
+		int position = matches.nextSetBit(0);
+		for (int skipped = 0; position >= 0 && skipped < offset; skipped++) {
+			position = matches.nextSetBit(position + 1);
+		}
+		while (position >= 0 && courses.size() < limit) {
+			courses.add(catalog.getCourse(position));
+			position = matches.nextSetBit(position + 1);
+		}
+		return new CourseSearchPage(courses, offset, total);
+	}
+
+	/**
+	 * Returns the positions of the courses matching every criterion of the query.
+	 * @param query the search criteria
+	 * @return the positions of the matches
+	 * @throws IllegalArgumentException if the query is null
+	 */
+	private BitSet match(CourseQuery query) {
+		if (query == null) {
+			throw new IllegalArgumentException("Invalid query.");
+		}
+		BitSet matches = new BitSet(size);
+		matches.set(0, size);
+
+		if (query.getNamePrefix() != null) {
+			String prefix = query.getNamePrefix().toUpperCase(Locale.ROOT);
+			BitSet named = new BitSet(size);
+			for (int i = lowerBound(sortedNames, prefix); i < size && sortedNames[i].startsWith(prefix); i++) {
+				named.set(byName[i]);
+			}
+			matches.and(named);
+		}
+		if (query.getTitleKeywords() != null) {
+			for (String word : words(query.getTitleKeywords())) {
+				matches.and(toBits(titleWords.get(word)));
+			}
+		}
+		if (query.getInstructorId() != null) {
+			matches.and(toBits(instructors.get(query.getInstructorId())));
+		}
+		if (query.getCredits() != 0) {
+			matches.and(toBits(credits.get(query.getCredits())));
+		}
+		if (query.getMeetingDays() != null) {
+			for (int i = 0; i < query.getMeetingDays().length(); i++) {
+				matches.and(days[DAY_LETTERS.indexOf(query.getMeetingDays().charAt(i))]);
+			}
+		}
+		if (query.getEarliestStart() != -1) {
+			BitSet started = new BitSet(size);
+			for (int i = lowerBound(sortedStarts, query.getEarliestStart()); i < byStart.length; i++) {
+				started.set(byStart[i]);
+			}
+			matches.and(started);
+		}
+		if (query.getLatestEnd() != -1) {
+			BitSet ended = new BitSet(size);
+			for (int i = 0; i < byEnd.length && sortedEnds[i] <= query.getLatestEnd(); i++) {
+				ended.set(byEnd[i]);
+			}
+			matches.and(ended);
+		}
+		return matches;
+	}
+
+	/**
+	 * Returns the lower case words of a text, split at every character that is not
+	 * a letter or digit.
+	 * @param text the text to split
+	 * @return the words of the text
+	 */
+	private static ArrayList<String> words(String text) {
+		ArrayList<String> words = new ArrayList<String>();
+		int start = -1;
+		for (int i = 0; i <= text.length(); i++) {
+			boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+			if (wordChar && start < 0) {
+				start = i;
+			} else if (!wordChar && start >= 0) {
+				words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+				start = -1;
+			}
+		}
+		return words;
+	}
+
+	/**
+	 * Adds a position to the postings of a key. The first element of a postings array
+	 * holds its number of positions until the postings are trimmed. A position equal
+	 * to the last one added is not added again.
+	 * @param <K> type of the keys
+	 * @param postings postings by key
+	 * @param key the key
+	 * @param position position of the course
+	 */
+	private static <K> void addPosting(HashMap<K, int[]> postings, K key, int position) {
+		int[] positions = postings.get(key);
+		if (positions == null) {
+			positions = new int[4];
+			postings.put(key, positions);
+		} else if (positions[positions[0]] == position) {
+			return;
+		} else if (positions[0] + 1 == positions.length) {
+			positions = Arrays.copyOf(positions, positions.length * 2);
+			postings.put(key, positions);
+		}
+		positions[0]++;
+		positions[positions[0]] = position;
+	}
+
+	/**
+	 * Replaces each postings array with one holding exactly its positions.
+	 * @param <K> type of the keys
+	 * @param postings postings by key
+	 */
+	private static <K> void trimPostings(HashMap<K, int[]> postings) {
+		for (Map.Entry<K, int[]> entry : postings.entrySet()) {
+			int[] positions = entry.getValue();
+			entry.setValue(Arrays.copyOfRange(positions, 1, positions[0] + 1));
+		}
+	}
+
+	/**
+	 * Returns a bit set of the positions in a postings array.
+	 * @param positions the positions, or null for none
+	 * @return the bit set of the positions
+	 */
+	private BitSet toBits(int[] positions) {
+		BitSet bits = new BitSet(size);
+		if (positions != null) {
+			for (int position : positions) {
+				bits.set(position);
+			}
+		}
+		return bits;
+	}
+
+	/**
+	 * Returns the index of the first String in the sorted array not less than the key.
+	 * @param sorted Strings in ascending order
+	 * @param key the key to find
+	 * @return the index of the first String not less than the key
+	 */
+	private static int lowerBound(String[] sorted, String key) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (sorted[middle].compareTo(key) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the first value in the sorted array not less than the key.
+	 * @param sorted values in ascending order
+	 * @param key the key to find
+	 * @return the index of the first value not less than the key
+	 */
+	private static int lowerBound(int[] sorted, int key) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (sorted[middle] < key) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+}
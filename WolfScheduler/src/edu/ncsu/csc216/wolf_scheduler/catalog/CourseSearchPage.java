@@ -0,0 +1,78 @@
+package edu.ncsu.csc216.wolf_scheduler.catalog;
+
+import java.util.Collections;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * One page of the courses matching a catalog search, in catalog order, with the
+ * total number of matches.
+ * @author Dania Swelam
+ */
+public class CourseSearchPage {
+
+	/** Courses on the page */
+	private final List<Course> courses;
+	/** Position of the page's first course among all matches */
+	private final int offset;
+	/** Number of courses matching the search */
+	private final int total;
+
+	/**
+	 * Constructs a page of search results.
+	 * @param courses courses on the page
+	 * @param offset position of the page's first course among all matches
+	 * @param total number of courses matching the search
+	 */
+	public CourseSearchPage(List<Course> courses, int offset, int total) {
+		this.courses = Collections.unmodifiableList(courses);
+		this.offset = offset;
+		this.total = total;
+	}
+
+	/**
+	 * Returns the courses on the page.
+	 * @return the courses
+	 */
+	public List<Course> getCourses() {
+		return courses;
+	}
+
+	/**
+	 * Returns the position of the page's first course among all matches.
+	 * @return the offset
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Returns the number of courses matching the search, on every page.
+	 * @return the total number of matches
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Returns whether more matches follow this page.
+	 * @return true if there is a next page
+	 */
+	public boolean hasNext() {
+		return offset + courses.size() < total;
+	}
+
+	/**
+	 * Returns the name, section, title and meeting string of each course on the page,
+	 * as getCourseCatalog returns them for the whole catalog.
+	 * @return the display rows of the page
+	 */
+	public String[][] getDisplayRows() {
+		String[][] rows = new String[courses.size()][];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = courses.get(i).getShortDisplayArray();
+		}
+		return rows;
+	}
+}
@@ -0,0 +1,271 @@
+package edu.ncsu.csc216.wolf_scheduler.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.ActivityListener;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Course catalog that holds its courses in a list, with an index keyed by name
+ * and section for constant time lookups. The courses returned are the ones the
+ * catalog holds, so changes to them show in the catalog: the catalog listens to
+ * each of its courses, counts the changes made to them and remembers the positions
+ * of the courses changed, up to about one change per course before it forgets the
+ * oldest. A course's name and section must not change while it is in the catalog.
+ * @author Dania Swelam
+ */
+public class ListCourseCatalog implements CourseCatalog {
+
+	/** Smallest number of changed positions remembered */
+	private static final int MIN_CHANGE_LOG = 16;
+
+	/** The courses in catalog order */
+	private final ArrayList<Course> courses;
+	/** Position of the first course with each name and section, keyed by course name and section */
+	private final HashMap<String, Integer> index;
+	/** Number of changes made to the courses in the catalog, one for each position changed */
+	private volatile long changes;
+	/** Positions of the courses changed, in the order changed, from change number changeLogStart on */
+	private int[] changeLog = new int[MIN_CHANGE_LOG];
+	/** Number of positions in changeLog */
+	private int changeLogSize;
+	/** Change count when the oldest change in changeLog was made */
+	private long changeLogStart;
+	/** Listener added to every course in the catalog, recording their changes */
+	private final ActivityListener listener = this::recordChange;
+
+	/**
+	 * Constructs a catalog holding the given courses in the same order.
+	 * @param courses the courses in the catalog
+	 * @throws IllegalArgumentException if the list or any course in it is null
+	 */
+	public ListCourseCatalog(List<Course> courses) {
+		if (courses == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		this.courses = new ArrayList<Course>(courses);
+		this.index = new HashMap<String, Integer>(courses.size() * 4 / 3 + 1);
+		for (int i = 0; i < this.courses.size(); i++) {
+			Course course = this.courses.get(i);
+			if (course == null) {
+				throw new IllegalArgumentException("Invalid catalog.");
+			}
+			index.putIfAbsent(key(course.getName(), course.getSection()), i);
+		}
+		for (Course course : this.courses) {
+			course.addActivityListener(listener);
+		}
+	}
+
+	/**
+	 * Returns the number of courses in the catalog.
+	 * @return the number of courses
+	 */
+	@Override
+	public int size() {
+		return courses.size();
+	}
+
+	/**
+	 * Returns the course at the given position in the catalog.
+	 * @param index position of the course
+	 * @return the course at the position
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public Course getCourse(int index) {
+		return courses.get(index);
+	}
+
+	/**
+	 * Returns the first course in the catalog with the given name and section.
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @return the course, or null if the catalog has no such course
+	 */
+	@Override
+	public Course getCourse(String name, String section) {
+		if (name == null || section == null) {
+			return null;
+		}
+		Integer position = index.get(key(name, section));
+		return position == null ? null : courses.get(position);
+	}
+
+	/**
+	 * Returns the short display array of the course at the given position.
+	 * @param index position of the course
+	 * @return the display row of the course
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public String[] getDisplayRow(int index) {
+		return courses.get(index).getShortDisplayArray();
+	}
+
+	/**
+	 * Returns the name of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's name
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public String getName(int index) {
+		return courses.get(index).getName();
+	}
+
+	/**
+	 * Returns the title of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's title
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public String getTitle(int index) {
+		return courses.get(index).getTitle();
+	}
+
+	/**
+	 * Returns the section of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's section
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public String getSection(int index) {
+		return courses.get(index).getSection();
+	}
+
+	/**
+	 * Returns the credits of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's credits
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public int getCredits(int index) {
+		return courses.get(index).getCredits();
+	}
+
+	/**
+	 * Returns the instructor id of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's instructor id
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public String getInstructorId(int index) {
+		return courses.get(index).getInstructorId();
+	}
+
+	/**
+	 * Returns the meeting days bit mask of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's meeting days bit mask
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public int getMeetingDaysMask(int index) {
+		return courses.get(index).getMeetingDaysMask();
+	}
+
+	/**
+	 * Returns the start time of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's start time
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public int getStartTime(int index) {
+		return courses.get(index).getStartTime();
+	}
+
+	/**
+	 * Returns the end time of the course at the given position.
+	 * @param index position of the course
+	 * @return the course's end time
+	 * @throws IndexOutOfBoundsException if the index is not in the catalog
+	 */
+	@Override
+	public int getEndTime(int index) {
+		return courses.get(index).getEndTime();
+	}
+
+	/**
+	 * Returns the number of changes made to the courses in the catalog since it was
+	 * constructed. Changes to activities that are not in the catalog do not count.
+	 * @return the change count
+	 */
+	@Override
+	public long getChangeCount() {
+		return changes;
+	}
+
+	/**
+	 * Returns the positions of the courses changed since getChangeCount returned the
+	 * given count, in the order they changed. The catalog remembers about one change
+	 * per course; when older changes were forgotten, null is returned.
+	 * @param since an earlier change count
+	 * @return the positions changed since, or null if the catalog no longer knows them
+	 * @throws IllegalArgumentException if the count is negative or more than the change count
+	 */
+	@Override
+	public synchronized int[] getChangedPositions(long since) {
+		if (since < 0 || since > changes) {
+			throw new IllegalArgumentException("Invalid change count.");
+		}
+		if (since < changeLogStart) {
+			return null;
+		}
+		return Arrays.copyOfRange(changeLog, (int) (since - changeLogStart), changeLogSize);
+	}
+
+	/**
+	 * Records a change to a course in the catalog, at every position the course is held.
+	 * @param activity the course that changed
+	 */
+	private synchronized void recordChange(Activity activity) {
+		Integer position = index.get(key(((Course) activity).getName(), ((Course) activity).getSection()));
+		if (position != null && courses.get(position) == activity) {
+			logChange(position);
+			return;
+		}
+		for (int i = 0; i < courses.size(); i++) {
+			if (courses.get(i) == activity) {
+				logChange(i);
+			}
+		}
+	}
+
+	/**
+	 * Adds a changed position to the change log and counts the change. When the log
+	 * holds about one change per course, it is emptied instead of grown.
+	 * @param position the position of the course changed
+	 */
+	private void logChange(int position) {
+		if (changeLogSize == changeLog.length) {
+			if (changeLog.length >= courses.size()) {
+				changeLogStart = changes;
+				changeLogSize = 0;
+			} else {
+				changeLog = Arrays.copyOf(changeLog, changeLog.length * 2);
+			}
+		}
+		changeLog[changeLogSize++] = position;
+		changes = changes + 1;
+	}
+
+	/**
+	 * Returns the key used to index a course by its name and section.
+	 * @param name the name of the course
+	 * @param section the section of the course
+	 * @return the index key
+	 */
+	private static String key(String name, String section) {
+		return name + "," + section;
+	}
+}
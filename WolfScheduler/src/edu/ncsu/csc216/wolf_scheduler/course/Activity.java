@@ -1,5 +1,17 @@
 package edu.ncsu.csc216.wolf_scheduler.course;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 /**
  * Abstract class representing an academic activity with a title, meeting days,
  * start time, and end time. This class serves as a base for specific types of
@@ -14,14 +26,37 @@ public abstract class Activity implements Conflict {
 	private String title;
 	/** Course's meeting days */
 	private String meetingDays;
+	/** Course's meeting days as a bit mask with one bit per day, in the order of DAY_LETTERS */
+	private int meetingDaysMask;
 	/** Course's starting time */
 	private int startTime;
 	/** Course's ending time */
 	private int endTime;
+	/** Short display array, created when first needed and cleared when a field changes */
+	private volatile String[] shortDisplayArray;
+	/** Long display array, created when first needed and cleared when a field changes */
+	private volatile String[] longDisplayArray;
+	/** Meeting string, created when first needed and cleared when the meeting days or times change */
+	private volatile String meetingString;
+	/** Listeners told when a field changes, or null if none were added */
+	private volatile ActivityListener[] listeners;
 	/** Constant integer for maximum value for the hour in a 24 hour format */
 	private static final int UPPER_HOUR = 24;
 	/** Constant integer for maximum value of minute in a time. */
 	private static final int UPPER_MINUTE = 60;
+	/** Letters of the days of the week, Sunday first; a day's index is its bit in the meeting days mask */
+	private static final String DAY_LETTERS = "UMTWHFS";
+	/** 12-hour clock display strings for every minute of the day, indexed by minutes since midnight */
+	private static final String[] TIME_STRINGS = new String[UPPER_HOUR * UPPER_MINUTE];
+	/** Per thread encoder used to append records to byte buffers */
+	private static final ThreadLocal<ByteBufferAppender> BYTE_BUFFER_APPENDER =
+			ThreadLocal.withInitial(ByteBufferAppender::new);
+
+	static {
+		for (int i = 0; i < TIME_STRINGS.length; i++) {
+			TIME_STRINGS[i] = formatTime(i / UPPER_MINUTE * 100 + i % UPPER_MINUTE);
+		}
+	}
 
 	/**
 	 * Represents an activity with a title, meeting days, start time, and end time.
@@ -38,24 +73,97 @@ public abstract class Activity implements Conflict {
 	}
 
 	/**
-	 * Abstract method to provide a short version of the array of information for
-	 * display in the GUI. The short display array is used to populate the rows of
-	 * the course catalog and student schedule.
+	 * Provides a short version of the array of information for display in the GUI.
+	 * The short display array is used to populate the rows of the course catalog and
+	 * student schedule. The array is created once and returned again until a field of
+	 * the activity changes, so callers must not modify it. An activity that is not
+	 * being changed may be displayed from many threads at once; two threads may then
+	 * each create an array, and either is returned afterwards.
 	 *
 	 * @return a String array representing the short version of the display
 	 *         information
 	 */
-	public abstract String[] getShortDisplayArray();
+	public String[] getShortDisplayArray() {
+		String[] array = shortDisplayArray;
+		if (array == null) {
+			array = createShortDisplayArray();
+			shortDisplayArray = array;
+		}
+		return array;
+	}
 
 	/**
-	 * Abstract method to provide a long version of the array of information for
-	 * display in the GUI. The full display array is used to display the final
-	 * schedule.
+	 * Provides a long version of the array of information for display in the GUI.
+	 * The full display array is used to display the final schedule. The array is
+	 * created once and returned again until a field of the activity changes, so
+	 * callers must not modify it.
 	 *
 	 * @return a String array representing the long version of the display
 	 *         information
 	 */
-	public abstract String[] getLongDisplayArray();
+	public String[] getLongDisplayArray() {
+		String[] array = longDisplayArray;
+		if (array == null) {
+			array = createLongDisplayArray();
+			longDisplayArray = array;
+		}
+		return array;
+	}
+
+	/**
+	 * Abstract method to create the short version of the array of information for
+	 * display in the GUI.
+	 *
+	 * @return a String array representing the short version of the display
+	 *         information
+	 */
+	protected abstract String[] createShortDisplayArray();
+
+	/**
+	 * Abstract method to create the long version of the array of information for
+	 * display in the GUI.
+	 *
+	 * @return a String array representing the long version of the display
+	 *         information
+	 */
+	protected abstract String[] createLongDisplayArray();
+
+	/**
+	 * Clears the display arrays so they are created again with the current field
+	 * values, and tells the activity's listeners about the change. Setters call this
+	 * whenever a field changes.
+	 */
+	protected void clearDisplayArrays() {
+		shortDisplayArray = null;
+		longDisplayArray = null;
+		ActivityListener[] current = listeners;
+		if (current != null) {
+			for (ActivityListener listener : current) {
+				listener.activityChanged(this);
+			}
+		}
+	}
+
+	/**
+	 * Adds a listener that is told after each change to a field of the activity.
+	 * A listener added more than once is told once for each time it was added.
+	 *
+	 * @param listener the listener to add
+	 * @throws IllegalArgumentException if the listener is null
+	 */
+	public synchronized void addActivityListener(ActivityListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("Invalid listener.");
+		}
+		ActivityListener[] current = listeners;
+		if (current == null) {
+			listeners = new ActivityListener[] { listener };
+		} else {
+			ActivityListener[] added = Arrays.copyOf(current, current.length + 1);
+			added[current.length] = listener;
+			listeners = added;
+		}
+	}
 
 	/**
 	 * Checks if the given activity is a duplicate of the current activity instance.
@@ -65,6 +173,79 @@ public abstract class Activity implements Conflict {
 	 */
 	public abstract boolean isDuplicate(Activity activity);
 
+	/**
+	 * Appends the comma separated record of the activity, as returned by toString,
+	 * to the given Appendable without creating intermediate Strings.
+	 *
+	 * @param out the Appendable to write the record to
+	 * @throws IOException if the Appendable cannot be written to
+	 */
+	public abstract void appendTo(Appendable out) throws IOException;
+
+	/**
+	 * Appends the comma separated record of the activity to the given buffer,
+	 * encoded in the platform's default charset like the files written by
+	 * ActivityRecordIO. If the whole record does not fit in the remaining space,
+	 * the buffer's position is left unchanged and false is returned.
+	 *
+	 * @param out the buffer to write the record to
+	 * @return true if the record was written, false if it did not fit
+	 */
+	public boolean appendTo(ByteBuffer out) {
+		int start = out.position();
+		ByteBufferAppender appender = BYTE_BUFFER_APPENDER.get();
+		appender.out = out;
+		try {
+			appendTo(appender);
+			return true;
+		} catch (BufferOverflowException e) {
+			out.position(start);
+			return false;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			appender.out = null;
+		}
+	}
+
+	/**
+	 * Returns the comma separated record written by appendTo as a String.
+	 *
+	 * @return the record of the activity
+	 */
+	protected String toRecordString() {
+		StringBuilder record = new StringBuilder(64);
+		try {
+			appendTo(record);
+		} catch (IOException e) {
+			// A StringBuilder does not throw
+			throw new UncheckedIOException(e);
+		}
+		return record.toString();
+	}
+
+	/**
+	 * Appends the decimal digits of an integer without creating a String.
+	 *
+	 * @param out   the Appendable to write the digits to
+	 * @param value the integer to write
+	 * @throws IOException if the Appendable cannot be written to
+	 */
+	protected static void appendInt(Appendable out, int value) throws IOException {
+		long remaining = value;
+		if (remaining < 0) {
+			out.append('-');
+			remaining = -remaining;
+		}
+		long divisor = 1;
+		while (divisor * 10 <= remaining) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			out.append((char) ('0' + remaining / divisor % 10));
+		}
+	}
+
 	/**
 	 * Returns the title of a given Course
 	 * 
@@ -82,10 +263,11 @@ public abstract class Activity implements Conflict {
 	 *                                  string.
 	 */
 	public void setTitle(String title) {
-		if (title == null || title.isEmpty()) {
+		if (!isValidTitle(title)) {
 			throw new IllegalArgumentException("Invalid title.");
 		}
 		this.title = title;
+		clearDisplayArrays();
 	}
 
 	/**
@@ -99,61 +281,113 @@ public abstract class Activity implements Conflict {
 	 *                                  invalid.
 	 */
 	public void setMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
-		if (meetingDays == null || meetingDays.isEmpty()) {
+		if (meetingDays == null || meetingDays.isEmpty() || !isValidTimes(startTime, endTime)) {
 			throw new IllegalArgumentException("Invalid meeting days and times.");
 		}
 
+		this.meetingDays = meetingDays;
+		this.meetingDaysMask = toMeetingDaysMask(meetingDays);
+		this.startTime = startTime;
+		this.endTime = endTime;
+		this.meetingString = null;
+		clearDisplayArrays();
+	}
+
+	/**
+	 * Returns whether the title is a valid activity title: not null or empty.
+	 * 
+	 * @param title the title to check
+	 * @return true if the title is valid
+	 */
+	public static boolean isValidTitle(String title) {
+		return title != null && !title.isEmpty();
+	}
+
+	/**
+	 * Returns whether the start and end times are valid times in military format,
+	 * with the end time no earlier than the start time.
+	 * 
+	 * @param startTime the start time to check
+	 * @param endTime   the end time to check
+	 * @return true if the times are valid
+	 */
+	public static boolean isValidTimes(int startTime, int endTime) {
 		int startHour = startTime / 100;
 		int startMin = startTime % 100;
 		int endHour = endTime / 100;
 		int endMin = endTime % 100;
 
-		if (startHour < 0 || startHour > 23 || startMin < 0 || startMin > 59) {
-			throw new IllegalArgumentException("Invalid meeting days and times.");
+		if (startHour < 0 || startHour >= UPPER_HOUR || startMin < 0 || startMin >= UPPER_MINUTE) {
+			return false;
 		}
-
-		if (endHour < 0 || endHour > 23 || endMin < 0 || endMin > 59) {
-			throw new IllegalArgumentException("Invalid meeting days and times.");
+		if (endHour < 0 || endHour >= UPPER_HOUR || endMin < 0 || endMin >= UPPER_MINUTE) {
+			return false;
 		}
+		return endTime >= startTime;
+	}
 
-		if (endTime < startTime) {
-			throw new IllegalArgumentException("Invalid meeting days and times.");
+	/**
+	 * Converts meeting days to a bit mask with bit i set when the days include the
+	 * i-th letter of UMTWHFS. Arranged meeting days have no bits set.
+	 * 
+	 * @param meetingDays the meeting days to convert
+	 * @return the meeting days bit mask
+	 */
+	private static int toMeetingDaysMask(String meetingDays) {
+		int mask = 0;
+		for (int i = 0; i < meetingDays.length(); i++) {
+			int day = DAY_LETTERS.indexOf(meetingDays.charAt(i));
+			if (day >= 0) {
+				mask |= 1 << day;
+			}
 		}
-
-		this.meetingDays = meetingDays;
-		this.startTime = startTime;
-		this.endTime = endTime;
+		return mask;
 	}
 
 	/**
 	 * Returns a string representation of the meeting details of the course. If the
 	 * meeting days are arranged, the string "Arranged" is returned. Otherwise, it
-	 * includes the days, start time, and end time.
+	 * includes the days, start time, and end time. The string is created once and
+	 * returned again until the meeting days or times change.
 	 * 
 	 * @return A string representing the meeting details of the course.
 	 */
 	public String getMeetingString() {
+		String string = meetingString;
+		if (string == null) {
+			string = getMeetingString(meetingDays, startTime, endTime);
+			meetingString = string;
+		}
+		return string;
+	}
+
+	/**
+	 * Returns the meeting string of an activity with the given meeting days and times,
+	 * as getMeetingString does, for callers that hold the fields but no Activity.
+	 * 
+	 * @param meetingDays the meeting days, "A" for arranged
+	 * @param startTime   the start time in HHMM format
+	 * @param endTime     the end time in HHMM format
+	 * @return "Arranged", or the days followed by the start and end times
+	 * @throws IllegalArgumentException If a time is invalid.
+	 */
+	public static String getMeetingString(String meetingDays, int startTime, int endTime) {
 		if ("A".equals(meetingDays)) {
 			return "Arranged";
-		} else {
-			String daysString = getMeetingDays();
-			String startTimeString = getTimeString(startTime);
-			String endTimeString = getTimeString(endTime);
-			return daysString + " " + startTimeString + "-" + endTimeString;
 		}
-
+		return meetingDays + " " + getTimeString(startTime) + "-" + getTimeString(endTime);
 	}
 
 	/**
-	 * Converts a time value to a formatted string representation in 12-hour clock
-	 * format.
+	 * Returns the formatted string representation of a time value in 12-hour clock
+	 * format from the table of display strings.
 	 * 
 	 * @param time The time value in HHMM format.
 	 * @return A string representation of the time in 12-hour clock format (e.g.,
 	 *         "2:30 PM").
 	 * @throws IllegalArgumentException If the provided time value is invalid.
 	 */
-	private String getTimeString(int time) {
+	private static String getTimeString(int time) {
 		int hour = time / 100;
 		int minute = time % 100;
 
@@ -161,6 +395,21 @@ public abstract class Activity implements Conflict {
 			throw new IllegalArgumentException("Invalid time value.");
 		}
 
+		return TIME_STRINGS[hour * UPPER_MINUTE + minute];
+	}
+
+	/**
+	 * Converts a valid time value to a formatted string representation in 12-hour
+	 * clock format. Used to fill the table of display strings.
+	 * 
+	 * @param time The time value in HHMM format.
+	 * @return A string representation of the time in 12-hour clock format (e.g.,
+	 *         "2:30 PM").
+	 */
+	private static String formatTime(int time) {
+		int hour = time / 100;
+		int minute = time % 100;
+
 		hour = (hour == 0) ? 12 : (hour > 12) ? hour - 12 : hour;
 
 		String minuteString = minute < 10 ? "0" + minute : String.valueOf(minute);
@@ -180,6 +429,17 @@ public abstract class Activity implements Conflict {
 		return meetingDays;
 	}
 
+	/**
+	 * Returns the meeting days of a given Course as a bit mask. Bit 0 is Sunday (U),
+	 * followed by M, T, W, H, F, and S in bits 1 through 6. Arranged meeting days have
+	 * no bits set.
+	 * 
+	 * @return the meeting days bit mask of Course
+	 */
+	public int getMeetingDaysMask() {
+		return meetingDaysMask;
+	}
+
 	/**
 	 * Returns the start time of a given Course
 	 * 
@@ -241,44 +501,124 @@ public abstract class Activity implements Conflict {
 	}
 
 	/**
-	 * Compares the current activity with the provided @possibleConflictingActivity
-	 * to determine if there is any conflict. If a conflict is detected,
-	 * a @ConflictException is thrown to indicate the conflict. If there is no
-	 * conflict, this method returns normally without throwing any exceptions.
+	 * Returns whether the current activity conflicts with the provided activity.
+	 * Activities conflict when they share a meeting day and their times overlap,
+	 * including when one ends at the same time the other starts. Arranged activities
+	 * do not meet on any day, so they never conflict.
 	 * 
 	 * @param possibleConflictingActivity the activity to check for conflicts with
-	 * @throws ConflictException if a conflict is detected between the current
-	 *                           activity and the provided activity
+	 * @return true if the activities conflict, false otherwise
 	 */
-	public void checkConflict(Activity possibleConflictingActivity) throws ConflictException {
+	@Override
+	public boolean conflictsWith(Activity possibleConflictingActivity) {
+		return (meetingDaysMask & possibleConflictingActivity.meetingDaysMask) != 0
+				&& startTime <= possibleConflictingActivity.endTime
+				&& possibleConflictingActivity.startTime <= endTime;
+	}
 
-		int possibleStartTime = possibleConflictingActivity.getStartTime();
-		int possibleEndTime = possibleConflictingActivity.getEndTime();
-		int thisStartTime = this.getStartTime();
-		int thisEndTime = this.getEndTime();
-		
-		if (getMeetingDays().equals("A") && possibleConflictingActivity.getMeetingDays().equals("A")) {
+	/**
+	 * Returns the days and times the current activity shares with the provided
+	 * activity, packed as described by Conflict, or NO_OVERLAP if they do not
+	 * conflict.
+	 * 
+	 * @param possibleConflictingActivity the activity to check for conflicts with
+	 * @return the packed overlap, or NO_OVERLAP if the activities do not conflict
+	 */
+	@Override
+	public long getOverlap(Activity possibleConflictingActivity) {
+		if (!conflictsWith(possibleConflictingActivity)) {
+			return NO_OVERLAP;
+		}
+		return Conflict.toOverlap(meetingDaysMask & possibleConflictingActivity.meetingDaysMask,
+				Math.max(startTime, possibleConflictingActivity.startTime),
+				Math.min(endTime, possibleConflictingActivity.endTime));
+	}
+
+	/**
+	 * Appendable that encodes characters into a byte buffer in the platform's
+	 * default charset. ASCII characters are stored directly when the charset
+	 * encodes them as single bytes; other characters go through the encoder, with
+	 * unmappable characters replaced like the file writers do. A
+	 * BufferOverflowException is thrown when the buffer is full.
+	 */
+	private static class ByteBufferAppender implements Appendable {
 
-	        return;
-	    }
+		/** Whether the default charset encodes every ASCII character as the same single byte */
+		private static final boolean ASCII_COMPATIBLE = isAsciiCompatible(Charset.defaultCharset());
 
-		for (char day : possibleConflictingActivity.getMeetingDays().toCharArray()) {
+		/** Encoder for characters outside of ASCII */
+		private final CharsetEncoder encoder = Charset.defaultCharset().newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		/** Buffer being written to */
+		private ByteBuffer out;
 
-			if (this.getMeetingDays().contains(String.valueOf(day))) {
+		@Override
+		public Appendable append(CharSequence csq) {
+			CharSequence chars = csq == null ? "null" : csq;
+			return append(chars, 0, chars.length());
+		}
 
-				if (thisStartTime <= possibleStartTime && thisEndTime >= possibleEndTime) {
-					throw new ConflictException();
+		@Override
+		public Appendable append(CharSequence csq, int start, int end) {
+			CharSequence chars = csq == null ? "null" : csq;
+			int i = start;
+			while (i < end) {
+				char c = chars.charAt(i);
+				if (ASCII_COMPATIBLE && c < 0x80) {
+					out.put((byte) c);
+					i++;
+				} else {
+					int runEnd = i + 1;
+					while (runEnd < end && !(ASCII_COMPATIBLE && chars.charAt(runEnd) < 0x80)) {
+						runEnd++;
+					}
+					encode(CharBuffer.wrap(chars, i, runEnd));
+					i = runEnd;
+				}
+			}
+			return this;
+		}
 
-				} else if (possibleStartTime <= thisStartTime && possibleEndTime >= thisEndTime) {
-					throw new ConflictException();
+		@Override
+		public Appendable append(char c) {
+			if (ASCII_COMPATIBLE && c < 0x80) {
+				out.put((byte) c);
+			} else {
+				encode(CharBuffer.wrap(new char[] { c }));
+			}
+			return this;
+		}
 
-				} else if (thisStartTime <= possibleStartTime && thisEndTime >= possibleStartTime) {
-					throw new ConflictException();
+		/**
+		 * Encodes the characters into the buffer.
+		 *
+		 * @param chars the characters to encode
+		 */
+		private void encode(CharBuffer chars) {
+			encoder.reset();
+			CoderResult result = encoder.encode(chars, out, true);
+			if (!result.isOverflow()) {
+				result = encoder.flush(out);
+			}
+			if (result.isOverflow()) {
+				throw new BufferOverflowException();
+			}
+		}
 
-				} else if (possibleStartTime <= thisStartTime && possibleEndTime >= thisStartTime) {
-					throw new ConflictException();
-				}
+		/**
+		 * Returns whether the charset encodes every ASCII character as the single
+		 * byte with the same value.
+		 *
+		 * @param charset the charset to check
+		 * @return true if ASCII characters can be stored directly
+		 */
+		private static boolean isAsciiCompatible(Charset charset) {
+			byte[] ascii = new byte[0x80];
+			for (int i = 0; i < ascii.length; i++) {
+				ascii[i] = (byte) i;
 			}
+			String text = new String(ascii, StandardCharsets.US_ASCII);
+			return Arrays.equals(ascii, text.getBytes(charset));
 		}
 	}
-}
+}
\ No newline at end of file
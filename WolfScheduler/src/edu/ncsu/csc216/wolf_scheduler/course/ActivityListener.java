@@ -0,0 +1,19 @@
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+/**
+ * This interface is implemented by objects that hold activities and need to know
+ * when one of them changes, such as a catalog whose search index or conflict
+ * matrix depends on its courses' fields. A listener is added to an activity with
+ * Activity.addActivityListener.
+ * 
+ * @author Dania Swelam
+ */
+public interface ActivityListener {
+
+	/**
+	 * Called after a field of an activity the listener was added to changes.
+	 * 
+	 * @param activity the activity that changed
+	 */
+	void activityChanged(Activity activity);
+}
@@ -1,15 +1,19 @@
 package edu.ncsu.csc216.wolf_scheduler.course;
 
 /**
- * This interface defines a method for checking conflicts between activities.
+ * This interface defines methods for checking conflicts between activities.
  * Implementing classes should provide a way to determine whether the given
- * activity conflicts with another activity, and throw a @ConflictException 
+ * activity conflicts with another activity, and to describe where the two
+ * activities overlap. The checkConflict method throws a @ConflictException 
  * to indicate the conflict.
  * 
  * @author Dania Swelam
  */
 public interface Conflict {
 
+	/** Value returned by getOverlap when two activities do not conflict */
+	long NO_OVERLAP = 0L;
+
 	/**
 	 * Checks for conflicts between the current activity and the
 	 * provided conflicting activity.
@@ -18,6 +22,76 @@ public interface Conflict {
 	 * @throws ConflictException if a conflict is detected between the current
 	 *                           activity and the provided activity
 	 */
-	void checkConflict(Activity possibleConflictingActivity) throws ConflictException;
+	default void checkConflict(Activity possibleConflictingActivity) throws ConflictException {
+		if (conflictsWith(possibleConflictingActivity)) {
+			throw new ConflictException();
+		}
+	}
+
+	/**
+	 * Returns whether the current activity conflicts with the provided
+	 * activity, without throwing an exception.
+	 * 
+	 * @param possibleConflictingActivity the activity to check for conflicts with
+	 * @return true if the activities conflict, false otherwise
+	 */
+	boolean conflictsWith(Activity possibleConflictingActivity);
+
+	/**
+	 * Returns the days and times shared by the current activity and the
+	 * provided activity packed into a long, or NO_OVERLAP if they do not
+	 * conflict. Use getOverlapDays, getOverlapStartTime, and
+	 * getOverlapEndTime to read the packed value.
+	 * 
+	 * @param possibleConflictingActivity the activity to check for conflicts with
+	 * @return the packed overlap, or NO_OVERLAP if the activities do not conflict
+	 */
+	long getOverlap(Activity possibleConflictingActivity);
+
+	/**
+	 * Packs the days and times two activities share into the value returned
+	 * by getOverlap.
+	 * 
+	 * @param days      meeting days bit mask of the shared days
+	 * @param startTime start of the shared time
+	 * @param endTime   end of the shared time
+	 * @return the packed overlap
+	 */
+	static long toOverlap(int days, int startTime, int endTime) {
+		return (long) days << 32 | (long) startTime << 16 | endTime;
+	}
+
+	/**
+	 * Returns the meeting days bit mask of the days in an overlap returned by
+	 * getOverlap.
+	 * 
+	 * @param overlap the packed overlap
+	 * @return the shared meeting days bit mask
+	 */
+	static int getOverlapDays(long overlap) {
+		return (int) (overlap >>> 32);
+	}
+
+	/**
+	 * Returns the time the shared time starts in an overlap returned by
+	 * getOverlap.
+	 * 
+	 * @param overlap the packed overlap
+	 * @return the start of the shared time
+	 */
+	static int getOverlapStartTime(long overlap) {
+		return (int) (overlap >>> 16) & 0xFFFF;
+	}
+
+	/**
+	 * Returns the time the shared time ends in an overlap returned by
+	 * getOverlap.
+	 * 
+	 * @param overlap the packed overlap
+	 * @return the end of the shared time
+	 */
+	static int getOverlapEndTime(long overlap) {
+		return (int) overlap & 0xFFFF;
+	}
 
 }
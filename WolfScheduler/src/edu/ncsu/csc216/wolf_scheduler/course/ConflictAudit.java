@@ -0,0 +1,238 @@
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Every pair of conflicting activities in a list, found by a sweep line instead of
+ * calling checkConflict on every pair. For each day, the activities meeting that day
+ * are visited by start time while keeping those that have not yet ended; each
+ * activity visited conflicts with exactly the activities kept, so the audit takes
+ * O(n log n + k) time for n activities and k conflicting pairs. A few activities are
+ * compared pair by pair instead, which is faster for them. Activities conflict
+ * as they do for checkConflict: arranged activities meet on no day and never
+ * conflict, and activities that only touch at their ends conflict.
+ *
+ * Each pair is reported once, with the earlier activity in the list first, and the
+ * pairs are in order of the first activity and then the second.
+ *
+ * @author Dania Swelam
+ */
+public class ConflictAudit {
+
+	/** Number of days in a week */
+	private static final int DAYS = 7;
+	/** Largest number of activities audited by comparing every pair instead of sweeping */
+	private static final int PAIRWISE_LIMIT = 32;
+
+	/** The activities audited */
+	private final List<? extends Activity> activities;
+	/** Conflicting pairs, the index of the first activity in the high 32 bits and the second in the low 32 bits */
+	private final long[] pairs;
+
+	/**
+	 * Audits a list of activities, such as a schedule or the courses of a catalog.
+	 * The list must not change while the audit is used.
+	 * @param activities the activities to audit
+	 * @throws IllegalArgumentException if the list or an activity is null
+	 */
+	public ConflictAudit(List<? extends Activity> activities) {
+		if (activities == null) {
+			throw new IllegalArgumentException("Invalid activities.");
+		}
+		int count = activities.size();
+		int[] masks = new int[count];
+		int[] starts = new int[count];
+		int[] ends = new int[count];
+		int i = 0;
+		for (Activity activity : activities) {
+			if (activity == null) {
+				throw new IllegalArgumentException("Invalid activities.");
+			}
+			masks[i] = activity.getMeetingDaysMask();
+			starts[i] = activity.getStartTime();
+			ends[i] = activity.getEndTime();
+			i++;
+		}
+		this.activities = activities;
+		this.pairs = count <= PAIRWISE_LIMIT ? checkPairs(masks, starts, ends, count) : sweep(masks, starts, ends, count);
+	}
+
+	/**
+	 * Finds the conflicting pairs by comparing every pair, which is faster than sweeping
+	 * for a few activities.
+	 * @param masks meeting days bit mask of each activity
+	 * @param starts start time of each activity
+	 * @param ends end time of each activity
+	 * @param count number of activities
+	 * @return the conflicting pairs in order
+	 */
+	private static long[] checkPairs(int[] masks, int[] starts, int[] ends, int count) {
+		long[] found = new long[count];
+		int foundCount = 0;
+		for (int i = 0; i < count; i++) {
+			for (int j = i + 1; j < count; j++) {
+				if ((masks[i] & masks[j]) != 0 && starts[i] <= ends[j] && starts[j] <= ends[i]) {
+					if (foundCount == found.length) {
+						found = Arrays.copyOf(found, found.length * 2);
+					}
+					found[foundCount++] = (long) i << Integer.SIZE | j;
+				}
+			}
+		}
+		return Arrays.copyOf(found, foundCount);
+	}
+
+	/**
+	 * Finds the conflicting pairs by sweeping each day, then puts them in order by
+	 * counting the pairs of each first activity before sorting each one's pairs.
+	 * @param masks meeting days bit mask of each activity
+	 * @param starts start time of each activity
+	 * @param ends end time of each activity
+	 * @param count number of activities
+	 * @return the conflicting pairs in order
+	 */
+	private static long[] sweep(int[] masks, int[] starts, int[] ends, int count) {
+		long[][] days = new long[DAYS][];
+		int[] offsets = new int[count + 1];
+		for (int day = 0; day < DAYS; day++) {
+			days[day] = sweepDay(day, masks, starts, ends, count);
+			for (long pair : days[day]) {
+				offsets[(int) (pair >>> Integer.SIZE) + 1]++;
+			}
+		}
+		for (int i = 0; i < count; i++) {
+			offsets[i + 1] += offsets[i];
+		}
+		long[] sorted = new long[offsets[count]];
+		int[] next = Arrays.copyOf(offsets, count);
+		for (long[] dayPairs : days) {
+			for (long pair : dayPairs) {
+				sorted[next[(int) (pair >>> Integer.SIZE)]++] = pair;
+			}
+		}
+		for (int i = 0; i < count; i++) {
+			if (offsets[i + 1] - offsets[i] > 1) {
+				Arrays.sort(sorted, offsets[i], offsets[i + 1]);
+			}
+		}
+		return sorted;
+	}
+
+	/**
+	 * Returns the number of conflicting pairs.
+	 * @return the number of pairs
+	 */
+	public int size() {
+		return pairs.length;
+	}
+
+	/**
+	 * Returns whether any two activities conflict.
+	 * @return true if there is a conflicting pair
+	 */
+	public boolean hasConflicts() {
+		return pairs.length > 0;
+	}
+
+	/**
+	 * Returns the index in the list of the first activity of a pair.
+	 * @param pair index of the pair
+	 * @return the index of the earlier activity of the pair
+	 * @throws IndexOutOfBoundsException if there is no such pair
+	 */
+	public int getFirstIndex(int pair) {
+		return (int) (pairs[pair] >>> Integer.SIZE);
+	}
+
+	/**
+	 * Returns the index in the list of the second activity of a pair.
+	 * @param pair index of the pair
+	 * @return the index of the later activity of the pair
+	 * @throws IndexOutOfBoundsException if there is no such pair
+	 */
+	public int getSecondIndex(int pair) {
+		return (int) pairs[pair];
+	}
+
+	/**
+	 * Returns the first activity of a pair.
+	 * @param pair index of the pair
+	 * @return the earlier activity of the pair
+	 * @throws IndexOutOfBoundsException if there is no such pair
+	 */
+	public Activity getFirst(int pair) {
+		return activities.get(getFirstIndex(pair));
+	}
+
+	/**
+	 * Returns the second activity of a pair.
+	 * @param pair index of the pair
+	 * @return the later activity of the pair
+	 * @throws IndexOutOfBoundsException if there is no such pair
+	 */
+	public Activity getSecond(int pair) {
+		return activities.get(getSecondIndex(pair));
+	}
+
+	/**
+	 * Returns the days and times the activities of a pair share, packed as described
+	 * by Conflict.
+	 * @param pair index of the pair
+	 * @return the packed overlap
+	 * @throws IndexOutOfBoundsException if there is no such pair
+	 */
+	public long getOverlap(int pair) {
+		return getFirst(pair).getOverlap(getSecond(pair));
+	}
+
+	/**
+	 * Finds the pairs of intervals that overlap on a day, for a sweep over each day of
+	 * the week. Interval i meets on the days of masks[i], from starts[i] through
+	 * ends[i] inclusive. A pair is reported only for the first day both intervals meet
+	 * on, so sweeping every day reports each overlapping pair exactly once; an
+	 * interval is never paired with itself.
+	 * @param day the day to sweep, 0 for Sunday
+	 * @param masks meeting days bit mask of each interval
+	 * @param starts start time of each interval
+	 * @param ends end time of each interval
+	 * @param count number of intervals
+	 * @return the overlapping pairs, the lower index in the high 32 bits and the
+	 *         higher in the low 32 bits, in no particular order
+	 */
+	public static long[] sweepDay(int day, int[] masks, int[] starts, int[] ends, int count) {
+		int dayBit = 1 << day;
+		long[] byStart = new long[count];
+		int meeting = 0;
+		for (int i = 0; i < count; i++) {
+			if ((masks[i] & dayBit) != 0) {
+				byStart[meeting++] = (long) starts[i] << Integer.SIZE | i;
+			}
+		}
+		Arrays.sort(byStart, 0, meeting);
+
+		long[] found = new long[Math.max(meeting, 1)];
+		int foundCount = 0;
+		int[] active = new int[Math.max(meeting, 1)];
+		int activeCount = 0;
+		for (int s = 0; s < meeting; s++) {
+			int i = (int) byStart[s];
+			int kept = 0;
+			for (int a = 0; a < activeCount; a++) {
+				int other = active[a];
+				if (ends[other] >= starts[i]) {
+					active[kept++] = other;
+					if (Integer.numberOfTrailingZeros(masks[i] & masks[other]) == day) {
+						if (foundCount == found.length) {
+							found = Arrays.copyOf(found, found.length * 2);
+						}
+						found[foundCount++] = (long) Math.min(i, other) << Integer.SIZE | Math.max(i, other);
+					}
+				}
+			}
+			activeCount = kept;
+			active[activeCount++] = i;
+		}
+		return Arrays.copyOf(found, foundCount);
+	}
+}
@@ -1,5 +1,7 @@
 package edu.ncsu.csc216.wolf_scheduler.course;
 
+import java.io.IOException;
+
 /**
  * Represents a Course within the university's scheduling system. Each course
  * has a unique combination of name, title, section, credits, instructor,
@@ -92,11 +94,23 @@ public class Course extends Activity {
 	 *                                  specified requirements.
 	 */
 	private void setName(String name) {
-		if (name == null) {
+		if (!isValidName(name)) {
 			throw new IllegalArgumentException("Invalid course name.");
 		}
-		if (name.length() < MIN_NAME_LENGTH || name.length() > MAX_NAME_LENGTH) {
-			throw new IllegalArgumentException("Invalid course name.");
+		this.name = name;
+		clearDisplayArrays();
+	}
+
+	/**
+	 * Returns whether the name is a valid course name: 1 to 4 letters, a space, and
+	 * three digits.
+	 * 
+	 * @param name the name to check
+	 * @return true if the name is valid
+	 */
+	public static boolean isValidName(String name) {
+		if (name == null || name.length() < MIN_NAME_LENGTH || name.length() > MAX_NAME_LENGTH) {
+			return false;
 		}
 
 		int numLetters = 0;
@@ -111,35 +125,20 @@ public class Course extends Activity {
 				} else if (name.charAt(i) == ' ') {
 					spaceFound = true;
 				} else {
-					throw new IllegalArgumentException("Invalid course name.");
+					return false;
 				}
 			} else {
 				// Check for digit characters
 				if (Character.isDigit(name.charAt(i))) {
 					numDigits++;
 				} else {
-					throw new IllegalArgumentException("Invalid course name.");
+					return false;
 				}
 			}
 		}
 
-		// Check if the number of letters is within the valid range
-		if (numLetters < MIN_LETTER_COUNT || numLetters > MAX_LETTER_COUNT) {
-			throw new IllegalArgumentException("Invalid course name.");
-		}
-
-		// Check if the number of digits is exactly DIGIT_COUNT
-		if (numDigits != DIGIT_COUNT) {
-			throw new IllegalArgumentException("Invalid course name.");
-		}
-
-		// Check if the length of the name is within the valid range
-		if (name.length() < MIN_NAME_LENGTH || name.length() > MAX_NAME_LENGTH) {
-			throw new IllegalArgumentException("Invalid course name.");
-		}
-
-		// If all checks pass, set the name
-		this.name = name;
+		// Check the number of letters and that there are exactly DIGIT_COUNT digits
+		return numLetters >= MIN_LETTER_COUNT && numLetters <= MAX_LETTER_COUNT && numDigits == DIGIT_COUNT;
 	}
 
 	/**
@@ -160,15 +159,29 @@ public class Course extends Activity {
 	 *                                  contains non-digit characters.
 	 */
 	public void setSection(String section) {
-		if (section == null || section.length() != SECTION_LENGTH) {
+		if (!isValidSection(section)) {
 			throw new IllegalArgumentException("Invalid section.");
 		}
+		this.section = section;
+		clearDisplayArrays();
+	}
+
+	/**
+	 * Returns whether the section is a valid section: exactly three digits.
+	 * 
+	 * @param section the section to check
+	 * @return true if the section is valid
+	 */
+	public static boolean isValidSection(String section) {
+		if (section == null || section.length() != SECTION_LENGTH) {
+			return false;
+		}
 		for (int i = 0; i < SECTION_LENGTH; i++) {
 			if (!Character.isDigit(section.charAt(i))) {
-				throw new IllegalArgumentException("Invalid section.");
+				return false;
 			}
 		}
-		this.section = section;
+		return true;
 	}
 
 	/**
@@ -188,10 +201,21 @@ public class Course extends Activity {
 	 *                                  valid range.
 	 */
 	public void setCredits(int credits) {
-		if (credits < MIN_CREDITS || credits > MAX_CREDITS) {
+		if (!isValidCredits(credits)) {
 			throw new IllegalArgumentException("Invalid credits.");
 		}
 		this.credits = credits;
+		clearDisplayArrays();
+	}
+
+	/**
+	 * Returns whether the credits are within the valid range of 1 to 5.
+	 * 
+	 * @param credits the credits to check
+	 * @return true if the credits are valid
+	 */
+	public static boolean isValidCredits(int credits) {
+		return credits >= MIN_CREDITS && credits <= MAX_CREDITS;
 	}
 
 	/**
@@ -211,10 +235,21 @@ public class Course extends Activity {
 	 *                                  empty.
 	 */
 	public void setInstructorId(String instructorId) {
-		if (instructorId == null || instructorId.isEmpty()) {
+		if (!isValidInstructorId(instructorId)) {
 			throw new IllegalArgumentException("Invalid instructor id.");
 		}
 		this.instructorId = instructorId;
+		clearDisplayArrays();
+	}
+
+	/**
+	 * Returns whether the instructor id is valid: not null or empty.
+	 * 
+	 * @param instructorId the instructor id to check
+	 * @return true if the instructor id is valid
+	 */
+	public static boolean isValidInstructorId(String instructorId) {
+		return instructorId != null && !instructorId.isEmpty();
 	}
 
 	/**
@@ -293,13 +328,27 @@ public class Course extends Activity {
 	 */
 	@Override
 	public String toString() {
-		if ("A".equals(getMeetingDays())) {
-			return name + "," + getTitle() + "," + section + "," + credits + "," + instructorId + ","
-					+ getMeetingDays();
-		}
-		return name + "," + getTitle() + "," + section + "," + credits + "," + instructorId + "," + getMeetingDays()
-				+ "," + getStartTime() + "," + getEndTime();
+		return toRecordString();
+	}
 
+	/**
+	 * Appends the comma separated value record of all Course fields. Arranged
+	 * courses have no start and end times in the record.
+	 * 
+	 * @param out the Appendable to write the record to
+	 * @throws IOException if the Appendable cannot be written to
+	 */
+	@Override
+	public void appendTo(Appendable out) throws IOException {
+		out.append(name).append(',').append(getTitle()).append(',').append(section).append(',');
+		appendInt(out, credits);
+		out.append(',').append(instructorId).append(',').append(getMeetingDays());
+		if (!"A".equals(getMeetingDays())) {
+			out.append(',');
+			appendInt(out, getStartTime());
+			out.append(',');
+			appendInt(out, getEndTime());
+		}
 	}
 
 	/**
@@ -310,7 +359,7 @@ public class Course extends Activity {
 	 *         information for the course
 	 */
 	@Override
-	public String[] getShortDisplayArray() {
+	protected String[] createShortDisplayArray() {
 		return new String[] { getName(), getSection(), getTitle(), getMeetingString() };
 	}
 
@@ -322,7 +371,7 @@ public class Course extends Activity {
 	 *         information for the course
 	 */
 	@Override
-	public String[] getLongDisplayArray() {
+	protected String[] createLongDisplayArray() {
 		return new String[] { getName(), getSection(), getTitle(), Integer.toString(getCredits()), getInstructorId(),
 				getMeetingString(), "" };
 	}
@@ -340,43 +389,58 @@ public class Course extends Activity {
 	 */
 	@Override
 	public void setMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
+		if (!isValidMeetingDaysAndTime(meetingDays, startTime, endTime)) {
+			throw new IllegalArgumentException("Invalid meeting days and times.");
+		}
+		super.setMeetingDaysAndTime(meetingDays, startTime, endTime);
+	}
+
+	/**
+	 * Returns whether the meeting days and times are valid for a course: A with both
+	 * times 0 for an arranged course, or each of M, T, W, H and F at most once with
+	 * valid times.
+	 * 
+	 * @param meetingDays the meeting days to check
+	 * @param startTime   the start time to check
+	 * @param endTime     the end time to check
+	 * @return true if the meeting days and times are valid
+	 */
+	public static boolean isValidMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
 		if ("A".equals(meetingDays)) {
-			if (startTime != 0 || endTime != 0) {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
-			}
+			return startTime == 0 && endTime == 0;
+		}
+		if (meetingDays == null || meetingDays.isEmpty()) {
+			return false;
+		}
 
-			super.setMeetingDaysAndTime("A", 0, 0);
-		} else {
-			int countM = 0, countT = 0, countW = 0, countH = 0, countF = 0;
-
-			for (char day : meetingDays.toCharArray()) {
-				switch (day) {
-				case 'M':
-					countM++;
-					break;
-				case 'T':
-					countT++;
-					break;
-				case 'W':
-					countW++;
-					break;
-				case 'H':
-					countH++;
-					break;
-				case 'F':
-					countF++;
-					break;
-				default:
-					throw new IllegalArgumentException("Invalid meeting days and times.");
-				}
-			}
+		int countM = 0, countT = 0, countW = 0, countH = 0, countF = 0;
 
-			if (countM > 1 || countT > 1 || countW > 1 || countH > 1 || countF > 1) {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
+		for (int i = 0; i < meetingDays.length(); i++) {
+			switch (meetingDays.charAt(i)) {
+			case 'M':
+				countM++;
+				break;
+			case 'T':
+				countT++;
+				break;
+			case 'W':
+				countW++;
+				break;
+			case 'H':
+				countH++;
+				break;
+			case 'F':
+				countF++;
+				break;
+			default:
+				return false;
 			}
+		}
 
-			super.setMeetingDaysAndTime(meetingDays, startTime, endTime);
+		if (countM > 1 || countT > 1 || countW > 1 || countH > 1 || countF > 1) {
+			return false;
 		}
+		return isValidTimes(startTime, endTime);
 	}
 
 	/**
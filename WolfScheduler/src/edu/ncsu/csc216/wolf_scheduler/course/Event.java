@@ -1,5 +1,7 @@
 package edu.ncsu.csc216.wolf_scheduler.course;
 
+import java.io.IOException;
+
 /**
  * Represents an event with a title, meeting days, start time, end time, and
  * event details. Extends the Activity class.
@@ -46,6 +48,7 @@ public class Event extends Activity {
 			throw new IllegalArgumentException("Invalid event details.");
 		}
 		this.eventDetails = eventDetails;
+		clearDisplayArrays();
 	}
 
 	/**
@@ -55,7 +58,7 @@ public class Event extends Activity {
 	 * @return a short display array
 	 */
 	@Override
-	public String[] getShortDisplayArray() {
+	protected String[] createShortDisplayArray() {
 		return new String[] { "", "", getTitle(), getMeetingString() };
 	}
 
@@ -66,7 +69,7 @@ public class Event extends Activity {
 	 * @return a long display array
 	 */
 	@Override
-	public String[] getLongDisplayArray() {
+	protected String[] createLongDisplayArray() {
 		return new String[] { "", "", getTitle(), "", "", getMeetingString(), getEventDetails() };
 	}
 
@@ -77,8 +80,22 @@ public class Event extends Activity {
 	 */
 	@Override
 	public String toString() {
-		return getTitle() + "," + getMeetingDays() + "," + getStartTime() + "," + getEndTime() + ","
-				+ getEventDetails();
+		return toRecordString();
+	}
+
+	/**
+	 * Appends the comma separated record of the event, as returned by toString.
+	 * 
+	 * @param out the Appendable to write the record to
+	 * @throws IOException if the Appendable cannot be written to
+	 */
+	@Override
+	public void appendTo(Appendable out) throws IOException {
+		out.append(getTitle()).append(',').append(getMeetingDays()).append(',');
+		appendInt(out, getStartTime());
+		out.append(',');
+		appendInt(out, getEndTime());
+		out.append(',').append(getEventDetails());
 	}
 
 	/**
@@ -1,9 +1,17 @@
 package edu.ncsu.csc216.wolf_scheduler.io;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 
@@ -13,20 +21,152 @@ import edu.ncsu.csc216.wolf_scheduler.course.Activity;
  */
 public class ActivityRecordIO {
 
+    /** Size in bytes of each buffer records are encoded into */
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** Number of buffers filled before they are written to the file in one gathering write */
+    private static final int GATHER_COUNT = 8;
+
     /**
-     * Writes the given list of Courses to 
+     * Writes the given list of Courses to the file. The records are written to a
+     * temporary file next to the target first and then moved into place, so the
+     * target holds either its old contents or all of the new records.
      * @param fileName file to save to
      * @param activities list of course to save
      * @throws IOException if the file cannot be written
      */
     public static void writeActivityRecords(String fileName, ArrayList<Activity> activities) throws IOException {
-    	PrintStream fileWriter = new PrintStream(new File(fileName));
-    	
+    	writeActivityRecords(fileName, activities, false);
+    }
+
+    /**
+     * Writes the given list of Courses to the file through a temporary file that is
+     * moved into place once all of the records are written. When sync is true, the
+     * records are forced to the storage device before the move, and the directory
+     * is forced after it where the platform allows, so the new file survives a crash.
+     * @param fileName file to save to
+     * @param activities list of course to save
+     * @param sync true to force the records to the storage device before returning
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeActivityRecords(String fileName, ArrayList<Activity> activities, boolean sync) throws IOException {
+    	Path target = Paths.get(fileName).toAbsolutePath();
+    	Path temp = target.resolveSibling("." + target.getFileName() + "."
+    			+ Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+
+    	try {
+    		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+    			writeRecords(channel, activities);
+    			if (sync) {
+    				channel.force(true);
+    			}
+    		}
+    		replace(temp, target);
+    	} catch (IOException | RuntimeException e) {
+    		Files.deleteIfExists(temp);
+    		throw e;
+    	}
+
+    	if (sync) {
+    		syncDirectory(target.getParent());
+    	}
+    }
+
+    /**
+     * Writes one line per activity. Each record is encoded straight into one of a
+     * set of byte buffers, and the full buffers are written to the channel together
+     * in a single gathering write.
+     * @param channel channel to write the records to
+     * @param activities list of activities to write
+     * @throws IOException if the records cannot be written
+     */
+    private static void writeRecords(FileChannel channel, ArrayList<Activity> activities) throws IOException {
+    	byte[] lineSeparator = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+    	ByteBuffer[] buffers = new ByteBuffer[GATHER_COUNT];
+    	buffers[0] = ByteBuffer.allocate(BUFFER_SIZE);
+    	int current = 0;
+
     	for (Activity a : activities) {
-    		fileWriter.println(a.toString());
+    		while (!appendRecord(buffers[current], a, lineSeparator)) {
+    			if (buffers[current].position() == 0) {
+    				// The record does not fit in an empty buffer
+    				buffers[current] = ByteBuffer.allocate(buffers[current].capacity() * 2);
+    				continue;
+    			}
+    			current++;
+    			if (current == buffers.length) {
+    				write(channel, buffers, current);
+    				current = 0;
+    			}
+    			if (buffers[current] == null) {
+    				buffers[current] = ByteBuffer.allocate(BUFFER_SIZE);
+    			}
+    		}
+    	}
+    	write(channel, buffers, current + 1);
+    }
+
+    /**
+     * Appends an activity's record and a line separator to the buffer.
+     * @param buffer buffer to write the line to
+     * @param activity activity to write
+     * @param lineSeparator encoded line separator
+     * @return true if the line was written, false if it did not fit and the buffer is unchanged
+     */
+    private static boolean appendRecord(ByteBuffer buffer, Activity activity, byte[] lineSeparator) {
+    	int start = buffer.position();
+    	if (activity.appendTo(buffer) && buffer.remaining() >= lineSeparator.length) {
+    		buffer.put(lineSeparator);
+    		return true;
+    	}
+    	buffer.position(start);
+    	return false;
+    }
+
+    /**
+     * Writes the filled buffers to the channel and clears them for reuse.
+     * @param channel channel to write to
+     * @param buffers buffers holding encoded records
+     * @param count number of buffers to write
+     * @throws IOException if the buffers cannot be written
+     */
+    private static void write(FileChannel channel, ByteBuffer[] buffers, int count) throws IOException {
+    	for (int i = 0; i < count; i++) {
+    		buffers[i].flip();
+    	}
+    	while (buffers[count - 1].hasRemaining()) {
+    		channel.write(buffers, 0, count);
+    	}
+    	for (int i = 0; i < count; i++) {
+    		buffers[i].clear();
+    	}
+    }
+
+    /**
+     * Moves the temporary file over the target, atomically where the file system
+     * supports it.
+     * @param temp the written temporary file
+     * @param target the file to replace
+     * @throws IOException if the file cannot be moved
+     */
+    private static void replace(Path temp, Path target) throws IOException {
+    	try {
+    		Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    	} catch (AtomicMoveNotSupportedException e) {
+    		Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    	}
+    }
+
+    /**
+     * Forces the directory entry of a moved file to the storage device. Some
+     * platforms cannot open a directory for this, in which case nothing is done.
+     * @param directory the directory holding the file
+     */
+    private static void syncDirectory(Path directory) {
+    	try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+    		channel.force(true);
+    	} catch (IOException e) {
+    		// The file has been written; the directory cannot be synced on this platform
     	}
-    	
-    	fileWriter.close();
     }
 
-}
\ No newline at end of file
+}
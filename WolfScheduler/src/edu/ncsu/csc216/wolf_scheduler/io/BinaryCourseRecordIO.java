@@ -0,0 +1,274 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Utility class for reading and writing Course records in a compact binary
+ * format, which loads much faster than the text records read by CourseRecordIO.
+ * A binary file holds, in order:
+ * <ul>
+ * <li>the magic number WSCB and a short format version</li>
+ * <li>a dictionary of every distinct String in the records: a count followed by
+ * each String as a length prefixed run of UTF-8 bytes</li>
+ * <li>a count of courses followed by each course's name, title, section and
+ * instructor id as dictionary indexes, its credits as a byte, its meeting days
+ * as a byte, and for courses that are not arranged, its start and end times as
+ * shorts</li>
+ * <li>a CRC32 of everything before it</li>
+ * </ul>
+ * Counts, lengths and indexes are written as variable length unsigned integers
+ * of 7 bits a byte. The meeting days byte is 0 for arranged courses and holds
+ * the bit of each day otherwise, in the order UMTWHFS; when the course's meeting
+ * days are not written in that order, the byte's high bit is set and the meeting
+ * days follow as a dictionary index.
+ * @author Dania Swelam
+ */
+public class BinaryCourseRecordIO {
+
+	/** Number at the start of every binary course records file, the characters WSCB */
+	private static final int MAGIC = 0x57534342;
+	/** Version of the format written */
+	private static final short VERSION = 1;
+	/** Meeting days byte of an arranged course */
+	private static final int ARRANGED = 0;
+	/** Meeting days byte flag for meeting days written as a dictionary index */
+	private static final int DAYS_IN_DICTIONARY = 0x80;
+	/** Letters of the days of the week, Sunday first, in the order of the meeting days bits */
+	private static final String DAY_LETTERS = "UMTWHFS";
+	/** Meeting days for every combination of day bits, with the days in order */
+	private static final String[] MEETING_DAYS = new String[1 << DAY_LETTERS.length()];
+	/** Number of bytes in the header */
+	private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+	static {
+		MEETING_DAYS[ARRANGED] = "A";
+		for (int mask = 1; mask < MEETING_DAYS.length; mask++) {
+			StringBuilder days = new StringBuilder();
+			for (int day = 0; day < DAY_LETTERS.length(); day++) {
+				if ((mask & 1 << day) != 0) {
+					days.append(DAY_LETTERS.charAt(day));
+				}
+			}
+			MEETING_DAYS[mask] = days.toString();
+		}
+	}
+
+	/**
+	 * Reads course records from a text file with CourseRecordIO and writes them to
+	 * a binary file. Only the valid courses read from the text file are written.
+	 * @param textFileName file to read Course records from
+	 * @param binaryFileName file to write the binary Course records to
+	 * @throws FileNotFoundException if the text file cannot be found or read
+	 * @throws IOException if the binary file cannot be written
+	 */
+	public static void convertCourseRecords(String textFileName, String binaryFileName) throws IOException {
+		writeCourseRecords(binaryFileName, CourseRecordIO.readCourseRecords(textFileName));
+	}
+
+	/**
+	 * Writes the given Courses to a binary file.
+	 * @param fileName file to write to
+	 * @param courses list of Courses to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void writeCourseRecords(String fileName, List<Course> courses) throws IOException {
+		HashMap<String, Integer> indexes = new HashMap<String, Integer>();
+		ArrayList<String> dictionary = new ArrayList<String>();
+		for (Course c : courses) {
+			addString(indexes, dictionary, c.getName());
+			addString(indexes, dictionary, c.getTitle());
+			addString(indexes, dictionary, c.getSection());
+			addString(indexes, dictionary, c.getInstructorId());
+			if (!MEETING_DAYS[c.getMeetingDaysMask()].equals(c.getMeetingDays())) {
+				addString(indexes, dictionary, c.getMeetingDays());
+			}
+		}
+
+		CRC32 checksum = new CRC32();
+		try (DataOutputStream out = new DataOutputStream(
+				new CheckedOutputStream(new BufferedOutputStream(new FileOutputStream(fileName)), checksum))) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+
+			writeVarInt(out, dictionary.size());
+			for (String s : dictionary) {
+				byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+				writeVarInt(out, bytes.length);
+				out.write(bytes);
+			}
+
+			writeVarInt(out, courses.size());
+			for (Course c : courses) {
+				writeVarInt(out, indexes.get(c.getName()));
+				writeVarInt(out, indexes.get(c.getTitle()));
+				writeVarInt(out, indexes.get(c.getSection()));
+				writeVarInt(out, indexes.get(c.getInstructorId()));
+				out.writeByte(c.getCredits());
+				int mask = c.getMeetingDaysMask();
+				if (MEETING_DAYS[mask].equals(c.getMeetingDays())) {
+					out.writeByte(mask);
+				} else {
+					out.writeByte(mask | DAYS_IN_DICTIONARY);
+					writeVarInt(out, indexes.get(c.getMeetingDays()));
+				}
+				if (mask != ARRANGED) {
+					out.writeShort(c.getStartTime());
+					out.writeShort(c.getEndTime());
+				}
+			}
+
+			out.writeInt((int) checksum.getValue());
+		}
+	}
+
+	/**
+	 * Reads Courses from a binary file written by writeCourseRecords. The whole
+	 * file is checked against its CRC32 before any course is read. The Strings of
+	 * the records are decoded once each and shared by every course that uses them.
+	 * @param fileName file to read Course records from
+	 * @return the list of Courses in the file, in the order they were written
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IllegalArgumentException if the file is not a valid binary course records file
+	 */
+	public static ArrayList<Course> readCourseRecords(String fileName) throws FileNotFoundException {
+		byte[] bytes;
+		try {
+			bytes = Files.readAllBytes(Paths.get(fileName));
+		} catch (NoSuchFileException e) {
+			throw new FileNotFoundException(fileName);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to read file " + fileName, e);
+		}
+
+		if (bytes.length < HEADER_SIZE + Integer.BYTES) {
+			throw new IllegalArgumentException("Invalid binary course records.");
+		}
+		ByteBuffer in = ByteBuffer.wrap(bytes);
+		int end = bytes.length - Integer.BYTES;
+		CRC32 checksum = new CRC32();
+		checksum.update(bytes, 0, end);
+		if (in.getInt() != MAGIC || in.getShort() != VERSION || in.getInt(end) != (int) checksum.getValue()) {
+			throw new IllegalArgumentException("Invalid binary course records.");
+		}
+		in.limit(end);
+
+		try {
+			String[] dictionary = new String[readVarInt(in)];
+			for (int i = 0; i < dictionary.length; i++) {
+				int length = readVarInt(in);
+				dictionary[i] = new String(bytes, in.position(), length, StandardCharsets.UTF_8);
+				in.position(in.position() + length);
+			}
+
+			int count = readVarInt(in);
+			ArrayList<Course> courses = new ArrayList<Course>(count);
+			for (int i = 0; i < count; i++) {
+				String name = dictionary[readVarInt(in)];
+				String title = dictionary[readVarInt(in)];
+				String section = dictionary[readVarInt(in)];
+				String instructorId = dictionary[readVarInt(in)];
+				int credits = in.get();
+				int daysByte = in.get() & 0xFF;
+				int mask = daysByte & ~DAYS_IN_DICTIONARY;
+				String meetingDays = (daysByte & DAYS_IN_DICTIONARY) != 0 ? dictionary[readVarInt(in)] : MEETING_DAYS[mask];
+				if (mask == ARRANGED) {
+					courses.add(new Course(name, title, section, credits, instructorId, meetingDays));
+				} else {
+					courses.add(new Course(name, title, section, credits, instructorId, meetingDays, in.getShort(),
+							in.getShort()));
+				}
+			}
+			if (in.hasRemaining()) {
+				throw new IllegalArgumentException("Invalid binary course records.");
+			}
+			return courses;
+		} catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("Invalid binary course records.", e);
+		}
+	}
+
+	/**
+	 * Returns whether the file is in the binary course records format: it starts with
+	 * the magic number and the version written. Only the header is read, so a damaged
+	 * binary file is still reported as binary and rejected by readCourseRecords. A
+	 * text file whose first course happens to start with WSCB is not binary course
+	 * records. Files that cannot be read are not binary course records.
+	 * @param fileName file to check
+	 * @return true if the file starts with a binary course records header
+	 */
+	public static boolean isBinaryCourseRecords(String fileName) {
+		try (RandomAccessFile file = new RandomAccessFile(fileName, "r")) {
+			return file.length() >= HEADER_SIZE && file.readInt() == MAGIC && file.readShort() == VERSION;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Adds a String to the dictionary if it is not already there.
+	 * @param indexes dictionary index of each String added
+	 * @param dictionary Strings in the order they were added
+	 * @param s String to add
+	 */
+	private static void addString(HashMap<String, Integer> indexes, ArrayList<String> dictionary, String s) {
+		if (!indexes.containsKey(s)) {
+			indexes.put(s, dictionary.size());
+			dictionary.add(s);
+		}
+	}
+
+	/**
+	 * Writes a non-negative integer 7 bits at a time, low bits first, with the high
+	 * bit of each byte set when more bytes follow.
+	 * @param out stream to write to
+	 * @param value integer to write
+	 * @throws IOException if the stream cannot be written
+	 */
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		int remaining = value;
+		while ((remaining & ~0x7F) != 0) {
+			out.writeByte(remaining & 0x7F | 0x80);
+			remaining >>>= 7;
+		}
+		out.writeByte(remaining);
+	}
+
+	/**
+	 * Reads an integer written by writeVarInt.
+	 * @param in buffer to read from
+	 * @return the integer read
+	 * @throws IllegalArgumentException if the integer is longer than 5 bytes or negative
+	 */
+	private static int readVarInt(ByteBuffer in) {
+		int value = 0;
+		for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+			byte b = in.get();
+			value |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				if (value < 0) {
+					break;
+				}
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Invalid binary course records.");
+	}
+}
@@ -0,0 +1,44 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The courses read by a load of course records, with the report of the lines
+ * that were rejected.
+ * @author Dania Swelam
+ */
+public class CourseLoadResult {
+
+	/** The valid courses read, in file order */
+	private final ArrayList<Course> courses;
+	/** The lines rejected */
+	private final RejectionReport rejectionReport;
+
+	/**
+	 * Constructs a result holding the given courses and report.
+	 * @param courses the valid courses read
+	 * @param rejectionReport the lines rejected
+	 */
+	public CourseLoadResult(ArrayList<Course> courses, RejectionReport rejectionReport) {
+		this.courses = courses;
+		this.rejectionReport = rejectionReport;
+	}
+
+	/**
+	 * Returns the valid courses read, in file order.
+	 * @return the courses
+	 */
+	public ArrayList<Course> getCourses() {
+		return courses;
+	}
+
+	/**
+	 * Returns the report of the lines rejected.
+	 * @return the rejection report
+	 */
+	public RejectionReport getRejectionReport() {
+		return rejectionReport;
+	}
+}
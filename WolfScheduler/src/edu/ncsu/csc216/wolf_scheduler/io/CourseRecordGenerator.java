@@ -0,0 +1,448 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Writes synthetic course records in the text format CourseRecordIO reads, for
+ * load and scale testing. The records follow a typical timetable that can be
+ * tuned: the number of sections of each course, how often each meeting day
+ * pattern is used, the grid of start times, class lengths, and the share of
+ * arranged sections. A share of the lines can repeat the name and section of an
+ * earlier line, or be invalid, so the reader's duplicate and error handling are
+ * exercised too.
+ *
+ * Lines are written one at a time and nothing is kept for earlier lines, so
+ * files of any size can be written. The same settings and seed always write the
+ * same file.
+ *
+ * @author Dania Swelam
+ */
+public class CourseRecordGenerator {
+
+	/** Department prefixes of course names, before generated four letter prefixes */
+	private static final String[] DEPARTMENTS = { "CSC", "MA", "PY", "ECE", "ST", "CH", "BIO", "E", "HI", "ENG" };
+	/** Number of course numbers in a department, 100 through 999 */
+	private static final int NUMBERS = 900;
+	/** Number of four letter prefixes */
+	private static final long PREFIXES = 26L * 26 * 26 * 26;
+	/** Last minute of the day */
+	private static final int LAST_MINUTE = 23 * 60 + 59;
+	/** Number of kinds of invalid lines written */
+	private static final int INVALID_KINDS = 7;
+	/** Number of characters buffered before they are written to the file */
+	private static final int BUFFER_SIZE = 1024 * 1024;
+
+	/** Number of sections of each course */
+	private int sectionsPerCourse = 10;
+	/** Meeting day patterns of the sections that are not arranged */
+	private String[] dayPatterns = { "MW", "TH", "MWF", "M", "T", "W", "H", "F" };
+	/** Running totals of the weights of the day patterns */
+	private int[] dayPatternWeights = { 4, 4, 3, 1, 1, 1, 1, 1 };
+	/** First start time of the day, in minutes since midnight */
+	private int firstStart = 8 * 60;
+	/** Last start time of the day, in minutes since midnight */
+	private int lastStart = 19 * 60;
+	/** Minutes between start times */
+	private int slotMinutes = 5;
+	/** Class lengths in minutes */
+	private int[] classLengths = { 50, 75, 110, 170 };
+	/** Share of sections that are arranged */
+	private double arrangedRate = 0.05;
+	/** Share of lines that repeat the name and section of an earlier line */
+	private double duplicateRate;
+	/** Share of lines that are invalid */
+	private double invalidRate;
+	/** Number of distinct titles */
+	private int titleCount = 500;
+	/** Number of distinct instructor ids */
+	private int instructorCount = 2000;
+	/** Seed of the random choices */
+	private long seed;
+
+	/** Number of lines with a new name and section written by the last generation */
+	private long uniqueCount;
+	/** Number of lines repeating an earlier name and section written by the last generation */
+	private long duplicateCount;
+	/** Number of invalid lines written by the last generation */
+	private long invalidCount;
+
+	/**
+	 * Sets the number of sections of each course. Section numbers start at 001.
+	 * @param sectionsPerCourse number of sections, 1 to 999
+	 * @throws IllegalArgumentException if the number is out of range
+	 */
+	public void setSectionsPerCourse(int sectionsPerCourse) {
+		if (sectionsPerCourse < 1 || sectionsPerCourse > 999) {
+			throw new IllegalArgumentException("Invalid sections per course.");
+		}
+		this.sectionsPerCourse = sectionsPerCourse;
+	}
+
+	/**
+	 * Sets the meeting day patterns of sections that are not arranged, and how often
+	 * each is used relative to the others.
+	 * @param patterns meeting days such as MW or TH
+	 * @param weights relative weight of each pattern
+	 * @throws IllegalArgumentException if a pattern is not valid course meeting days,
+	 *                                  a weight is not positive, or the arrays differ in length
+	 */
+	public void setDayPatterns(String[] patterns, int[] weights) {
+		if (patterns == null || weights == null || patterns.length == 0 || patterns.length != weights.length) {
+			throw new IllegalArgumentException("Invalid day patterns.");
+		}
+		int[] totals = new int[weights.length];
+		long total = 0;
+		for (int i = 0; i < patterns.length; i++) {
+			if (!isCourseDays(patterns[i]) || weights[i] <= 0) {
+				throw new IllegalArgumentException("Invalid day patterns.");
+			}
+			total += weights[i];
+			if (total > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Invalid day patterns.");
+			}
+			totals[i] = (int) total;
+		}
+		this.dayPatterns = patterns.clone();
+		this.dayPatternWeights = totals;
+	}
+
+	/**
+	 * Sets the grid start times are chosen from. Fewer, wider slots pack sections
+	 * into the same times and make conflicts more common.
+	 * @param firstStart first start time in HHMM format
+	 * @param lastStart last start time in HHMM format
+	 * @param slotMinutes minutes between start times
+	 * @throws IllegalArgumentException if a time is invalid, the last start is before
+	 *                                  the first, or the slot length is not positive
+	 */
+	public void setTimeSlots(int firstStart, int lastStart, int slotMinutes) {
+		if (!isTime(firstStart) || !isTime(lastStart) || toMinute(lastStart) < toMinute(firstStart)
+				|| slotMinutes <= 0) {
+			throw new IllegalArgumentException("Invalid time slots.");
+		}
+		this.firstStart = toMinute(firstStart);
+		this.lastStart = toMinute(lastStart);
+		this.slotMinutes = slotMinutes;
+	}
+
+	/**
+	 * Sets the class lengths sections are given, each equally likely. Classes that
+	 * would run past midnight end at 2359.
+	 * @param classLengths class lengths in minutes
+	 * @throws IllegalArgumentException if there are no lengths or a length is negative
+	 */
+	public void setClassLengths(int... classLengths) {
+		if (classLengths == null || classLengths.length == 0) {
+			throw new IllegalArgumentException("Invalid class lengths.");
+		}
+		for (int length : classLengths) {
+			if (length < 0) {
+				throw new IllegalArgumentException("Invalid class lengths.");
+			}
+		}
+		this.classLengths = classLengths.clone();
+	}
+
+	/**
+	 * Sets the share of sections that are arranged.
+	 * @param arrangedRate share from 0 to 1
+	 * @throws IllegalArgumentException if the share is out of range
+	 */
+	public void setArrangedRate(double arrangedRate) {
+		this.arrangedRate = checkRate(arrangedRate);
+	}
+
+	/**
+	 * Sets the share of lines that repeat the name and section of an earlier line
+	 * with different details. The reader keeps the first of them.
+	 * @param duplicateRate share from 0 to 1
+	 * @throws IllegalArgumentException if the share is out of range
+	 */
+	public void setDuplicateRate(double duplicateRate) {
+		this.duplicateRate = checkRate(duplicateRate);
+	}
+
+	/**
+	 * Sets the share of lines that are invalid course records, such as lines with
+	 * missing fields, bad credits, days or times, or extra fields. The reader skips them.
+	 * @param invalidRate share from 0 to 1
+	 * @throws IllegalArgumentException if the share is out of range
+	 */
+	public void setInvalidRate(double invalidRate) {
+		this.invalidRate = checkRate(invalidRate);
+	}
+
+	/**
+	 * Sets the number of distinct titles and instructor ids the sections share.
+	 * @param titleCount number of titles
+	 * @param instructorCount number of instructor ids
+	 * @throws IllegalArgumentException if either number is not positive
+	 */
+	public void setVocabulary(int titleCount, int instructorCount) {
+		if (titleCount <= 0 || instructorCount <= 0) {
+			throw new IllegalArgumentException("Invalid vocabulary.");
+		}
+		this.titleCount = titleCount;
+		this.instructorCount = instructorCount;
+	}
+
+	/**
+	 * Sets the seed of the random choices.
+	 * @param seed the seed
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Writes the given number of lines of course records to a file, in the platform
+	 * default character set.
+	 * @param fileName file to write to
+	 * @param lines number of lines to write
+	 * @throws IOException if the file cannot be written
+	 * @throws IllegalArgumentException if the number of lines is negative or more than
+	 *                                  the number of distinct course sections
+	 */
+	public void writeCourseRecords(String fileName, long lines) throws IOException {
+		try (Writer fileWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fileName)), BUFFER_SIZE)) {
+			generate(fileWriter, lines);
+		}
+	}
+
+	/**
+	 * Appends the given number of lines of course records.
+	 * @param out Appendable to write the lines to
+	 * @param lines number of lines to write
+	 * @throws IOException if the lines cannot be written
+	 * @throws IllegalArgumentException if the number of lines is negative or more than
+	 *                                  the number of distinct course sections
+	 */
+	public void generate(Appendable out, long lines) throws IOException {
+		if (lines < 0 || lines > (DEPARTMENTS.length + PREFIXES) * NUMBERS * sectionsPerCourse) {
+			throw new IllegalArgumentException("Invalid number of lines.");
+		}
+		Random random = new Random(seed);
+		StringBuilder line = new StringBuilder(128);
+		String lineSeparator = System.lineSeparator();
+		uniqueCount = 0;
+		duplicateCount = 0;
+		invalidCount = 0;
+
+		for (long i = 0; i < lines; i++) {
+			line.setLength(0);
+			double kind = random.nextDouble();
+			if (kind < invalidRate) {
+				appendInvalid(line, random);
+				invalidCount++;
+			} else if (kind < invalidRate + duplicateRate && uniqueCount > 0) {
+				appendValid(line, random, (long) (random.nextDouble() * uniqueCount));
+				duplicateCount++;
+			} else {
+				appendValid(line, random, uniqueCount);
+				uniqueCount++;
+			}
+			out.append(line).append(lineSeparator);
+		}
+	}
+
+	/**
+	 * Returns the number of lines with a new name and section written by the last
+	 * generation, which is the number of courses the reader keeps.
+	 * @return the number of unique lines
+	 */
+	public long getUniqueCount() {
+		return uniqueCount;
+	}
+
+	/**
+	 * Returns the number of lines repeating an earlier name and section written by
+	 * the last generation.
+	 * @return the number of duplicate lines
+	 */
+	public long getDuplicateCount() {
+		return duplicateCount;
+	}
+
+	/**
+	 * Returns the number of invalid lines written by the last generation.
+	 * @return the number of invalid lines
+	 */
+	public long getInvalidCount() {
+		return invalidCount;
+	}
+
+	/**
+	 * Appends a valid course record for the section with the given number.
+	 * @param line builder to append to
+	 * @param random source of the random choices
+	 * @param section number of the section in the catalog
+	 */
+	private void appendValid(StringBuilder line, Random random, long section) {
+		appendName(line, section / sectionsPerCourse);
+		line.append(",Course Title ").append(random.nextInt(titleCount)).append(',');
+		appendSection(line, (int) (section % sectionsPerCourse) + 1);
+		line.append(',').append(1 + random.nextInt(4)).append(",inst").append(random.nextInt(instructorCount)).append(',');
+		if (random.nextDouble() < arrangedRate) {
+			line.append('A');
+			return;
+		}
+		int start = firstStart + slotMinutes * random.nextInt((lastStart - firstStart) / slotMinutes + 1);
+		int end = Math.min(start + classLengths[random.nextInt(classLengths.length)], LAST_MINUTE);
+		line.append(dayPattern(random)).append(',').append(toTime(start)).append(',').append(toTime(end));
+	}
+
+	/**
+	 * Appends an invalid course record of one of several kinds.
+	 * @param line builder to append to
+	 * @param random source of the random choices
+	 */
+	private void appendInvalid(StringBuilder line, Random random) {
+		switch (random.nextInt(INVALID_KINDS)) {
+		case 0:
+			line.append("CSC 216,Missing Fields,001");
+			break;
+		case 1:
+			line.append("CSC 216,Bad Credits,001,9,inst0,MW,1330,1445");
+			break;
+		case 2:
+			line.append("CSC 216,Bad Days,001,3,inst0,MX,1330,1445");
+			break;
+		case 3:
+			line.append("CSC 216,End Before Start,001,3,inst0,TH,1445,1330");
+			break;
+		case 4:
+			line.append("CSC 216,Arranged With Times,601,3,inst0,A,1330,1445");
+			break;
+		case 5:
+			line.append("C216,Bad Name,001,3,inst0,MW,1330,1445");
+			break;
+		default:
+			// An empty line
+			break;
+		}
+	}
+
+	/**
+	 * Appends the name of the course with the given number, such as CSC 216.
+	 * @param line builder to append to
+	 * @param course number of the course in the catalog
+	 */
+	private static void appendName(StringBuilder line, long course) {
+		long department = course / NUMBERS;
+		if (department < DEPARTMENTS.length) {
+			line.append(DEPARTMENTS[(int) department]);
+		} else {
+			long code = department - DEPARTMENTS.length;
+			int start = line.length();
+			for (int i = 0; i < 4; i++) {
+				line.insert(start, (char) ('A' + code % 26));
+				code /= 26;
+			}
+		}
+		line.append(' ').append(100 + course % NUMBERS);
+	}
+
+	/**
+	 * Appends a three digit section number.
+	 * @param line builder to append to
+	 * @param section section number from 1 to 999
+	 */
+	private static void appendSection(StringBuilder line, int section) {
+		line.append((char) ('0' + section / 100)).append((char) ('0' + section / 10 % 10))
+				.append((char) ('0' + section % 10));
+	}
+
+	/**
+	 * Returns a day pattern chosen by the patterns' weights.
+	 * @param random source of the random choices
+	 * @return the day pattern
+	 */
+	private String dayPattern(Random random) {
+		int pick = random.nextInt(dayPatternWeights[dayPatternWeights.length - 1]);
+		int i = 0;
+		while (pick >= dayPatternWeights[i]) {
+			i++;
+		}
+		return dayPatterns[i];
+	}
+
+	/**
+	 * Returns the rate if it is between 0 and 1.
+	 * @param rate the rate to check
+	 * @return the rate
+	 * @throws IllegalArgumentException if the rate is out of range
+	 */
+	private static double checkRate(double rate) {
+		if (!(rate >= 0 && rate <= 1)) {
+			throw new IllegalArgumentException("Invalid rate.");
+		}
+		return rate;
+	}
+
+	/**
+	 * Returns whether the days are valid meeting days of a course that is not
+	 * arranged: one or more of M, T, W, H and F, each at most once.
+	 * @param days the days to check
+	 * @return true if the days are valid
+	 */
+	private static boolean isCourseDays(String days) {
+		if (days == null || days.isEmpty()) {
+			return false;
+		}
+		for (int i = 0; i < days.length(); i++) {
+			if ("MTWHF".indexOf(days.charAt(i)) < 0 || days.indexOf(days.charAt(i)) != i) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the time is a valid time in HHMM format.
+	 * @param time the time to check
+	 * @return true if the time is valid
+	 */
+	private static boolean isTime(int time) {
+		return time >= 0 && time / 100 < 24 && time % 100 < 60;
+	}
+
+	/**
+	 * Converts a time in HHMM format to minutes since midnight.
+	 * @param time the time to convert
+	 * @return minutes since midnight
+	 */
+	private static int toMinute(int time) {
+		return time / 100 * 60 + time % 100;
+	}
+
+	/**
+	 * Converts minutes since midnight to a time in HHMM format.
+	 * @param minutes minutes since midnight
+	 * @return the time in HHMM format
+	 */
+	private static int toTime(int minutes) {
+		return minutes / 60 * 100 + minutes % 60;
+	}
+
+	/**
+	 * Writes a file of synthetic course records from the command line.
+	 * @param args the file name, the number of lines, and optionally the seed
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2 || args.length > 3) {
+			System.err.println("Usage: CourseRecordGenerator <file> <lines> [seed]");
+			return;
+		}
+		CourseRecordGenerator generator = new CourseRecordGenerator();
+		if (args.length == 3) {
+			generator.setSeed(Long.parseLong(args[2]));
+		}
+		generator.writeCourseRecords(args[0], Long.parseLong(args[1]));
+	}
+}
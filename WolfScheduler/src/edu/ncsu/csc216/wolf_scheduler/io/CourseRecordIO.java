@@ -2,97 +2,650 @@ package edu.ncsu.csc216.wolf_scheduler.io;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.util.ArrayList;
-import java.util.InputMismatchException;
-import java.util.NoSuchElementException;
-import java.util.Scanner;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.metrics.Counter;
 
 /**
  * Utility class for reading and writing Course records from/to text files.
  * This class provides functionality to read course records from a file and generate a list of
- * valid Courses. 
+ * valid Courses.
  * @author Dania Swelam
  */
 public class CourseRecordIO {
 
+	/** Number of characters read from the file at a time */
+	private static final int BUFFER_SIZE = 64 * 1024;
+	/** Separator between the fields of a course record */
+	private static final char DELIMITER = ',';
+	/** Largest number of bytes of a file mapped into memory at a time */
+	private static final int MAPPED_CHUNK_SIZE = 256 * 1024 * 1024;
+	/** Smallest number of bytes parsed as a separate task when reading in parallel */
+	private static final int MIN_SPLIT_SIZE = 64 * 1024;
+	/** Value parseInt returns for characters that are not a valid integer */
+	private static final long INVALID_INT = Long.MIN_VALUE;
+
     /**
      * Reads course records from a file and generates a list of valid Courses.  Any invalid
      * Courses are ignored.  If the file to read cannot be found or the permissions are incorrect
-     * a File NotFoundException is thrown.
+     * a File NotFoundException is thrown.  Repeated Strings in the records are shared
+     * between the Courses read.
      * @param fileName file to read Course records from
      * @return a list of valid Courses
      * @throws FileNotFoundException if the file cannot be found or read
+     * @throws IllegalArgumentException if an error occurs while reading the file
      */
 	public static ArrayList<Course> readCourseRecords(String fileName) throws FileNotFoundException {
-	    Scanner fileReader = new Scanner(new FileInputStream(fileName));  
-	    ArrayList<Course> courses = new ArrayList<Course>(); 
-	    while (fileReader.hasNextLine()) { 
-	        try { 
-	        	Course course = readCourse(fileReader.nextLine()); 
-	            boolean duplicate = false;
-	            for (int i = 0; i < courses.size(); i++) {
-	                Course current = courses.get(i);
-
-	                if (course.getName().equals(current.getName()) &&
-	                        course.getSection().equals(current.getSection())) {
-	                    duplicate = true;
-	                    break; 
+	    return readCourseRecords(fileName, new StringDictionary());
+	}
+
+	/**
+	 * Reads course records from a file and generates a list of valid Courses, taking the
+	 * names, titles, sections, instructor ids and meeting days of the Courses from the
+	 * given dictionary.  Passing the same dictionary to several loads shares Strings
+	 * between their Courses, and the dictionary reports the heap saved.
+	 * @param fileName file to read Course records from
+	 * @param dictionary dictionary of the Strings read
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IllegalArgumentException if an error occurs while reading the file
+	 */
+	public static ArrayList<Course> readCourseRecords(String fileName, StringDictionary dictionary)
+	        throws FileNotFoundException {
+	    return readCourseRecords(fileName, dictionary, new Counter());
+	}
+
+	/**
+	 * Reads course records from a file and generates a list of valid Courses, taking the
+	 * Strings of the Courses from the given dictionary and adding the number of lines
+	 * skipped to the given counter.  A line is skipped when it is not a valid course
+	 * record, or when a course with the same name and section was already read.
+	 * @param fileName file to read Course records from
+	 * @param dictionary dictionary of the Strings read
+	 * @param skippedLines counter of the lines skipped
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IllegalArgumentException if an error occurs while reading the file
+	 */
+	public static ArrayList<Course> readCourseRecords(String fileName, StringDictionary dictionary, Counter skippedLines)
+	        throws FileNotFoundException {
+	    CourseLoadResult result = loadCourseRecords(fileName, dictionary, 0);
+	    skippedLines.add(result.getRejectionReport().getRejectedCount());
+	    return result.getCourses();
+	}
+
+	/**
+	 * Reads course records from a file like readCourseRecords, and reports the line
+	 * number and reason of each line that is skipped, keeping the first
+	 * RejectionReport.DEFAULT_CAPACITY of them.
+	 * @param fileName file to read Course records from
+	 * @return the valid Courses and the report of the lines rejected
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IllegalArgumentException if an error occurs while reading the file
+	 */
+	public static CourseLoadResult loadCourseRecords(String fileName) throws FileNotFoundException {
+	    return loadCourseRecords(fileName, new StringDictionary(), RejectionReport.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Reads course records from a file like readCourseRecords, taking the Strings of the
+	 * Courses from the given dictionary, and reports the line number and reason of each
+	 * line that is skipped.  Lines are checked with result codes rather than exceptions,
+	 * so rejecting a line costs no more than reading one.  Every rejection is counted,
+	 * but only the first maxRejections are kept in the report.
+	 * @param fileName file to read Course records from
+	 * @param dictionary dictionary of the Strings read
+	 * @param maxRejections number of rejections whose line and reason are kept
+	 * @return the valid Courses and the report of the lines rejected
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IllegalArgumentException if maxRejections is negative, or an error occurs
+	 *                                  while reading the file
+	 */
+	public static CourseLoadResult loadCourseRecords(String fileName, StringDictionary dictionary, int maxRejections)
+	        throws FileNotFoundException {
+	    RejectionReport report = new RejectionReport(maxRejections);
+	    FileInputStream fileInput = new FileInputStream(fileName);
+	    ArrayList<Course> courses = new ArrayList<Course>();
+	    HashSet<String> seen = new HashSet<String>();
+	    long lineNumber = 0;
+	    try (Reader fileReader = new InputStreamReader(fileInput)) {
+	        char[] buffer = new char[BUFFER_SIZE];
+	        int length = 0;
+	        int lineStart = 0;
+	        boolean afterCarriageReturn = false;
+	        int read;
+	        while ((read = fileReader.read(buffer, length, buffer.length - length)) != -1) {
+	            int scanStart = length;
+	            length += read;
+	            for (int i = scanStart; i < length; i++) {
+	                char c = buffer[i];
+	                if (c == '\n' || c == '\r') {
+	                    // The line feed of a \r\n pair does not end another line
+	                    if (!(c == '\n' && afterCarriageReturn && i == lineStart)) {
+	                        lineNumber++;
+	                        RejectReason reason = addCourse(courses, seen, dictionary, buffer, lineStart, i);
+	                        if (reason != null) {
+	                            report.reject(lineNumber, reason);
+	                        }
+	                    }
+	                    afterCarriageReturn = c == '\r';
+	                    lineStart = i + 1;
 	                }
 	            }
 
-	            if (!duplicate) {
-	                courses.add(course); 
-	            } 
-	        } catch (IllegalArgumentException e) {
-	          //Empty catch block: error reading course record
+	            // Move the partial last line to the front, growing the buffer for long lines
+	            length -= lineStart;
+	            if (lineStart > 0) {
+	                System.arraycopy(buffer, lineStart, buffer, 0, length);
+	            } else if (length == buffer.length) {
+	                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+	            }
+	            lineStart = 0;
 	        }
+	        if (length > 0) {
+	            lineNumber++;
+	            RejectReason reason = addCourse(courses, seen, dictionary, buffer, 0, length);
+	            if (reason != null) {
+	                report.reject(lineNumber, reason);
+	            }
+	        }
+	    } catch (IOException e) {
+	        throw new IllegalArgumentException("Unable to read file " + fileName, e);
+	    }
+
+	    return new CourseLoadResult(courses, report);
+	}
+
+	/**
+	 * Reads course records from a file by mapping it into memory and generates a list of
+	 * valid Courses.  The list is the same as the one readCourseRecords returns for the
+	 * file, but records are decoded straight from the mapped bytes without creating a
+	 * String for each line, which is faster for very large files.  The file is mapped in
+	 * line aligned chunks so files larger than 2GB can be read.  The platform default
+	 * character set must store line endings and commas as single bytes, as UTF-8 and
+	 * the ISO-8859 character sets do.
+	 * @param fileName file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IllegalArgumentException if an error occurs while reading the file
+	 */
+	public static ArrayList<Course> readCourseRecordsMapped(String fileName) throws FileNotFoundException {
+	    return readCourseRecordsMapped(fileName, MAPPED_CHUNK_SIZE, null, 0);
+	}
+
+	/**
+	 * Reads course records from a file by mapping it into memory at most chunkSize bytes
+	 * at a time.  A chunk is grown when a single line does not fit in it.
+	 * @param fileName file to read Course records from
+	 * @param chunkSize largest number of bytes to map at a time
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IllegalArgumentException if an error occurs while reading the file
+	 */
+	static ArrayList<Course> readCourseRecordsMapped(String fileName, int chunkSize) throws FileNotFoundException {
+	    return readCourseRecordsMapped(fileName, chunkSize, null, 0);
+	}
+
+	/**
+	 * Reads course records from a file by mapping it into memory and parsing line aligned
+	 * pieces of it on a fork/join pool with the given number of threads.  The list is the
+	 * same as the one readCourseRecords returns for the file: courses stay in file order
+	 * and the first course read with a given name and section is kept.  The same
+	 * character set restrictions as readCourseRecordsMapped apply.
+	 * @param fileName file to read Course records from
+	 * @param parallelism number of threads used to parse the records
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IllegalArgumentException if parallelism is less than one, or an error occurs
+	 *                                  while reading the file
+	 */
+	public static ArrayList<Course> readCourseRecordsParallel(String fileName, int parallelism) throws FileNotFoundException {
+	    return readCourseRecordsParallel(fileName, parallelism, MAPPED_CHUNK_SIZE, MIN_SPLIT_SIZE);
+	}
+
+	/**
+	 * Reads course records from a file in parallel, mapping at most chunkSize bytes at a
+	 * time and splitting each chunk into pieces of at least minSplitSize bytes.
+	 * @param fileName file to read Course records from
+	 * @param parallelism number of threads used to parse the records
+	 * @param chunkSize largest number of bytes to map at a time
+	 * @param minSplitSize smallest number of bytes parsed as a separate task
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IllegalArgumentException if parallelism is less than one, or an error occurs
+	 *                                  while reading the file
+	 */
+	static ArrayList<Course> readCourseRecordsParallel(String fileName, int parallelism, int chunkSize, int minSplitSize)
+	        throws FileNotFoundException {
+	    if (parallelism < 1) {
+	        throw new IllegalArgumentException("Invalid parallelism.");
+	    }
+	    ForkJoinPool pool = new ForkJoinPool(parallelism);
+	    try {
+	        return readCourseRecordsMapped(fileName, chunkSize, pool, minSplitSize);
+	    } finally {
+	        pool.shutdown();
 	    }
-	    
-	    fileReader.close();
-	    
+	}
+
+	/**
+	 * Reads course records from a file by mapping it into memory one line aligned chunk at
+	 * a time.  Each chunk is parsed on the calling thread when pool is null, and split
+	 * into tasks on the pool otherwise.
+	 * @param fileName file to read Course records from
+	 * @param chunkSize largest number of bytes to map at a time
+	 * @param pool pool to parse chunks on, or null to parse them on the calling thread
+	 * @param minSplitSize smallest number of bytes parsed as a separate task
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 * @throws IllegalArgumentException if an error occurs while reading the file
+	 */
+	private static ArrayList<Course> readCourseRecordsMapped(String fileName, int chunkSize, ForkJoinPool pool,
+	        int minSplitSize) throws FileNotFoundException {
+	    FileInputStream fileInput = new FileInputStream(fileName);
+	    ArrayList<Course> courses = new ArrayList<Course>();
+	    HashSet<String> seen = new HashSet<String>();
+	    MappedLineReader reader = new MappedLineReader(false, new StringDictionary());
+	    try (FileChannel channel = fileInput.getChannel()) {
+	        long size = channel.size();
+	        long position = 0;
+	        int mapSize = chunkSize;
+	        while (position < size) {
+	            int length = (int) Math.min(mapSize, size - position);
+	            MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+	            boolean lastChunk = position + length == size;
+
+	            // Only whole lines are read from a chunk unless it is the end of the file
+	            int chunkEnd = length;
+	            if (!lastChunk) {
+	                while (chunkEnd > 0 && chunk.get(chunkEnd - 1) != '\n' && chunk.get(chunkEnd - 1) != '\r') {
+	                    chunkEnd--;
+	                }
+	                if (chunkEnd == 0) {
+	                    mapSize = (int) Math.min((long) mapSize * 2, Integer.MAX_VALUE);
+	                    continue;
+	                }
+	            }
+
+	            if (pool == null) {
+	                reader.readLines(chunk, 0, chunkEnd, lastChunk, courses, seen);
+	            } else {
+	                int splitSize = Math.max(minSplitSize, chunkEnd / (pool.getParallelism() * 4));
+	                ParseTask task = new ParseTask(chunk, 0, chunkEnd, lastChunk, reader.afterCarriageReturn, splitSize);
+	                for (Course course : pool.invoke(task)) {
+	                    if (seen.add(courseKey(course))) {
+	                        courses.add(course);
+	                    }
+	                }
+	                reader.afterCarriageReturn = chunk.get(chunkEnd - 1) == '\r';
+	            }
+
+	            position += chunkEnd;
+	            mapSize = chunkSize;
+	        }
+	    } catch (IOException e) {
+	        throw new IllegalArgumentException("Unable to read file " + fileName, e);
+	    }
+
 	    return courses;
 	}
 
-    private static Course readCourse(String nextLine) throws InputMismatchException {
-        
-        try (Scanner scanner = new Scanner(nextLine)) {
-            
-            scanner.useDelimiter(",");
-
-            String name = scanner.next();
-            String title = scanner.next();
-            String section = scanner.next();
-            int creditHours = scanner.nextInt();
-            String instructorId = scanner.next();
-            String meetingDays = scanner.next();
-
-            if ("A".equals(meetingDays)) {
-                
-                if (scanner.hasNext()) {
-                    throw new IllegalArgumentException("Unexpected tokens after meetingDays 'A'.");
-                }
-                scanner.close();
-                
-                return new Course(name, title, section, creditHours, instructorId, meetingDays);
-            } else {
-            
-                int startTime = scanner.nextInt();
-                int endTime = scanner.nextInt();
-
-                
-                if (scanner.hasNext()) {
-                    throw new IllegalArgumentException("Unexpected tokens after meetingDays.");
-                }
-                scanner.close();
-               
-                return new Course(name, title, section, creditHours, instructorId, meetingDays, startTime, endTime);
+	/**
+	 * Splits lines out of mapped bytes and decodes them into a reused character buffer.
+	 * Whether the last line ended with a carriage return is remembered between calls so
+	 * that a \r\n pair split across chunks ends a single line.
+	 */
+	private static class MappedLineReader {
+
+	    /** Decoder for the platform default character set */
+	    private final CharsetDecoder decoder = Charset.defaultCharset().newDecoder()
+	            .onMalformedInput(CodingErrorAction.REPLACE)
+	            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+	    /** Buffer the current line is decoded into */
+	    private CharBuffer line = CharBuffer.allocate(1024);
+	    /** Whether the last line read ended with a carriage return */
+	    private boolean afterCarriageReturn;
+	    /** Dictionary of the Strings read */
+	    private final StringDictionary dictionary;
+
+	    /**
+	     * Constructs a reader that starts after the given kind of line ending.
+	     * @param afterCarriageReturn whether the bytes to read follow a carriage return
+	     * @param dictionary dictionary of the Strings read
+	     */
+	    MappedLineReader(boolean afterCarriageReturn, StringDictionary dictionary) {
+	        this.afterCarriageReturn = afterCarriageReturn;
+	        this.dictionary = dictionary;
+	    }
+
+	    /**
+	     * Reads the lines between start and end and adds the valid courses they describe to
+	     * the list.  A final line without a line ending is only read at the end of input.
+	     * @param bytes bytes holding the lines
+	     * @param start index of the first byte to read
+	     * @param end index one past the last byte to read
+	     * @param endOfInput whether end is the end of the file
+	     * @param courses list to add courses to
+	     * @param seen name and section keys of the courses read so far, or null to keep
+	     *             duplicate courses
+	     */
+	    void readLines(ByteBuffer bytes, int start, int end, boolean endOfInput, ArrayList<Course> courses,
+	            HashSet<String> seen) {
+	        int lineStart = start;
+	        for (int i = start; i < end; i++) {
+	            byte b = bytes.get(i);
+	            if (b == '\n' || b == '\r') {
+	                // The line feed of a \r\n pair does not end another line
+	                if (!(b == '\n' && afterCarriageReturn && i == lineStart)) {
+	                    decodeLine(bytes, lineStart, i);
+	                    addCourse(courses, seen, dictionary, line.array(), 0, line.position());
+	                }
+	                afterCarriageReturn = b == '\r';
+	                lineStart = i + 1;
+	            }
+	        }
+	        if (endOfInput && lineStart < end) {
+	            decodeLine(bytes, lineStart, end);
+	            addCourse(courses, seen, dictionary, line.array(), 0, line.position());
+	        }
+	    }
+
+	    /**
+	     * Decodes the bytes of a line into the line buffer, replacing the buffer with a
+	     * larger one if the line does not fit.  ASCII lines are copied directly and other
+	     * lines go through the decoder.  Afterwards the characters of the line are at the
+	     * start of the buffer's array, and the buffer's position is the line's length.
+	     * @param bytes bytes holding the line
+	     * @param start index of the first byte of the line
+	     * @param end index one past the last byte of the line
+	     */
+	    private void decodeLine(ByteBuffer bytes, int start, int end) {
+	        if (line.capacity() < end - start) {
+	            line = CharBuffer.allocate(Math.max(end - start, line.capacity() * 2));
+	        }
+	        char[] chars = line.array();
+	        int length = 0;
+	        for (int i = start; i < end; i++) {
+	            byte b = bytes.get(i);
+	            if (b < 0) {
+	                break;
+	            }
+	            chars[length++] = (char) b;
+	        }
+	        line.clear();
+	        if (length == end - start) {
+	            line.position(length);
+	            return;
+	        }
+
+	        ByteBuffer lineBytes = bytes.duplicate();
+	        lineBytes.limit(end).position(start);
+	        decoder.reset();
+	        while (decoder.decode(lineBytes, line, true).isOverflow()) {
+	            grow();
+	        }
+	        while (decoder.flush(line).isOverflow()) {
+	            grow();
+	        }
+	    }
+
+	    /**
+	     * Replaces the line buffer with one of twice the capacity holding the characters
+	     * decoded so far.
+	     */
+	    private void grow() {
+	        CharBuffer larger = CharBuffer.allocate(line.capacity() * 2);
+	        line.flip();
+	        larger.put(line);
+	        line = larger;
+	    }
+	}
+
+	/**
+	 * Parses the lines in a range of mapped bytes, splitting the range in two at a line
+	 * feed and parsing the halves in parallel while it is larger than the split size.
+	 * The courses are returned in the order their lines appear, including duplicates.
+	 * Each range parsed without splitting shares Strings through its own dictionary.
+	 */
+	private static class ParseTask extends RecursiveTask<ArrayList<Course>> {
+
+	    /** ID used for serialization. */
+	    private static final long serialVersionUID = 1L;
+	    /** Bytes holding the lines */
+	    private final transient ByteBuffer bytes;
+	    /** Index of the first byte to parse */
+	    private final int start;
+	    /** Index one past the last byte to parse */
+	    private final int end;
+	    /** Whether end is the end of the file */
+	    private final boolean endOfInput;
+	    /** Whether the first byte follows a carriage return */
+	    private final boolean afterCarriageReturn;
+	    /** Largest number of bytes parsed without splitting */
+	    private final int splitSize;
+
+	    /**
+	     * Constructs a task parsing the lines between start and end.
+	     * @param bytes bytes holding the lines
+	     * @param start index of the first byte to parse
+	     * @param end index one past the last byte to parse
+	     * @param endOfInput whether end is the end of the file
+	     * @param afterCarriageReturn whether the first byte follows a carriage return
+	     * @param splitSize largest number of bytes parsed without splitting
+	     */
+	    ParseTask(ByteBuffer bytes, int start, int end, boolean endOfInput, boolean afterCarriageReturn, int splitSize) {
+	        this.bytes = bytes;
+	        this.start = start;
+	        this.end = end;
+	        this.endOfInput = endOfInput;
+	        this.afterCarriageReturn = afterCarriageReturn;
+	        this.splitSize = splitSize;
+	    }
+
+	    /**
+	     * Parses the lines of this task's range.
+	     * @return the valid courses in the range in file order
+	     */
+	    @Override
+	    protected ArrayList<Course> compute() {
+	        if (end - start > splitSize) {
+	            int middle = start + (end - start) / 2;
+	            while (middle < end && bytes.get(middle) != '\n') {
+	                middle++;
+	            }
+	            middle++;
+	            if (middle < end) {
+	                ParseTask first = new ParseTask(bytes, start, middle, false, afterCarriageReturn, splitSize);
+	                ParseTask second = new ParseTask(bytes, middle, end, endOfInput, false, splitSize);
+	                second.fork();
+	                ArrayList<Course> courses = first.compute();
+	                courses.addAll(second.join());
+	                return courses;
+	            }
+	        }
+	        ArrayList<Course> courses = new ArrayList<Course>();
+	        new MappedLineReader(afterCarriageReturn, new StringDictionary()).readLines(bytes, start, end, endOfInput, courses, null);
+	        return courses;
+	    }
+	}
+
+	/**
+	 * Reads the course record between start and end and adds it to the list of courses
+	 * if it is valid and is not a duplicate of a course already in the list. The first
+	 * course read with a given name and section is kept. The record is checked field by
+	 * field before the Course is constructed, so an invalid record throws no exception.
+	 * @param courses list of courses read so far
+	 * @param seen name and section keys of the courses read so far, or null to keep
+	 *             duplicate courses
+	 * @param dictionary dictionary of the Strings read
+	 * @param line characters holding the course record
+	 * @param start index of the first character of the record
+	 * @param end index one past the last character of the record
+	 * @return null if the course was added, or the reason the record was skipped
+	 */
+	private static RejectReason addCourse(ArrayList<Course> courses, HashSet<String> seen, StringDictionary dictionary,
+	        char[] line, int start, int end) {
+	    // A single leading or trailing delimiter is ignored, as the Scanner based reader did
+	    if (start < end && line[start] == DELIMITER) {
+	        start++;
+	    }
+	    if (start < end && line[end - 1] == DELIMITER) {
+	        end--;
+	    }
+
+	    int nameEnd = nextDelimiter(line, start, end);
+	    int titleEnd = nextDelimiter(line, nameEnd + 1, end);
+	    int sectionEnd = nextDelimiter(line, titleEnd + 1, end);
+	    int creditsEnd = nextDelimiter(line, sectionEnd + 1, end);
+	    int instructorEnd = nextDelimiter(line, creditsEnd + 1, end);
+	    if (instructorEnd >= end) {
+	        return RejectReason.MISSING_FIELDS;
+	    }
+	    int daysEnd = nextDelimiter(line, instructorEnd + 1, end);
+
+	    // Fields are interned only once the course is accepted, so rejected records add no Strings
+	    String name = dictionary.lookup(line, start, nameEnd);
+	    String title = dictionary.lookup(line, nameEnd + 1, titleEnd);
+	    String section = dictionary.lookup(line, titleEnd + 1, sectionEnd);
+	    long creditHours = parseInt(line, sectionEnd + 1, creditsEnd);
+	    String instructorId = dictionary.lookup(line, creditsEnd + 1, instructorEnd);
+	    String meetingDays = dictionary.lookup(line, instructorEnd + 1, daysEnd);
+
+	    long startTime = 0;
+	    long endTime = 0;
+	    if ("A".equals(meetingDays)) {
+	        if (daysEnd != end) {
+	            return RejectReason.EXTRA_FIELDS;
+	        }
+	    } else {
+	        if (daysEnd >= end) {
+	            return RejectReason.MISSING_FIELDS;
+	        }
+	        int startEnd = nextDelimiter(line, daysEnd + 1, end);
+	        if (startEnd >= end) {
+	            return RejectReason.MISSING_FIELDS;
+	        }
+	        int endEnd = nextDelimiter(line, startEnd + 1, end);
+	        if (endEnd != end) {
+	            return RejectReason.EXTRA_FIELDS;
+	        }
+	        startTime = parseInt(line, daysEnd + 1, startEnd);
+	        endTime = parseInt(line, startEnd + 1, endEnd);
+	    }
+
+	    if (!Course.isValidName(name)) {
+	        return RejectReason.INVALID_NAME;
+	    }
+	    if (!Course.isValidTitle(title)) {
+	        return RejectReason.INVALID_TITLE;
+	    }
+	    if (!Course.isValidSection(section)) {
+	        return RejectReason.INVALID_SECTION;
+	    }
+	    if (creditHours == INVALID_INT || !Course.isValidCredits((int) creditHours)) {
+	        return RejectReason.INVALID_CREDITS;
+	    }
+	    if (!Course.isValidInstructorId(instructorId)) {
+	        return RejectReason.INVALID_INSTRUCTOR_ID;
+	    }
+	    if (startTime == INVALID_INT || endTime == INVALID_INT
+	            || !Course.isValidMeetingDaysAndTime(meetingDays, (int) startTime, (int) endTime)) {
+	        return RejectReason.INVALID_MEETING_DAYS_AND_TIMES;
+	    }
+
+	    if (seen != null && !seen.add(courseKey(name, section))) {
+	        return RejectReason.DUPLICATE;
+	    }
+	    courses.add(new Course(dictionary.intern(name), dictionary.intern(title), dictionary.intern(section),
+	            (int) creditHours, dictionary.intern(instructorId), dictionary.intern(meetingDays), (int) startTime,
+	            (int) endTime));
+	    return null;
+	}
+
+	/**
+	 * Returns the key identifying a course by its name and section.
+	 * @param course course to get the key of
+	 * @return the course's name and section key
+	 */
+	private static String courseKey(Course course) {
+	    return courseKey(course.getName(), course.getSection());
+	}
+
+	/**
+	 * Returns the key identifying a course by its name and section.
+	 * @param name name of the course
+	 * @param section section of the course
+	 * @return the course's name and section key
+	 */
+	private static String courseKey(String name, String section) {
+	    return name + "," + section;
+	}
+
+    /**
+     * Returns the index of the next delimiter at or after from, or end if there is none.
+     * @param line characters holding the course record
+     * @param from index to start searching at
+     * @param end index one past the last character of the record
+     * @return index of the next delimiter, or end if there are no more delimiters
+     */
+    private static int nextDelimiter(char[] line, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (line[i] == DELIMITER) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Parses the decimal integer between start and end without creating a String.
+     * An optional leading sign and leading zeros are accepted.
+     * @param line characters holding the course record
+     * @param start index of the first character of the integer
+     * @param end index one past the last character of the integer
+     * @return the parsed integer, or INVALID_INT if the characters are not a valid integer
+     */
+    private static long parseInt(char[] line, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (line[i] == '-' || line[i] == '+')) {
+            negative = line[i] == '-';
+            i++;
+        }
+        if (i >= end) {
+            return INVALID_INT;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            char c = line[i];
+            if (c < '0' || c > '9') {
+                return INVALID_INT;
+            }
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                return INVALID_INT;
             }
-        } catch (NoSuchElementException e) {
-            
-            throw new IllegalArgumentException("Invalid values in the input string.", e);
-          }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            return INVALID_INT;
+        }
+        return value;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+/**
+ * Reasons a line of course records is not read as a course.
+ * @author Dania Swelam
+ */
+public enum RejectReason {
+
+	/** The line has too few fields */
+	MISSING_FIELDS("Missing fields."),
+	/** The line has more fields than its meeting days allow */
+	EXTRA_FIELDS("Unexpected fields."),
+	/** The course name is not 1 to 4 letters, a space and three digits */
+	INVALID_NAME("Invalid course name."),
+	/** The title is empty */
+	INVALID_TITLE("Invalid title."),
+	/** The section is not three digits */
+	INVALID_SECTION("Invalid section."),
+	/** The credits are not a number from 1 to 5 */
+	INVALID_CREDITS("Invalid credits."),
+	/** The instructor id is empty */
+	INVALID_INSTRUCTOR_ID("Invalid instructor id."),
+	/** The meeting days or times are not valid for a course */
+	INVALID_MEETING_DAYS_AND_TIMES("Invalid meeting days and times."),
+	/** A course with the same name and section was read from an earlier line */
+	DUPLICATE("Duplicate course.");
+
+	/** Description of the reason */
+	private final String message;
+
+	/**
+	 * Constructs a reason with the given description.
+	 * @param message description of the reason
+	 */
+	RejectReason(String message) {
+		this.message = message;
+	}
+
+	/**
+	 * Returns a description of the reason.
+	 * @return the description
+	 */
+	public String getMessage() {
+		return message;
+	}
+}
@@ -0,0 +1,144 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+/**
+ * The lines of a load of course records that were not read as courses, with the
+ * reason each was rejected. Every rejection is counted, but only the line numbers
+ * and reasons of the first few are kept, so the report takes bounded memory no
+ * matter how dirty the records are.
+ * @author Dania Swelam
+ */
+public class RejectionReport {
+
+	/** Number of rejections kept by default */
+	public static final int DEFAULT_CAPACITY = 1000;
+	/** Reasons by ordinal */
+	private static final RejectReason[] REASONS = RejectReason.values();
+
+	/** Line numbers of the rejections kept */
+	private final long[] lineNumbers;
+	/** Ordinals of the reasons of the rejections kept */
+	private final byte[] reasons;
+	/** Number of rejections kept */
+	private int size;
+	/** Number of rejections for each reason, by ordinal */
+	private final long[] counts = new long[REASONS.length];
+	/** Number of rejections */
+	private long rejectedCount;
+
+	/**
+	 * Constructs an empty report keeping DEFAULT_CAPACITY rejections.
+	 */
+	public RejectionReport() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty report keeping the given number of rejections.
+	 * @param capacity number of rejections to keep, or 0 to only count them
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public RejectionReport(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Invalid capacity.");
+		}
+		lineNumbers = new long[capacity];
+		reasons = new byte[capacity];
+	}
+
+	/**
+	 * Records that a line was rejected.
+	 * @param lineNumber number of the line, starting from 1
+	 * @param reason the reason the line was rejected
+	 */
+	public void reject(long lineNumber, RejectReason reason) {
+		if (size < lineNumbers.length) {
+			lineNumbers[size] = lineNumber;
+			reasons[size] = (byte) reason.ordinal();
+			size++;
+		}
+		counts[reason.ordinal()]++;
+		rejectedCount++;
+	}
+
+	/**
+	 * Returns the number of rejections kept.
+	 * @return the number of rejections kept
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the line number of a rejection kept, in the order they were recorded.
+	 * @param index position of the rejection
+	 * @return the line number
+	 * @throws IndexOutOfBoundsException if the index is not a rejection kept
+	 */
+	public long getLineNumber(int index) {
+		checkIndex(index);
+		return lineNumbers[index];
+	}
+
+	/**
+	 * Returns the reason of a rejection kept, in the order they were recorded.
+	 * @param index position of the rejection
+	 * @return the reason
+	 * @throws IndexOutOfBoundsException if the index is not a rejection kept
+	 */
+	public RejectReason getReason(int index) {
+		checkIndex(index);
+		return REASONS[reasons[index]];
+	}
+
+	/**
+	 * Returns the number of lines rejected, including those not kept.
+	 * @return the number of rejections
+	 */
+	public long getRejectedCount() {
+		return rejectedCount;
+	}
+
+	/**
+	 * Returns the number of lines rejected for the given reason.
+	 * @param reason the reason
+	 * @return the number of rejections for the reason
+	 */
+	public long getCount(RejectReason reason) {
+		return counts[reason.ordinal()];
+	}
+
+	/**
+	 * Returns whether more lines were rejected than the report keeps.
+	 * @return true if some rejections were only counted
+	 */
+	public boolean isTruncated() {
+		return rejectedCount > size;
+	}
+
+	/**
+	 * Returns a one line summary of the number of lines rejected for each reason.
+	 * @return the summary
+	 */
+	public String getSummary() {
+		StringBuilder summary = new StringBuilder().append(rejectedCount).append(" lines rejected");
+		String separator = ": ";
+		for (RejectReason reason : REASONS) {
+			if (counts[reason.ordinal()] > 0) {
+				summary.append(separator).append(counts[reason.ordinal()]).append(' ').append(reason);
+				separator = ", ";
+			}
+		}
+		return summary.toString();
+	}
+
+	/**
+	 * Checks that the index is the position of a rejection kept.
+	 * @param index the index to check
+	 * @throws IndexOutOfBoundsException if the index is not a rejection kept
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+}
@@ -0,0 +1,252 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+/**
+ * Deduplicates the Strings created while reading course records. Fields such as
+ * titles, instructor ids and sections repeat across many records, so each
+ * distinct run of characters is turned into a String once and the same String is
+ * returned for every later occurrence. Lookups take the characters straight from
+ * the reader's buffer, so a repeated field creates no garbage.
+ *
+ * A dictionary is meant to live for one load, or a few loads whose courses should
+ * share Strings, and is not safe for use by more than one thread at a time. It
+ * counts the Strings it reuses so the heap saved can be reported.
+ *
+ * @author Dania Swelam
+ */
+public class StringDictionary {
+
+	/** Initial number of slots in the table */
+	private static final int INITIAL_CAPACITY = 1024;
+	/** Estimated bytes of a String object, not counting its character array */
+	private static final int STRING_OBJECT_BYTES = 24;
+	/** Estimated bytes of an array header */
+	private static final int ARRAY_HEADER_BYTES = 16;
+
+	/** Strings in the dictionary, in open addressing slots, null where empty */
+	private String[] strings = new String[INITIAL_CAPACITY];
+	/** Hash codes of the Strings in each slot */
+	private int[] hashes = new int[INITIAL_CAPACITY];
+	/** Number of Strings in the dictionary */
+	private int size;
+	/** Number of times a String already in the dictionary was returned */
+	private long hits;
+	/** Number of characters in the Strings that were reused instead of created */
+	private long savedChars;
+	/** Estimated bytes of the Strings that were reused instead of created */
+	private long savedBytes;
+
+	/**
+	 * Returns the String holding the characters between start and end, creating and
+	 * adding it to the dictionary if it is not already there.
+	 * @param chars characters holding the String
+	 * @param start index of the first character
+	 * @param end index one past the last character
+	 * @return the dictionary's String with the characters
+	 */
+	public String intern(char[] chars, int start, int end) {
+		int hash = hash(chars, start, end);
+		int slot = find(hash, chars, start, end);
+		if (strings[slot] != null) {
+			return reuse(strings[slot]);
+		}
+		return add(slot, hash, new String(chars, start, end - start));
+	}
+
+	/**
+	 * Returns the String holding the characters between start and end without adding
+	 * it to the dictionary or counting it as reused: the dictionary's String if it has
+	 * one, or a new String otherwise. Readers look fields up this way while checking a
+	 * record, and intern them only once the record is accepted.
+	 * @param chars characters holding the String
+	 * @param start index of the first character
+	 * @param end index one past the last character
+	 * @return the dictionary's String with the characters, or a new String
+	 */
+	public String lookup(char[] chars, int start, int end) {
+		String s = strings[find(hash(chars, start, end), chars, start, end)];
+		return s != null ? s : new String(chars, start, end - start);
+	}
+
+	/**
+	 * Returns the dictionary's String equal to the given String, adding the given
+	 * String to the dictionary if it has none.
+	 * @param s String to intern, such as one returned by lookup
+	 * @return the dictionary's String equal to s
+	 */
+	public String intern(String s) {
+		int hash = s.hashCode();
+		int mask = strings.length - 1;
+		int slot = (hash ^ hash >>> 16) & mask;
+		while (strings[slot] != null) {
+			if (hashes[slot] == hash && strings[slot].equals(s)) {
+				return reuse(strings[slot]);
+			}
+			slot = (slot + 1) & mask;
+		}
+		return add(slot, hash, s);
+	}
+
+	/**
+	 * Returns the number of distinct Strings in the dictionary.
+	 * @return the number of Strings
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of times a String already in the dictionary was returned
+	 * instead of creating a new one.
+	 * @return the number of reused Strings
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of characters in the Strings that were reused.
+	 * @return the number of characters not copied into new Strings
+	 */
+	public long getSavedChars() {
+		return savedChars;
+	}
+
+	/**
+	 * Returns an estimate of the heap the reused Strings would have taken, assuming
+	 * compact Strings with one byte for each Latin-1 character.
+	 * @return the estimated bytes saved
+	 */
+	public long getSavedBytes() {
+		return savedBytes;
+	}
+
+	/**
+	 * Returns a one line report of the Strings held and the heap saved by reusing them.
+	 * @return the heap report
+	 */
+	public String getHeapReport() {
+		return size + " distinct strings, " + hits + " reused (" + savedChars + " chars), about "
+				+ savedBytes / 1024 + " KB of heap saved";
+	}
+
+	/**
+	 * Returns the hash code a String of the characters between start and end has.
+	 * @param chars characters to hash
+	 * @param start index of the first character
+	 * @param end index one past the last character
+	 * @return the String hash code of the characters
+	 */
+	private static int hash(char[] chars, int start, int end) {
+		int hash = 0;
+		for (int i = start; i < end; i++) {
+			hash = 31 * hash + chars[i];
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns the slot holding the String with the characters between start and end,
+	 * or the empty slot where it would be added.
+	 * @param hash hash code of the characters
+	 * @param chars characters to find
+	 * @param start index of the first character
+	 * @param end index one past the last character
+	 * @return the slot of the String, or the empty slot for it
+	 */
+	private int find(int hash, char[] chars, int start, int end) {
+		int mask = strings.length - 1;
+		int slot = (hash ^ hash >>> 16) & mask;
+		while (strings[slot] != null && (hashes[slot] != hash || !matches(strings[slot], chars, start, end))) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Counts a String already in the dictionary as reused and returns it.
+	 * @param s the dictionary's String
+	 * @return the String
+	 */
+	private String reuse(String s) {
+		hits++;
+		savedChars += s.length();
+		savedBytes += estimateBytes(s);
+		return s;
+	}
+
+	/**
+	 * Adds a String to an empty slot, growing the table when it is half full.
+	 * @param slot empty slot for the String
+	 * @param hash hash code of the String
+	 * @param s String to add
+	 * @return the String
+	 */
+	private String add(int slot, int hash, String s) {
+		strings[slot] = s;
+		hashes[slot] = hash;
+		size++;
+		if (size * 2 > strings.length) {
+			resize();
+		}
+		return s;
+	}
+
+	/**
+	 * Returns whether the String holds exactly the characters between start and end.
+	 * @param s String to compare
+	 * @param chars characters to compare with
+	 * @param start index of the first character
+	 * @param end index one past the last character
+	 * @return true if the String has the same characters
+	 */
+	private static boolean matches(String s, char[] chars, int start, int end) {
+		if (s.length() != end - start) {
+			return false;
+		}
+		for (int i = 0; i < s.length(); i++) {
+			if (s.charAt(i) != chars[start + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Estimates the bytes a String takes on the heap, with its character array.
+	 * @param s String to estimate
+	 * @return the estimated bytes of the String
+	 */
+	private static long estimateBytes(String s) {
+		int bytesPerChar = 1;
+		for (int i = 0; i < s.length(); i++) {
+			if (s.charAt(i) > 0xFF) {
+				bytesPerChar = 2;
+				break;
+			}
+		}
+		long arrayBytes = (ARRAY_HEADER_BYTES + (long) s.length() * bytesPerChar + 7) & ~7L;
+		return STRING_OBJECT_BYTES + arrayBytes;
+	}
+
+	/**
+	 * Doubles the number of slots in the table and moves every String to its new slot.
+	 */
+	private void resize() {
+		String[] oldStrings = strings;
+		int[] oldHashes = hashes;
+		strings = new String[oldStrings.length * 2];
+		hashes = new int[oldStrings.length * 2];
+		int mask = strings.length - 1;
+		for (int i = 0; i < oldStrings.length; i++) {
+			if (oldStrings[i] != null) {
+				int slot = (oldHashes[i] ^ oldHashes[i] >>> 16) & mask;
+				while (strings[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				strings[slot] = oldStrings[i];
+				hashes[slot] = oldHashes[i];
+			}
+		}
+	}
+
+}
@@ -0,0 +1,41 @@
+package edu.ncsu.csc216.wolf_scheduler.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count that only goes up, such as the number of conflict checks performed.
+ * Counters can be incremented from many threads at once without contention.
+ * @author Dania Swelam
+ */
+public class Counter {
+
+	/** The count */
+	private final LongAdder count = new LongAdder();
+
+	/**
+	 * Adds one to the count.
+	 */
+	public void increment() {
+		count.increment();
+	}
+
+	/**
+	 * Adds the given amount to the count.
+	 * @param amount amount to add
+	 * @throws IllegalArgumentException if the amount is negative
+	 */
+	public void add(long amount) {
+		if (amount < 0) {
+			throw new IllegalArgumentException("Invalid amount.");
+		}
+		count.add(amount);
+	}
+
+	/**
+	 * Returns the count.
+	 * @return the count
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+}
@@ -0,0 +1,210 @@
+package edu.ncsu.csc216.wolf_scheduler.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanException;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import javax.management.RuntimeOperationsException;
+
+/**
+ * Registry that publishes its metrics as the read-only attributes of a JMX MBean,
+ * so they can be watched with tools such as JConsole or VisualVM. Each counter is
+ * an attribute with its name. Each latency histogram is a set of attributes named
+ * after it: name.count, and name.meanNanos, name.p50Nanos, name.p90Nanos,
+ * name.p99Nanos, name.p999Nanos and name.maxNanos. The Report attribute holds
+ * the text report of every metric. Metrics created after the MBean is registered
+ * appear as they are created.
+ * @author Dania Swelam
+ */
+public class JmxMetricsRegistry extends SimpleMetricsRegistry implements DynamicMBean {
+
+	/** Default name the MBean is registered under */
+	public static final String DEFAULT_OBJECT_NAME = "edu.ncsu.csc216.wolf_scheduler:type=Metrics";
+	/** Name of the attribute holding the text report */
+	private static final String REPORT = "Report";
+	/** Attribute name suffixes of a histogram */
+	private static final String[] HISTOGRAM_SUFFIXES = { "count", "meanNanos", "p50Nanos", "p90Nanos", "p99Nanos",
+		"p999Nanos", "maxNanos" };
+
+	/** Name the MBean is registered under, or null if it is not registered */
+	private ObjectName objectName;
+
+	/**
+	 * Registers the MBean with the platform MBean server under the default name.
+	 * @throws IllegalArgumentException if an MBean is already registered under the name
+	 */
+	public void register() {
+		register(DEFAULT_OBJECT_NAME);
+	}
+
+	/**
+	 * Registers the MBean with the platform MBean server under the given name.
+	 * @param name the object name to register under
+	 * @throws IllegalArgumentException if the name is invalid, an MBean is already
+	 *                                  registered under it, or this registry is
+	 *                                  already registered
+	 */
+	public synchronized void register(String name) {
+		if (objectName != null) {
+			throw new IllegalArgumentException("Metrics are already registered.");
+		}
+		try {
+			ObjectName newName = new ObjectName(name);
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, newName);
+			objectName = newName;
+		} catch (JMException | NullPointerException e) {
+			throw new IllegalArgumentException("Cannot register metrics.", e);
+		}
+	}
+
+	/**
+	 * Unregisters the MBean from the platform MBean server if it is registered.
+	 */
+	public synchronized void unregister() {
+		if (objectName == null) {
+			return;
+		}
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			server.unregisterMBean(objectName);
+		} catch (InstanceNotFoundException e) {
+			// Already unregistered through the server
+		} catch (JMException e) {
+			throw new IllegalArgumentException("Cannot unregister metrics.", e);
+		}
+		objectName = null;
+	}
+
+	/**
+	 * Returns the value of a metric attribute.
+	 * @param attribute the name of the attribute
+	 * @return the value of the attribute
+	 * @throws AttributeNotFoundException if there is no such attribute
+	 * @throws RuntimeOperationsException wrapping an IllegalArgumentException if the name is null
+	 */
+	@Override
+	public Object getAttribute(String attribute) throws AttributeNotFoundException {
+		if (attribute == null) {
+			throw new RuntimeOperationsException(new IllegalArgumentException("Invalid attribute name."));
+		}
+		if (REPORT.equals(attribute)) {
+			return getReport();
+		}
+		Map<String, Counter> counters = getCounters();
+		if (counters.containsKey(attribute)) {
+			return counters.get(attribute).getCount();
+		}
+
+		int dot = attribute.lastIndexOf('.');
+		LatencyHistogram histogram = dot < 0 ? null : getHistograms().get(attribute.substring(0, dot));
+		if (histogram != null) {
+			switch (attribute.substring(dot + 1)) {
+			case "count":
+				return histogram.getCount();
+			case "meanNanos":
+				return histogram.getMean();
+			case "p50Nanos":
+				return histogram.getValueAtPercentile(50);
+			case "p90Nanos":
+				return histogram.getValueAtPercentile(90);
+			case "p99Nanos":
+				return histogram.getValueAtPercentile(99);
+			case "p999Nanos":
+				return histogram.getValueAtPercentile(99.9);
+			case "maxNanos":
+				return histogram.getMax();
+			default:
+				break;
+			}
+		}
+		throw new AttributeNotFoundException(attribute);
+	}
+
+	/**
+	 * Rejects the change, as every attribute is read-only.
+	 * @param attribute the attribute to set
+	 * @throws AttributeNotFoundException always
+	 */
+	@Override
+	public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException("Metrics are read-only.");
+	}
+
+	/**
+	 * Returns the values of the attributes that exist among those asked for.
+	 * @param attributes the names of the attributes
+	 * @return the attributes found with their values
+	 */
+	@Override
+	public AttributeList getAttributes(String[] attributes) {
+		AttributeList list = new AttributeList();
+		for (String attribute : attributes) {
+			if (attribute == null) {
+				continue;
+			}
+			try {
+				list.add(new Attribute(attribute, getAttribute(attribute)));
+			} catch (AttributeNotFoundException e) {
+				// Missing attributes are left out of the list
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * Sets no attributes, as every attribute is read-only.
+	 * @param attributes the attributes to set
+	 * @return an empty list
+	 */
+	@Override
+	public AttributeList setAttributes(AttributeList attributes) {
+		return new AttributeList();
+	}
+
+	/**
+	 * Rejects the call, as the MBean has no operations.
+	 * @param actionName the name of the operation
+	 * @param params the arguments of the operation
+	 * @param signature the types of the arguments
+	 * @return nothing
+	 * @throws ReflectionException always
+	 */
+	@Override
+	public Object invoke(String actionName, Object[] params, String[] signature) throws MBeanException, ReflectionException {
+		throw new ReflectionException(new NoSuchMethodException(actionName));
+	}
+
+	/**
+	 * Returns a description of the attributes of the metrics created so far.
+	 * @return the MBean description
+	 */
+	@Override
+	public MBeanInfo getMBeanInfo() {
+		ArrayList<MBeanAttributeInfo> attributes = new ArrayList<MBeanAttributeInfo>();
+		attributes.add(new MBeanAttributeInfo(REPORT, String.class.getName(), "Report of every metric", true, false, false));
+		for (String name : getCounters().keySet()) {
+			attributes.add(new MBeanAttributeInfo(name, long.class.getName(), "Counter " + name, true, false, false));
+		}
+		for (String name : getHistograms().keySet()) {
+			for (String suffix : HISTOGRAM_SUFFIXES) {
+				String type = "meanNanos".equals(suffix) ? double.class.getName() : long.class.getName();
+				attributes.add(new MBeanAttributeInfo(name + "." + suffix, type, "Latency " + name + " " + suffix, true,
+						false, false));
+			}
+		}
+		return new MBeanInfo(getClass().getName(), "WolfScheduler metrics",
+				attributes.toArray(new MBeanAttributeInfo[0]), null, null, null);
+	}
+}
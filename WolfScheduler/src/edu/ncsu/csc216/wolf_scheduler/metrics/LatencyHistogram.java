@@ -0,0 +1,197 @@
+package edu.ncsu.csc216.wolf_scheduler.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of latencies in nanoseconds, with percentiles. Like an HDR
+ * histogram, values are counted in buckets whose width grows with the value:
+ * values below 128 each have their own bucket, and above that every power of
+ * two is split into 64 buckets. A percentile is therefore reported within 1.6%
+ * of the true value, over the whole range of a long, in a fixed 30 KB stripe of counts.
+ * Values can be recorded from many threads at once without locking. A histogram
+ * starts with a single stripe of counts; like a LongAdder, each time recording
+ * threads collide on a count the stripes are doubled, up to one per processor and
+ * at most 16, and each thread records into the stripe picked by its id. A histogram
+ * recorded from one thread at a time keeps one stripe.
+ * @author Dania Swelam
+ */
+public class LatencyHistogram {
+
+	/** Number of bits of precision of each bucket */
+	private static final int SUB_BUCKET_BITS = 7;
+	/** Number of values below which every value has its own bucket */
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	/** Number of buckets each power of two is split into above SUB_BUCKET_COUNT */
+	private static final int HALF_COUNT = SUB_BUCKET_COUNT / 2;
+	/** Number of buckets needed for every non-negative long */
+	private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * HALF_COUNT;
+
+	/** Largest number of stripes of counts, the number of processors rounded up to a power of two, at most 16 */
+	private static final int MAX_STRIPES = Math.min(16, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+	/** Number of values recorded in each bucket, split over a power of two number of stripes */
+	private volatile AtomicLongArray[] counts = { new AtomicLongArray(BUCKET_COUNT) };
+	/** Number of values recorded */
+	private final LongAdder count = new LongAdder();
+	/** Sum of the values recorded */
+	private final LongAdder total = new LongAdder();
+	/** Largest value recorded */
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a latency.
+	 * @param nanos the latency in nanoseconds
+	 * @throws IllegalArgumentException if the latency is negative
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) {
+			throw new IllegalArgumentException("Invalid latency.");
+		}
+		AtomicLongArray[] stripes = counts;
+		AtomicLongArray stripe = stripes[(int) Thread.currentThread().getId() & stripes.length - 1];
+		int bucket = bucket(nanos);
+		long old = stripe.get(bucket);
+		if (!stripe.compareAndSet(bucket, old, old + 1)) {
+			stripe.incrementAndGet(bucket);
+			if (stripes.length < MAX_STRIPES) {
+				addStripes(stripes);
+			}
+		}
+		count.increment();
+		total.add(nanos);
+		long largest = max.get();
+		while (nanos > largest && !max.compareAndSet(largest, nanos)) {
+			largest = max.get();
+		}
+	}
+
+	/**
+	 * Records the time since the given System.nanoTime reading.
+	 * @param startNanos value of System.nanoTime when the operation started
+	 */
+	public void recordSince(long startNanos) {
+		record(Math.max(0, System.nanoTime() - startNanos));
+	}
+
+	/**
+	 * Returns the number of latencies recorded.
+	 * @return the number of latencies
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Returns the sum of the latencies recorded.
+	 * @return the total in nanoseconds
+	 */
+	public long getTotal() {
+		return total.sum();
+	}
+
+	/**
+	 * Returns the largest latency recorded.
+	 * @return the largest latency in nanoseconds, or 0 if none were recorded
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the mean of the latencies recorded.
+	 * @return the mean in nanoseconds, or 0 if none were recorded
+	 */
+	public double getMean() {
+		long n = count.sum();
+		return n == 0 ? 0 : (double) total.sum() / n;
+	}
+
+	/**
+	 * Returns the latency at or below which the given percentage of the latencies
+	 * recorded fall, as the top of the bucket holding it.
+	 * @param percentile percentage from 0 to 100
+	 * @return the latency in nanoseconds, or 0 if none were recorded
+	 * @throws IllegalArgumentException if the percentile is out of range
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (!(percentile >= 0 && percentile <= 100)) {
+			throw new IllegalArgumentException("Invalid percentile.");
+		}
+		long[] snapshot = new long[BUCKET_COUNT];
+		long n = 0;
+		for (AtomicLongArray stripe : counts) {
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				snapshot[i] += stripe.get(i);
+			}
+		}
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			n += snapshot[i];
+		}
+		if (n == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += snapshot[i];
+			if (seen >= rank) {
+				return Math.min(highestValue(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	/**
+	 * Returns the number of stripes the counts are split over.
+	 * @return the number of stripes
+	 */
+	int getStripeCount() {
+		return counts.length;
+	}
+
+	/**
+	 * Doubles the number of stripes, keeping the existing stripes and their counts,
+	 * unless another thread already has.
+	 * @param stripes the stripes a collision was seen on
+	 */
+	private synchronized void addStripes(AtomicLongArray[] stripes) {
+		if (counts == stripes) {
+			AtomicLongArray[] grown = Arrays.copyOf(stripes, stripes.length * 2);
+			for (int i = stripes.length; i < grown.length; i++) {
+				grown[i] = new AtomicLongArray(BUCKET_COUNT);
+			}
+			counts = grown;
+		}
+	}
+
+	/**
+	 * Returns the bucket a value is counted in.
+	 * @param value non-negative value
+	 * @return index of the bucket
+	 */
+	private static int bucket(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+		return SUB_BUCKET_COUNT + (shift - 1) * HALF_COUNT + (int) (value >>> shift) - HALF_COUNT;
+	}
+
+	/**
+	 * Returns the largest value counted in a bucket.
+	 * @param bucket index of the bucket
+	 * @return the largest value of the bucket
+	 */
+	private static long highestValue(int bucket) {
+		if (bucket < SUB_BUCKET_COUNT) {
+			return bucket;
+		}
+		int shift = (bucket - SUB_BUCKET_COUNT) / HALF_COUNT + 1;
+		long top = (bucket - SUB_BUCKET_COUNT) % HALF_COUNT + HALF_COUNT;
+		return ((top + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,27 @@
+package edu.ncsu.csc216.wolf_scheduler.metrics;
+
+/**
+ * Named counters and latency histograms. A registry creates a metric the first
+ * time its name is asked for and returns the same metric for the name afterwards,
+ * so callers can look metrics up once and keep them. Implementations decide where
+ * the metrics are published and must be safe for use by many threads.
+ * @author Dania Swelam
+ */
+public interface MetricsRegistry {
+
+	/**
+	 * Returns the counter with the given name, creating it if needed.
+	 * @param name the name of the counter
+	 * @return the counter
+	 * @throws IllegalArgumentException if the name is null or is already used by a histogram
+	 */
+	Counter counter(String name);
+
+	/**
+	 * Returns the latency histogram with the given name, creating it if needed.
+	 * @param name the name of the histogram
+	 * @return the histogram
+	 * @throws IllegalArgumentException if the name is null or is already used by a counter
+	 */
+	LatencyHistogram histogram(String name);
+}
@@ -0,0 +1,93 @@
+package edu.ncsu.csc216.wolf_scheduler.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry that keeps its metrics in memory, where they can be listed or
+ * reported as text.
+ * @author Dania Swelam
+ */
+public class SimpleMetricsRegistry implements MetricsRegistry {
+
+	/** Counters by name */
+	private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<String, Counter>();
+	/** Latency histograms by name */
+	private final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<String, LatencyHistogram>();
+
+	/**
+	 * Returns the counter with the given name, creating it if needed.
+	 * @param name the name of the counter
+	 * @return the counter
+	 * @throws IllegalArgumentException if the name is null or is already used by a histogram
+	 */
+	@Override
+	public Counter counter(String name) {
+		if (name == null || histograms.containsKey(name)) {
+			throw new IllegalArgumentException("Invalid metric name.");
+		}
+		return counters.computeIfAbsent(name, k -> new Counter());
+	}
+
+	/**
+	 * Returns the latency histogram with the given name, creating it if needed.
+	 * @param name the name of the histogram
+	 * @return the histogram
+	 * @throws IllegalArgumentException if the name is null or is already used by a counter
+	 */
+	@Override
+	public LatencyHistogram histogram(String name) {
+		if (name == null || counters.containsKey(name)) {
+			throw new IllegalArgumentException("Invalid metric name.");
+		}
+		return histograms.computeIfAbsent(name, k -> new LatencyHistogram());
+	}
+
+	/**
+	 * Returns the counters created so far, sorted by name.
+	 * @return the counters by name
+	 */
+	public SortedMap<String, Counter> getCounters() {
+		return Collections.unmodifiableSortedMap(new TreeMap<String, Counter>(counters));
+	}
+
+	/**
+	 * Returns the latency histograms created so far, sorted by name.
+	 * @return the histograms by name
+	 */
+	public SortedMap<String, LatencyHistogram> getHistograms() {
+		return Collections.unmodifiableSortedMap(new TreeMap<String, LatencyHistogram>(histograms));
+	}
+
+	/**
+	 * Returns a report of every metric, one line each, with latencies in microseconds.
+	 * @return the metrics report
+	 */
+	public String getReport() {
+		StringBuilder report = new StringBuilder();
+		for (Map.Entry<String, Counter> entry : getCounters().entrySet()) {
+			report.append(entry.getKey()).append(": ").append(entry.getValue().getCount()).append('\n');
+		}
+		for (Map.Entry<String, LatencyHistogram> entry : getHistograms().entrySet()) {
+			LatencyHistogram histogram = entry.getValue();
+			report.append(entry.getKey()).append(": count ").append(histogram.getCount())
+					.append(", mean ").append(micros(Math.round(histogram.getMean())))
+					.append(" us, p50 ").append(micros(histogram.getValueAtPercentile(50)))
+					.append(" us, p99 ").append(micros(histogram.getValueAtPercentile(99)))
+					.append(" us, max ").append(micros(histogram.getMax())).append(" us\n");
+		}
+		return report.toString();
+	}
+
+	/**
+	 * Formats nanoseconds as microseconds with one decimal place.
+	 * @param nanos the nanoseconds to format
+	 * @return the microseconds
+	 */
+	private static String micros(long nanos) {
+		return nanos / 1000 + "." + nanos % 1000 / 100;
+	}
+}
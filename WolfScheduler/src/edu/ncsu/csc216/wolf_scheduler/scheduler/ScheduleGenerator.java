@@ -0,0 +1,298 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Finds the combinations of one section of each of several courses in which no two
+ * sections conflict, by a branch and bound search. Before searching, the sections
+ * each section conflicts with are stored as a bit set, using the conflict rules of
+ * Activity.checkConflict. The search takes courses with fewer sections first, keeps
+ * the sections blocked by the sections chosen so far as the union of their bit sets,
+ * and abandons a partial schedule as soon as some course left has every section
+ * blocked, so it never visits a combination that cannot be completed.
+ *
+ * Schedules are found in a fixed order: by the first section of the course with the
+ * fewest sections, then by the section of the next course, and so on, with sections
+ * in the order they were given. Searching in parallel finds the same schedules in the
+ * same order.
+ *
+ * @author Dania Swelam
+ */
+public class ScheduleGenerator {
+
+	/** Number of tasks per thread the search is split into when searching in parallel */
+	private static final int TASKS_PER_THREAD = 8;
+
+	/** Number of courses in a schedule */
+	private final int courseCount;
+	/** Sections of all courses, the sections of each course together, courses in search order */
+	private final Course[] sections;
+	/** Index of the first section of each course in search order, followed by the number of sections */
+	private final int[] groupStart;
+	/** Position among the given courses of each course in search order */
+	private final int[] coursePosition;
+	/** Sections of other courses each section conflicts with, as bit sets of indexes in sections */
+	private final long[][] conflicts;
+	/** Number of words in a bit set of sections */
+	private final int words;
+
+	/**
+	 * Constructs a generator choosing one of the given sections of each course.
+	 * @param courseSections the sections to choose from for each course
+	 * @throws IllegalArgumentException if the list, a course's sections or a section is null
+	 */
+	public ScheduleGenerator(List<List<Course>> courseSections) {
+		if (courseSections == null) {
+			throw new IllegalArgumentException("Invalid courses.");
+		}
+		courseCount = courseSections.size();
+		Integer[] order = new Integer[courseCount];
+		int sectionCount = 0;
+		for (int i = 0; i < courseCount; i++) {
+			List<Course> courseList = courseSections.get(i);
+			if (courseList == null) {
+				throw new IllegalArgumentException("Invalid courses.");
+			}
+			for (Course section : courseList) {
+				if (section == null) {
+					throw new IllegalArgumentException("Invalid courses.");
+				}
+			}
+			order[i] = i;
+			sectionCount += courseList.size();
+		}
+		Arrays.sort(order, (a, b) -> Integer.compare(courseSections.get(a).size(), courseSections.get(b).size()));
+
+		sections = new Course[sectionCount];
+		groupStart = new int[courseCount + 1];
+		coursePosition = new int[courseCount];
+		int next = 0;
+		for (int group = 0; group < courseCount; group++) {
+			coursePosition[group] = order[group];
+			groupStart[group] = next;
+			for (Course section : courseSections.get(order[group])) {
+				sections[next++] = section;
+			}
+		}
+		groupStart[courseCount] = next;
+
+		words = (sectionCount + Long.SIZE - 1) / Long.SIZE;
+		conflicts = new long[sectionCount][words];
+		for (int group = 0; group < courseCount; group++) {
+			for (int s = groupStart[group]; s < groupStart[group + 1]; s++) {
+				for (int t = groupStart[group + 1]; t < sectionCount; t++) {
+					if (sections[s].conflictsWith(sections[t])) {
+						conflicts[s][t / Long.SIZE] |= 1L << t;
+						conflicts[t][s / Long.SIZE] |= 1L << s;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the first conflict free schedules, searching on the calling thread.
+	 * @param maxSchedules the largest number of schedules to return
+	 * @return the schedules, each listing one section of every course in the order the
+	 *         courses were given
+	 * @throws IllegalArgumentException if maxSchedules is not positive
+	 */
+	public List<List<Course>> generate(int maxSchedules) {
+		if (maxSchedules < 1) {
+			throw new IllegalArgumentException("Invalid schedule count.");
+		}
+		ArrayList<List<Course>> schedules = new ArrayList<List<Course>>();
+		long[][] blocked = new long[courseCount + 1][words];
+		if (isFeasible(blocked[0], 0)) {
+			search(0, new int[courseCount], blocked, maxSchedules, schedules);
+		}
+		return schedules;
+	}
+
+	/**
+	 * Returns the first conflict free schedules, searching on several threads. Each
+	 * task searches part of the combinations for up to maxSchedules schedules, so
+	 * the search may do more work in total than on one thread.
+	 * @param maxSchedules the largest number of schedules to return
+	 * @param parallelism number of threads to search on
+	 * @return the schedules, the same as generate(maxSchedules) returns
+	 * @throws IllegalArgumentException if maxSchedules or parallelism is not positive
+	 */
+	public List<List<Course>> generate(int maxSchedules, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Invalid parallelism.");
+		}
+		if (parallelism == 1) {
+			return generate(maxSchedules);
+		}
+		if (maxSchedules < 1) {
+			throw new IllegalArgumentException("Invalid schedule count.");
+		}
+		long[] blocked = new long[words];
+		if (!isFeasible(blocked, 0)) {
+			return new ArrayList<List<Course>>();
+		}
+		int splitDepth = 0;
+		long branches = 1;
+		while (splitDepth < courseCount && branches < (long) parallelism * TASKS_PER_THREAD) {
+			branches *= groupStart[splitDepth + 1] - groupStart[splitDepth];
+			splitDepth++;
+		}
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			return pool.invoke(new SearchTask(0, new int[courseCount], blocked, maxSchedules, splitDepth));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Adds the schedules completing a partial schedule, in search order, until there
+	 * are maxSchedules schedules.
+	 * @param depth number of courses with a section chosen
+	 * @param chosen index of the section chosen for each course in search order
+	 * @param blocked for each depth, the sections conflicting with the sections chosen
+	 *                before it; the row for this depth must be filled in
+	 * @param maxSchedules the largest number of schedules
+	 * @param schedules the schedules found
+	 */
+	private void search(int depth, int[] chosen, long[][] blocked, int maxSchedules, List<List<Course>> schedules) {
+		if (depth == courseCount) {
+			schedules.add(toSchedule(chosen));
+			return;
+		}
+		long[] taken = blocked[depth];
+		long[] next = blocked[depth + 1];
+		for (int s = groupStart[depth]; s < groupStart[depth + 1] && schedules.size() < maxSchedules; s++) {
+			if ((taken[s / Long.SIZE] & 1L << s) == 0) {
+				long[] sectionConflicts = conflicts[s];
+				for (int w = 0; w < words; w++) {
+					next[w] = taken[w] | sectionConflicts[w];
+				}
+				if (isFeasible(next, depth + 1)) {
+					chosen[depth] = s;
+					search(depth + 1, chosen, blocked, maxSchedules, schedules);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether every course from a depth on has a section that is not blocked.
+	 * @param blocked the blocked sections
+	 * @param depth the first course to check in search order
+	 * @return true if no course left has all of its sections blocked
+	 */
+	private boolean isFeasible(long[] blocked, int depth) {
+		for (int group = depth; group < courseCount; group++) {
+			int s = groupStart[group];
+			int end = groupStart[group + 1];
+			while (s < end && (blocked[s / Long.SIZE] & 1L << s) != 0) {
+				s++;
+			}
+			if (s == end) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the chosen sections in the order the courses were given.
+	 * @param chosen index of the section chosen for each course in search order
+	 * @return the schedule
+	 */
+	private List<Course> toSchedule(int[] chosen) {
+		Course[] schedule = new Course[courseCount];
+		for (int group = 0; group < courseCount; group++) {
+			schedule[coursePosition[group]] = sections[chosen[group]];
+		}
+		return Collections.unmodifiableList(Arrays.asList(schedule));
+	}
+
+	/**
+	 * Finds the schedules completing a partial schedule. Above the split depth it forks
+	 * a task for each section of the next course that leaves a feasible schedule and
+	 * joins their schedules in search order; at the split depth it searches on its own.
+	 */
+	private class SearchTask extends RecursiveTask<ArrayList<List<Course>>> {
+
+		/** ID used for serialization. */
+		private static final long serialVersionUID = 1L;
+		/** Number of courses with a section chosen */
+		private final int depth;
+		/** Index of the section chosen for each course in search order */
+		private final int[] chosen;
+		/** Sections conflicting with the sections chosen */
+		private final long[] blocked;
+		/** Largest number of schedules to find */
+		private final int maxSchedules;
+		/** Depth at which tasks search without forking */
+		private final int splitDepth;
+
+		/**
+		 * Constructs a task completing a partial schedule.
+		 * @param depth number of courses with a section chosen
+		 * @param chosen index of the section chosen for each course in search order
+		 * @param blocked sections conflicting with the sections chosen
+		 * @param maxSchedules largest number of schedules to find
+		 * @param splitDepth depth at which tasks search without forking
+		 */
+		SearchTask(int depth, int[] chosen, long[] blocked, int maxSchedules, int splitDepth) {
+			this.depth = depth;
+			this.chosen = chosen;
+			this.blocked = blocked;
+			this.maxSchedules = maxSchedules;
+			this.splitDepth = splitDepth;
+		}
+
+		/**
+		 * Finds the schedules completing this task's partial schedule.
+		 * @return up to maxSchedules schedules in search order
+		 */
+		@Override
+		protected ArrayList<List<Course>> compute() {
+			ArrayList<List<Course>> schedules = new ArrayList<List<Course>>();
+			if (depth >= splitDepth) {
+				long[][] rows = new long[courseCount + 1][];
+				rows[depth] = blocked;
+				for (int d = depth + 1; d <= courseCount; d++) {
+					rows[d] = new long[words];
+				}
+				search(depth, chosen, rows, maxSchedules, schedules);
+				return schedules;
+			}
+			ArrayList<SearchTask> tasks = new ArrayList<SearchTask>();
+			for (int s = groupStart[depth]; s < groupStart[depth + 1]; s++) {
+				if ((blocked[s / Long.SIZE] & 1L << s) == 0) {
+					long[] next = new long[words];
+					for (int w = 0; w < words; w++) {
+						next[w] = blocked[w] | conflicts[s][w];
+					}
+					if (isFeasible(next, depth + 1)) {
+						int[] nextChosen = chosen.clone();
+						nextChosen[depth] = s;
+						tasks.add(new SearchTask(depth + 1, nextChosen, next, maxSchedules, splitDepth));
+					}
+				}
+			}
+			invokeAll(tasks);
+			for (SearchTask task : tasks) {
+				for (List<Course> schedule : task.join()) {
+					if (schedules.size() == maxSchedules) {
+						return schedules;
+					}
+					schedules.add(schedule);
+				}
+			}
+			return schedules;
+		}
+	}
+}
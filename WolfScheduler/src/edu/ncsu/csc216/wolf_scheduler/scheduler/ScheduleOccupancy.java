@@ -0,0 +1,161 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Arrays;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Tracks which minutes of the week are taken by the activities in a schedule,
+ * with one bit per minute of each day. Checking an activity for conflicts looks
+ * only at the bits for its own days and times, so the cost does not grow with
+ * the number of activities in the schedule. Like Activity.checkConflict, an
+ * activity takes every minute from its start time through its end time, so
+ * activities that only touch at their ends conflict, and arranged activities
+ * take no time.
+ *
+ * The activities added must not conflict with each other, which holds for a
+ * schedule that only accepts activities without conflicts; removing an activity
+ * frees all of its minutes. An activity's days and times must not change while
+ * it is in the occupancy.
+ *
+ * @author Dania Swelam
+ */
+public class ScheduleOccupancy {
+
+	/** Number of days in a week */
+	private static final int DAYS = 7;
+	/** Number of minutes in a day */
+	private static final int MINUTES_PER_DAY = 24 * 60;
+	/** Number of words holding the minutes of one day */
+	private static final int WORDS_PER_DAY = (MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+	/** Bits for the taken minutes of the week, one day after another starting with Sunday */
+	private final long[] minutes = new long[DAYS * WORDS_PER_DAY];
+
+	/**
+	 * Returns whether the activity meets at any minute already taken.
+	 *
+	 * @param activity the activity to check
+	 * @return true if the activity conflicts with an activity in the occupancy
+	 */
+	public boolean conflictsWith(Activity activity) {
+		return conflictsWith(activity.getMeetingDaysMask(), activity.getStartTime(), activity.getEndTime());
+	}
+
+	/**
+	 * Returns whether meeting days and times, such as those of a catalog course read
+	 * from its columns, include any minute already taken.
+	 *
+	 * @param days      meeting days bit mask, 0 for arranged
+	 * @param startTime start time in HHMM format
+	 * @param endTime   end time in HHMM format
+	 * @return true if the days and times conflict with an activity in the occupancy
+	 */
+	public boolean conflictsWith(int days, int startTime, int endTime) {
+		int first = toMinute(startTime);
+		int last = toMinute(endTime);
+		for (int day = 0; days != 0; day++, days >>>= 1) {
+			if ((days & 1) != 0 && anyTaken(day * WORDS_PER_DAY, first, last)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Marks the minutes the activity meets as taken.
+	 *
+	 * @param activity the activity to add
+	 */
+	public void add(Activity activity) {
+		update(activity, true);
+	}
+
+	/**
+	 * Marks the minutes the activity meets as free.
+	 *
+	 * @param activity the activity to remove
+	 */
+	public void remove(Activity activity) {
+		update(activity, false);
+	}
+
+	/**
+	 * Marks every minute of the week as free.
+	 */
+	public void clear() {
+		Arrays.fill(minutes, 0L);
+	}
+
+	/**
+	 * Marks the minutes the activity meets as taken or free.
+	 *
+	 * @param activity the activity to update the minutes of
+	 * @param taken    true to mark the minutes as taken, false to mark them free
+	 */
+	private void update(Activity activity, boolean taken) {
+		int days = activity.getMeetingDaysMask();
+		int first = toMinute(activity.getStartTime());
+		int last = toMinute(activity.getEndTime());
+		for (int day = 0; days != 0; day++, days >>>= 1) {
+			if ((days & 1) == 0) {
+				continue;
+			}
+			int offset = day * WORDS_PER_DAY;
+			for (int word = first / Long.SIZE; word <= last / Long.SIZE; word++) {
+				long mask = rangeMask(word, first, last);
+				if (taken) {
+					minutes[offset + word] |= mask;
+				} else {
+					minutes[offset + word] &= ~mask;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether any minute from first through last of a day is taken.
+	 *
+	 * @param offset index of the day's first word
+	 * @param first  first minute of the day to check
+	 * @param last   last minute of the day to check
+	 * @return true if any of the minutes is taken
+	 */
+	private boolean anyTaken(int offset, int first, int last) {
+		for (int word = first / Long.SIZE; word <= last / Long.SIZE; word++) {
+			if ((minutes[offset + word] & rangeMask(word, first, last)) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the bits of a word that fall between the first and last minute.
+	 *
+	 * @param word  index of the word within its day
+	 * @param first first minute of the range
+	 * @param last  last minute of the range
+	 * @return the bits of the word in the range
+	 */
+	private static long rangeMask(int word, int first, int last) {
+		long mask = -1L;
+		if (word == first / Long.SIZE) {
+			mask &= -1L << (first % Long.SIZE);
+		}
+		if (word == last / Long.SIZE) {
+			mask &= -1L >>> (Long.SIZE - 1 - last % Long.SIZE);
+		}
+		return mask;
+	}
+
+	/**
+	 * Converts a time in HHMM format to the number of minutes since midnight.
+	 *
+	 * @param time the time to convert
+	 * @return minutes since midnight
+	 */
+	private static int toMinute(int time) {
+		return time / 100 * 60 + time % 100;
+	}
+}
@@ -0,0 +1,278 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import edu.ncsu.csc216.wolf_scheduler.catalog.CatalogConflictMatrix;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseQuery;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseSearchIndex;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseSearchPage;
+import edu.ncsu.csc216.wolf_scheduler.metrics.MetricsRegistry;
+import edu.ncsu.csc216.wolf_scheduler.metrics.SimpleMetricsRegistry;
+
+/**
+ * Schedules of many users served from one catalog, safe to use from many threads.
+ * Each user has a session holding their own WolfScheduler, while the catalog, its
+ * search index and conflict matrix, and the metrics registry are shared by all of
+ * them. The catalog must not change once the manager is constructed.
+ *
+ * A WolfScheduler is not thread-safe, so every operation on a session holds a lock.
+ * Rather than a lock per session, sessions are spread over a fixed array of lock
+ * stripes by a hash of the user id: operations on the same user are serialized,
+ * operations on users of different stripes run in parallel, and the number of locks
+ * does not grow with the number of users. Searching the catalog takes no lock.
+ *
+ * @author Dania Swelam
+ */
+public class SessionManager {
+
+	/** Number of lock stripes used when none is given */
+	public static final int DEFAULT_STRIPES = 256;
+
+	/** The catalog shared by every session */
+	private final CourseCatalog catalog;
+	/** Registry shared by the schedulers of every session */
+	private final MetricsRegistry metrics;
+	/** Search index of the catalog */
+	private final CourseSearchIndex searchIndex;
+	/** Conflict matrix of the catalog */
+	private final CatalogConflictMatrix conflictMatrix;
+	/** Scheduler of each open session by user id */
+	private final ConcurrentHashMap<String, WolfScheduler> sessions = new ConcurrentHashMap<String, WolfScheduler>();
+	/** Locks guarding the sessions, a session's lock picked by the hash of its user id */
+	private final ReentrantLock[] locks;
+
+	/**
+	 * Constructs a manager of sessions on the catalog, keeping metrics in a new registry.
+	 * @param catalog the catalog shared by every session
+	 * @throws IllegalArgumentException if the catalog is null
+	 */
+	public SessionManager(CourseCatalog catalog) {
+		this(catalog, new SimpleMetricsRegistry(), DEFAULT_STRIPES);
+	}
+
+	/**
+	 * Constructs a manager of sessions on the catalog, indexing the catalog for every
+	 * session to share.
+	 * @param catalog the catalog shared by every session
+	 * @param metrics the registry shared by every session
+	 * @param stripes number of locks to spread the sessions over
+	 * @throws IllegalArgumentException if the catalog or registry is null or stripes is
+	 *                                  not positive
+	 */
+	public SessionManager(CourseCatalog catalog, MetricsRegistry metrics, int stripes) {
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		if (metrics == null) {
+			throw new IllegalArgumentException("Invalid metrics.");
+		}
+		if (stripes < 1) {
+			throw new IllegalArgumentException("Invalid stripes.");
+		}
+		this.catalog = catalog;
+		this.metrics = metrics;
+		this.searchIndex = new CourseSearchIndex(catalog);
+		this.conflictMatrix = new CatalogConflictMatrix(catalog);
+		this.locks = new ReentrantLock[stripes];
+		for (int i = 0; i < stripes; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * Returns the catalog shared by every session.
+	 * @return the catalog
+	 */
+	public CourseCatalog getCatalog() {
+		return catalog;
+	}
+
+	/**
+	 * Returns the registry shared by every session.
+	 * @return the metrics registry
+	 */
+	public MetricsRegistry getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Opens a session with an empty schedule for a user.
+	 * @param userId the user's id
+	 * @return true if the session was opened, false if the user already had one
+	 * @throws IllegalArgumentException if the user id is null or empty
+	 */
+	public boolean openSession(String userId) {
+		ReentrantLock lock = lockFor(userId);
+		lock.lock();
+		try {
+			if (sessions.containsKey(userId)) {
+				return false;
+			}
+			WolfScheduler scheduler = new WolfScheduler(catalog, metrics);
+			scheduler.shareCatalogIndexes(searchIndex, conflictMatrix);
+			sessions.put(userId, scheduler);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Closes a user's session, discarding their schedule. An operation on the session
+	 * already running finishes first.
+	 * @param userId the user's id
+	 * @return true if the session was closed, false if the user had none
+	 * @throws IllegalArgumentException if the user id is null or empty
+	 */
+	public boolean closeSession(String userId) {
+		ReentrantLock lock = lockFor(userId);
+		lock.lock();
+		try {
+			return sessions.remove(userId) != null;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns whether a user has an open session.
+	 * @param userId the user's id
+	 * @return true if the user has a session
+	 */
+	public boolean hasSession(String userId) {
+		return userId != null && sessions.containsKey(userId);
+	}
+
+	/**
+	 * Returns the number of open sessions.
+	 * @return the number of sessions
+	 */
+	public int getSessionCount() {
+		return sessions.size();
+	}
+
+	/**
+	 * Runs an action on a user's scheduler while holding the session's lock. The action
+	 * must not keep the scheduler, or anything it returns that the scheduler may change,
+	 * for use after it returns.
+	 * @param <T> type of the action's result
+	 * @param userId the user's id
+	 * @param action the action to run
+	 * @return the action's result
+	 * @throws IllegalArgumentException if the user has no session or the action is null,
+	 *                                  or as thrown by the action
+	 */
+	public <T> T withSession(String userId, Function<WolfScheduler, T> action) {
+		if (action == null) {
+			throw new IllegalArgumentException("Invalid action.");
+		}
+		ReentrantLock lock = lockFor(userId);
+		lock.lock();
+		try {
+			WolfScheduler scheduler = sessions.get(userId);
+			if (scheduler == null) {
+				throw new IllegalArgumentException("No session for " + userId);
+			}
+			return action.apply(scheduler);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Adds a course to a user's schedule based on its name and section.
+	 * @param userId  the user's id
+	 * @param name    the name of the course
+	 * @param section the section of the course
+	 * @return true if the course was added, false if it is not in the catalog
+	 * @throws IllegalArgumentException if the user has no session, is already enrolled
+	 *                                  in the course, or the course conflicts
+	 */
+	public boolean addCourseToSchedule(String userId, String name, String section) {
+		return withSession(userId, scheduler -> scheduler.addCourseToSchedule(name, section));
+	}
+
+	/**
+	 * Adds an event to a user's schedule.
+	 * @param userId      the user's id
+	 * @param title       the title of the event
+	 * @param meetingDays the meeting days of the event
+	 * @param startTime   the start time of the event in military format
+	 * @param endTime     the end time of the event in military format
+	 * @param details     the details of the event
+	 * @throws IllegalArgumentException if the user has no session, the event is invalid,
+	 *                                  already exists or conflicts
+	 */
+	public void addEventToSchedule(String userId, String title, String meetingDays, int startTime, int endTime,
+			String details) {
+		withSession(userId, scheduler -> {
+			scheduler.addEventToSchedule(title, meetingDays, startTime, endTime, details);
+			return null;
+		});
+	}
+
+	/**
+	 * Removes an activity from a user's schedule.
+	 * @param userId the user's id
+	 * @param idx    the index of the activity in the schedule
+	 * @return true if the activity was removed, false if there is no such index
+	 * @throws IllegalArgumentException if the user has no session
+	 */
+	public boolean removeActivityFromSchedule(String userId, int idx) {
+		return withSession(userId, scheduler -> scheduler.removeActivityFromSchedule(idx));
+	}
+
+	/**
+	 * Removes every activity from a user's schedule.
+	 * @param userId the user's id
+	 * @throws IllegalArgumentException if the user has no session
+	 */
+	public void resetSchedule(String userId) {
+		withSession(userId, scheduler -> {
+			scheduler.resetSchedule();
+			return null;
+		});
+	}
+
+	/**
+	 * Returns the name, section, title and meeting string of each activity in a user's
+	 * schedule.
+	 * @param userId the user's id
+	 * @return the display rows of the schedule
+	 * @throws IllegalArgumentException if the user has no session
+	 */
+	public String[][] getScheduledActivities(String userId) {
+		return withSession(userId, WolfScheduler::getScheduledActivities);
+	}
+
+	/**
+	 * Searches the shared catalog, without taking any session's lock.
+	 * @param query  the search criteria
+	 * @param offset the number of matches before the page
+	 * @param limit  the largest number of courses on the page
+	 * @return the page of matching courses
+	 * @throws IllegalArgumentException if the query is null, the offset is negative, or
+	 *                                  the limit is not positive
+	 */
+	public CourseSearchPage searchCatalog(CourseQuery query, int offset, int limit) {
+		return searchIndex.search(query, offset, limit);
+	}
+
+	/**
+	 * Returns the lock stripe of a user id.
+	 * @param userId the user's id
+	 * @return the lock guarding the user's session
+	 * @throws IllegalArgumentException if the user id is null or empty
+	 */
+	private ReentrantLock lockFor(String userId) {
+		if (userId == null || userId.isEmpty()) {
+			throw new IllegalArgumentException("Invalid user id.");
+		}
+		int hash = userId.hashCode();
+		hash ^= hash >>> 16;
+		return locks[Math.floorMod(hash, locks.length)];
+	}
+}
@@ -3,75 +3,248 @@ package edu.ncsu.csc216.wolf_scheduler.scheduler;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
 
+import edu.ncsu.csc216.wolf_scheduler.catalog.CatalogConflictMatrix;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseQuery;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseSearchIndex;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseSearchPage;
+import edu.ncsu.csc216.wolf_scheduler.catalog.ListCourseCatalog;
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
-import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 import edu.ncsu.csc216.wolf_scheduler.course.Event;
 import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.BinaryCourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseLoadResult;
 import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.RejectionReport;
+import edu.ncsu.csc216.wolf_scheduler.metrics.Counter;
+import edu.ncsu.csc216.wolf_scheduler.metrics.LatencyHistogram;
+import edu.ncsu.csc216.wolf_scheduler.metrics.MetricsRegistry;
+import edu.ncsu.csc216.wolf_scheduler.metrics.SimpleMetricsRegistry;
 
 /**
  * Manages the scheduling of courses for a user, including maintaining a course catalog,
  * creating and modifying schedules, and exporting schedules to files.
+ *
+ * Operations are measured in a MetricsRegistry: the latency of adding courses and
+ * events and of catalog lookups, the number of conflict checks performed and rejected,
+ * and the time, course count and skipped lines of loading the catalog.
  * @author Dania Swelam
  */
 public class WolfScheduler {
 
-	/** The list of courses available for scheduling */
-    private ArrayList<Course> catalog;
+	/** Name of the latency histogram of addCourseToSchedule */
+	public static final String ADD_COURSE_METRIC = "addCourseToSchedule";
+	/** Name of the latency histogram of addEventToSchedule */
+	public static final String ADD_EVENT_METRIC = "addEventToSchedule";
+	/** Name of the latency histogram of getCourseFromCatalog */
+	public static final String GET_COURSE_METRIC = "getCourseFromCatalog";
+	/** Name of the latency histogram of searchCatalog */
+	public static final String SEARCH_METRIC = "searchCatalog";
+	/** Name of the latency histogram of generateSchedules */
+	public static final String GENERATE_METRIC = "generateSchedules";
+	/** Name of the latency histogram of building the catalog conflict matrix */
+	public static final String CONFLICT_MATRIX_BUILD_METRIC = "conflictMatrixBuild";
+	/** Name of the counter of conflict checks performed when adding courses and events */
+	public static final String CONFLICT_CHECKS_METRIC = "conflictChecks";
+	/** Name of the counter of courses and events rejected because of a conflict */
+	public static final String CONFLICT_REJECTIONS_METRIC = "conflictRejections";
+	/** Name of the latency histogram of loading the catalog from a file */
+	public static final String CATALOG_LOAD_METRIC = "catalogLoad";
+	/** Name of the counter of courses loaded into the catalog from files */
+	public static final String CATALOG_COURSES_METRIC = "catalogCourses";
+	/** Name of the counter of lines skipped while loading the catalog from text files */
+	public static final String CATALOG_SKIPPED_LINES_METRIC = "catalogSkippedLines";
+
+	/** The courses available for scheduling */
+    private CourseCatalog catalog;
+    /** Display rows of the catalog, kept between calls to getCourseCatalog until the catalog changes */
+    private String[][] catalogDisplay;
+    /** Display change count of the catalog when catalogDisplay was last brought up to date */
+    private long catalogDisplayChanges;
+    /** Search index of the catalog, built by the first search */
+    private CourseSearchIndex searchIndex;
+    /** Change count of the catalog when searchIndex was built */
+    private long searchIndexChanges;
+    /** Conflicts between the catalog's sections, built when first asked for */
+    private CatalogConflictMatrix conflictMatrix;
+    /** Change count of the catalog when conflictMatrix was last brought up to date */
+    private long conflictMatrixChanges;
     /** The list of courses currently scheduled by the user */
     private ArrayList<Activity> schedule;
+    /** The minutes of the week taken by the activities in the schedule */
+    private ScheduleOccupancy occupancy;
+    /** The titles of the events in the schedule */
+    private HashSet<String> eventTitles;
     /** The title of the user's schedule */
     private String title;
+    /** The lines rejected when the catalog was loaded */
+    private RejectionReport catalogRejections;
+    /** Registry the scheduler's metrics are kept in */
+    private MetricsRegistry metrics;
+    /** Latencies of addCourseToSchedule */
+    private final LatencyHistogram addCourseLatency;
+    /** Latencies of addEventToSchedule */
+    private final LatencyHistogram addEventLatency;
+    /** Latencies of getCourseFromCatalog */
+    private final LatencyHistogram getCourseLatency;
+    /** Latencies of searchCatalog */
+    private final LatencyHistogram searchLatency;
+    /** Latencies of generateSchedules */
+    private final LatencyHistogram generateLatency;
+    /** Number of conflict checks performed */
+    private final Counter conflictChecks;
+    /** Number of courses and events rejected because of a conflict */
+    private final Counter conflictRejections;
 
     /** Default constructor constructs a new WolfScheduler with a default title, 
      * an empty catalog, and an empty schedule 
      */
     public WolfScheduler() {
-        this.title = "My Schedule";
-        this.catalog = new ArrayList<>();
-        this.schedule = new ArrayList<>();
+        this(new ListCourseCatalog(new ArrayList<>()));
     }
 
     /**
      * Parameterized constructor constructs a new WolfScheduler with a default title, reads courses from the specified file, and adds them to the catalog.
+     * The file may hold text course records or binary course records written by BinaryCourseRecordIO.
      * @param filename The name of the file to read course records from.
      * @throws IllegalArgumentException If the file cannot be found or read.
      */
     public WolfScheduler(String filename) {
-        this.title = "My Schedule";
-        this.catalog = new ArrayList<>();
-        this.schedule = new ArrayList<>();
+        this(filename, new SimpleMetricsRegistry());
+    }
 
+    /**
+     * Constructs a new WolfScheduler with a default title that reads its catalog from the
+     * specified file, like WolfScheduler(String), and keeps its metrics in the given registry.
+     * @param filename The name of the file to read course records from.
+     * @param metrics The registry to keep metrics in.
+     * @throws IllegalArgumentException If the file cannot be found or read, is a damaged binary
+     *                                  course records file, or the registry is null.
+     */
+    public WolfScheduler(String filename, MetricsRegistry metrics) {
+        this(new ListCourseCatalog(new ArrayList<>()), metrics);
+
+        long start = System.nanoTime();
+        boolean binary = BinaryCourseRecordIO.isBinaryCourseRecords(filename);
         try {
-            ArrayList<Course> coursesInputFile = CourseRecordIO.readCourseRecords(filename);
-            this.catalog.addAll(coursesInputFile);
-        } catch (IllegalArgumentException | FileNotFoundException e) {
+            ArrayList<Course> coursesInputFile;
+            if (binary) {
+                coursesInputFile = BinaryCourseRecordIO.readCourseRecords(filename);
+            } else {
+                CourseLoadResult result = CourseRecordIO.loadCourseRecords(filename);
+                coursesInputFile = result.getCourses();
+                this.catalogRejections = result.getRejectionReport();
+            }
+            this.catalog = new ListCourseCatalog(coursesInputFile);
+        } catch (FileNotFoundException e) {
+            throw new IllegalArgumentException("Cannot find file.", e);
+        } catch (IllegalArgumentException e) {
+            if (binary) {
+                throw e;
+            }
             throw new IllegalArgumentException("Cannot find file.", e);
         }
+        metrics.histogram(CATALOG_LOAD_METRIC).recordSince(start);
+        metrics.counter(CATALOG_COURSES_METRIC).add(catalog.size());
+        metrics.counter(CATALOG_SKIPPED_LINES_METRIC).add(catalogRejections.getRejectedCount());
+    }
+
+    /**
+     * Constructs a new WolfScheduler with a default title, an empty schedule, and the given
+     * catalog, such as a ColumnarCourseCatalog for catalogs too large to hold as Course objects.
+     * @param catalog The courses available for scheduling.
+     * @throws IllegalArgumentException If the catalog is null.
+     */
+    public WolfScheduler(CourseCatalog catalog) {
+        this(catalog, new SimpleMetricsRegistry());
+    }
+
+    /**
+     * Constructs a new WolfScheduler with a default title, an empty schedule, and the given
+     * catalog, keeping its metrics in the given registry.
+     * @param catalog The courses available for scheduling.
+     * @param metrics The registry to keep metrics in.
+     * @throws IllegalArgumentException If the catalog or the registry is null.
+     */
+    public WolfScheduler(CourseCatalog catalog, MetricsRegistry metrics) {
+        if (catalog == null) {
+            throw new IllegalArgumentException("Invalid catalog.");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("Invalid metrics.");
+        }
+        this.title = "My Schedule";
+        this.catalog = catalog;
+        this.schedule = new ArrayList<>();
+        this.occupancy = new ScheduleOccupancy();
+        this.eventTitles = new HashSet<>();
+        this.catalogRejections = new RejectionReport(0);
+        this.metrics = metrics;
+        this.addCourseLatency = metrics.histogram(ADD_COURSE_METRIC);
+        this.addEventLatency = metrics.histogram(ADD_EVENT_METRIC);
+        this.getCourseLatency = metrics.histogram(GET_COURSE_METRIC);
+        this.searchLatency = metrics.histogram(SEARCH_METRIC);
+        this.generateLatency = metrics.histogram(GENERATE_METRIC);
+        this.conflictChecks = metrics.counter(CONFLICT_CHECKS_METRIC);
+        this.conflictRejections = metrics.counter(CONFLICT_REJECTIONS_METRIC);
+    }
+
+    /**
+     * Returns the report of the lines rejected when the catalog was loaded from a text
+     * file. The report is empty for other catalogs.
+     * @return the catalog rejection report
+     */
+    public RejectionReport getCatalogRejectionReport() {
+        return catalogRejections;
+    }
+
+    /**
+     * Returns the registry the scheduler's metrics are kept in.
+     * @return the metrics registry
+     */
+    public MetricsRegistry getMetrics() {
+        return metrics;
     }
 
     /**
      * Returns a size 4 array representation of the course catalog. Each row of the array
-     * includes the name, section, title, and meetingString in the catalog.
+     * includes the name, section, title, and meetingString in the catalog. The array is
+     * built once and returned untouched until the catalog changes, so callers must not
+     * modify it. When courses are only added to the catalog, rows are built for the new
+     * courses alone; when a course in the catalog has changed, every row is taken again.
      *
      * @return A 4D array representation of the course catalog.
      */
     public String[][] getCourseCatalog() {
-            String [][] catalogArray = new String[catalog.size()][3];
-            for (int i = 0; i < catalog.size(); i++) {
-                Course c = catalog.get(i);
-                catalogArray[i] = c.getShortDisplayArray();
-            }
-            return catalogArray;
+        int size = catalog.size();
+        long changes = catalog.getChangeCount();
+        if (catalogDisplay != null && catalogDisplay.length == size && catalogDisplayChanges == changes) {
+            return catalogDisplay;
+        }
+        int built = 0;
+        if (catalogDisplay == null) {
+            catalogDisplay = new String[size][];
+        } else {
+            built = catalogDisplayChanges == changes ? Math.min(catalogDisplay.length, size) : 0;
+            catalogDisplay = Arrays.copyOf(catalogDisplay, size);
+        }
+        for (int i = built; i < size; i++) {
+            catalogDisplay[i] = catalog.getDisplayRow(i);
         }
+        catalogDisplayChanges = changes;
+        return catalogDisplay;
+    }
 
     /**
-     * /**
-	 * Returns a 4D array representation of the scheduled activities. 
-	 *
-     * @return A 4D array representation of the scheduled sctivities.
+     * Returns a 4D array representation of the scheduled activities.
+     *
+     * @return A 4D array representation of the scheduled activities.
      */
     public String[][] getScheduledActivities() {
     	String [][] scheduledActivities = new String[schedule.size()][3];
@@ -104,12 +277,192 @@ public class WolfScheduler {
      * @return The course from the catalog, or null if not found.
      */
     public Course getCourseFromCatalog(String name, String section) {
-        for (Course course : catalog) {
-            if (course.getName().equals(name) && course.getSection().equals(section)) {
-                return course;
+        long start = System.nanoTime();
+        Course course = catalog.getCourse(name, section);
+        getCourseLatency.recordSince(start);
+        return course;
+    }
+
+    /**
+     * Searches the catalog and returns one page of the matching courses in catalog order,
+     * for catalogs too large to filter from getCourseCatalog. The catalog is indexed by
+     * the first search, and again after courses are added to it or changed, so later
+     * searches do not scan the catalog.
+     * @param query  The search criteria.
+     * @param offset The number of matches before the page.
+     * @param limit  The largest number of courses on the page.
+     * @return The page of matching courses, with the total number of matches.
+     * @throws IllegalArgumentException If the query is null, the offset is negative, or the
+     *                                  limit is not positive.
+     */
+    public CourseSearchPage searchCatalog(CourseQuery query, int offset, int limit) {
+        long start = System.nanoTime();
+        try {
+            return getSearchIndex().search(query, offset, limit);
+        } finally {
+            searchLatency.recordSince(start);
+        }
+    }
+
+    /**
+     * Returns the search index of the catalog, building it the first time and rebuilding
+     * it once courses have been appended to the catalog or changed in it since.
+     * @return The search index.
+     */
+    private CourseSearchIndex getSearchIndex() {
+        long changes = catalog.getChangeCount();
+        if (searchIndex == null || searchIndex.size() != catalog.size() || searchIndexChanges != changes) {
+            searchIndex = new CourseSearchIndex(catalog);
+            searchIndexChanges = changes;
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the conflicts between the sections of the catalog, building them in parallel
+     * the first time. Afterwards, courses appended to the catalog are added and courses
+     * changed in it are moved to their new meeting patterns; when the catalog no longer
+     * knows which courses changed, the matrix is built again.
+     * @return The catalog conflict matrix.
+     */
+    public CatalogConflictMatrix getConflictMatrix() {
+        long changes = catalog.getChangeCount();
+        int[] changed = null;
+        if (conflictMatrix != null && changes != conflictMatrixChanges) {
+            changed = catalog.getChangedPositions(conflictMatrixChanges);
+            if (changed == null) {
+                conflictMatrix = null;
+            }
+        }
+        if (conflictMatrix == null) {
+            long start = System.nanoTime();
+            conflictMatrix = new CatalogConflictMatrix(catalog);
+            metrics.histogram(CONFLICT_MATRIX_BUILD_METRIC).recordSince(start);
+        } else {
+            if (conflictMatrix.size() != catalog.size()) {
+                conflictMatrix.update();
+            }
+            if (changed != null) {
+                for (int position : changed) {
+                    conflictMatrix.update(position);
+                }
+            }
+        }
+        conflictMatrixChanges = changes;
+        return conflictMatrix;
+    }
+
+    /**
+     * Uses a search index and conflict matrix of the catalog built elsewhere, so that
+     * schedulers sharing an unchanging catalog also share them instead of each building
+     * its own.
+     * @param index  The search index of this scheduler's catalog.
+     * @param matrix The conflict matrix of this scheduler's catalog.
+     */
+    void shareCatalogIndexes(CourseSearchIndex index, CatalogConflictMatrix matrix) {
+        this.searchIndex = index;
+        this.conflictMatrix = matrix;
+        this.searchIndexChanges = catalog.getChangeCount();
+        this.conflictMatrixChanges = searchIndexChanges;
+    }
+
+    /**
+     * Returns the rows of getCourseCatalog for the courses that conflict with no activity
+     * in the schedule, for hiding the sections that cannot be added.
+     * @return The name, section, title and meeting string of each course that fits.
+     */
+    public String[][] getNonConflictingCourseCatalog() {
+        CatalogConflictMatrix matrix = getConflictMatrix();
+        BitSet hidden = new BitSet(matrix.size());
+        for (Activity activity : schedule) {
+            hidden.or(matrix.getConflicts(activity));
+        }
+        String[][] rows = getCourseCatalog();
+        String[][] open = new String[rows.length - hidden.cardinality()][];
+        for (int i = 0, next = 0; i < rows.length; i++) {
+            if (!hidden.get(i)) {
+                open[next++] = rows[i];
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Returns the first combinations of one section of each named course that conflict
+     * neither with each other nor with the activities already in the schedule, searching
+     * on the calling thread. The schedule is not changed.
+     * @param courseNames  The names of the courses to schedule.
+     * @param maxSchedules The largest number of combinations to return.
+     * @return The combinations, each listing one section of every course in the order the
+     *         names were given; empty if a course has no section that fits.
+     * @throws IllegalArgumentException If the names are null, empty, or repeated, a name
+     *                                  is null, the user is already enrolled in a course,
+     *                                  or maxSchedules is not positive.
+     */
+    public List<List<Course>> generateSchedules(String[] courseNames, int maxSchedules) {
+        return generateSchedules(courseNames, maxSchedules, 1);
+    }
+
+    /**
+     * Returns the first combinations of one section of each named course that conflict
+     * neither with each other nor with the activities already in the schedule, searching
+     * on several threads. The combinations are the same, in the same order, for every
+     * parallelism. The schedule is not changed.
+     * @param courseNames  The names of the courses to schedule.
+     * @param maxSchedules The largest number of combinations to return.
+     * @param parallelism  The number of threads to search on.
+     * @return The combinations, each listing one section of every course in the order the
+     *         names were given; empty if a course has no section that fits.
+     * @throws IllegalArgumentException If the names are null, empty, or repeated, a name
+     *                                  is null, the user is already enrolled in a course,
+     *                                  or maxSchedules or parallelism is not positive.
+     */
+    public List<List<Course>> generateSchedules(String[] courseNames, int maxSchedules, int parallelism) {
+        long start = System.nanoTime();
+        try {
+            if (courseNames == null || courseNames.length == 0) {
+                throw new IllegalArgumentException("Invalid course names.");
+            }
+            HashSet<String> names = new HashSet<>();
+            ArrayList<List<Course>> courseSections = new ArrayList<>(courseNames.length);
+            for (String name : courseNames) {
+                if (name == null || !names.add(name)) {
+                    throw new IllegalArgumentException("Invalid course names.");
+                }
+                courseSections.add(getOpenSections(name));
+            }
+            return new ScheduleGenerator(courseSections).generate(maxSchedules, parallelism);
+        } finally {
+            generateLatency.recordSince(start);
+        }
+    }
+
+    /**
+     * Returns the sections of a course in catalog order that do not conflict with the
+     * activities in the schedule.
+     * @param name The name of the course.
+     * @return The sections that fit in the schedule.
+     * @throws IllegalArgumentException If the user is already enrolled in the course.
+     */
+    private List<Course> getOpenSections(String name) {
+        int[] positions = getSearchIndex().getPositions(name);
+        ArrayList<Course> sections = new ArrayList<>();
+        if (positions.length == 0) {
+            return sections;
+        }
+        for (Activity activity : schedule) {
+            if (activity instanceof Course && ((Course) activity).getName().equals(name)) {
+                throw new IllegalArgumentException("You are already enrolled in " + name);
             }
         }
-        return null; 
+        for (int position : positions) {
+            conflictChecks.increment();
+            if (!occupancy.conflictsWith(catalog.getMeetingDaysMask(position), catalog.getStartTime(position),
+                    catalog.getEndTime(position))) {
+                sections.add(catalog.getCourse(position));
+            }
+        }
+        return sections;
     }
 
     /**
@@ -119,7 +472,11 @@ public class WolfScheduler {
      */
     public boolean removeActivityFromSchedule(int idx) {
         try {
-            schedule.remove(idx);
+            Activity removed = schedule.remove(idx);
+            occupancy.remove(removed);
+            if (removed instanceof Event) {
+                eventTitles.remove(removed.getTitle());
+            }
             return true;
         } catch (IndexOutOfBoundsException e) {
             return false;
@@ -154,27 +511,35 @@ public class WolfScheduler {
      * @throws IllegalArgumentException If the user is already enrolled in the course.
      */
     public boolean addCourseToSchedule(String name, String section) {
-        Course catalogCourse = getCourseFromCatalog(name, section);
-        if (catalogCourse == null) {
-            return false;
-        }
-        
-        for (Activity activity : schedule) {
-            // Check for conflicts
-            try {
-                catalogCourse.checkConflict(activity);
-            } catch (ConflictException e) {
-                throw new IllegalArgumentException("The course cannot be added due to a conflict.");
+        long start = System.nanoTime();
+        try {
+            Course catalogCourse = getCourseFromCatalog(name, section);
+            if (catalogCourse == null) {
+                return false;
             }
 
-            // Check for duplicates
-            if (activity.isDuplicate(catalogCourse)) {
-                throw new IllegalArgumentException("You are already enrolled in " + name);
+            // Only look for the conflicting activity when the course meets at a taken time
+            conflictChecks.increment();
+            boolean conflict = occupancy.conflictsWith(catalogCourse);
+            for (Activity activity : schedule) {
+                // Check for conflicts
+                if (conflict && catalogCourse.conflictsWith(activity)) {
+                    conflictRejections.increment();
+                    throw new IllegalArgumentException("The course cannot be added due to a conflict.");
+                }
+
+                // Check for duplicates
+                if (activity.isDuplicate(catalogCourse)) {
+                    throw new IllegalArgumentException("You are already enrolled in " + name);
+                }
             }
-        }
 
-        schedule.add(catalogCourse);
-        return true;
+            schedule.add(catalogCourse);
+            occupancy.add(catalogCourse);
+            return true;
+        } finally {
+            addCourseLatency.recordSince(start);
+        }
     }
     
 
@@ -184,7 +549,8 @@ public class WolfScheduler {
      */
 	public void resetSchedule() {
 		schedule = new ArrayList<>();
-		
+		occupancy.clear();
+		eventTitles.clear();
 	}
 
 	/**
@@ -202,31 +568,36 @@ public class WolfScheduler {
 	
 	/**
 	 * Adds a new event to the schedule, checking for duplicates based on the event title.
-	 * If a duplicate event is found, an IllegalArgumentException is thrown.
+	 * If a duplicate event is found, an IllegalArgumentException is thrown. Duplicates are
+	 * reported before conflicts. Both checks use the schedule's indexes rather than
+	 * scanning the scheduled activities.
 	 *
 	 * @param eventTitle the title of the new event.
 	 * @param eventMeetingDays the meeting days of the new event.
 	 * @param eventStartTime the start time of the new event in military format.
 	 * @param eventEndTime the end time of the new event in military format.
 	 * @param eventDetails additional details or description of the new event.
-	 * @throws IllegalArgumentException if a duplicate event already exists in the schedule.
+	 * @throws IllegalArgumentException if a duplicate event already exists in the schedule,
+	 *                                  or the event conflicts with a scheduled activity.
 	 */
 	public void addEventToSchedule(String eventTitle, String eventMeetingDays, int eventStartTime, int eventEndTime, String eventDetails) {
-		Event newEvent = new Event(eventTitle, eventMeetingDays, eventStartTime, eventEndTime, eventDetails);
-
-	    for (Activity activity : schedule) {
-	        if (activity.isDuplicate(newEvent)) {
-	            throw new IllegalArgumentException("You have already created an event called " + eventTitle);
-	        }
-	    }
-	    
-	    for (Activity activity : schedule) {
-	        try {
-	            activity.checkConflict(newEvent);
-	        } catch (ConflictException e) {
-	            throw new IllegalArgumentException("The event cannot be added due to a conflict.");
-	        }
-	    }
-	    schedule.add(newEvent);
+		long start = System.nanoTime();
+		try {
+			Event newEvent = new Event(eventTitle, eventMeetingDays, eventStartTime, eventEndTime, eventDetails);
+
+		    if (eventTitles.contains(newEvent.getTitle())) {
+		        throw new IllegalArgumentException("You have already created an event called " + eventTitle);
+		    }
+		    conflictChecks.increment();
+		    if (occupancy.conflictsWith(newEvent)) {
+		        conflictRejections.increment();
+		        throw new IllegalArgumentException("The event cannot be added due to a conflict.");
+		    }
+		    schedule.add(newEvent);
+		    occupancy.add(newEvent);
+		    eventTitles.add(newEvent.getTitle());
+		} finally {
+			addEventLatency.recordSince(start);
+		}
 	}
 }
@@ -31,6 +31,7 @@ import javax.swing.event.ListSelectionListener;
 import javax.swing.table.AbstractTableModel;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.metrics.JmxMetricsRegistry;
 import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
 
 /**
@@ -74,8 +75,15 @@ public class WolfSchedulerGUI extends JFrame {
 		setDefaultCloseOperation(EXIT_ON_CLOSE);
 		
 		//Construct the underlying model object
+		//Publish the scheduler's metrics over JMX
+		JmxMetricsRegistry metrics = new JmxMetricsRegistry();
+		try {
+			metrics.register();
+		} catch (IllegalArgumentException e) {
+			//Another scheduler in this JVM already publishes its metrics
+		}
 		try {			
-			scheduler = new WolfScheduler(getFileName(true));
+			scheduler = new WolfScheduler(getFileName(true), metrics);
 		} catch (IllegalStateException e) {
 			System.exit(1);
 		}
@@ -0,0 +1,140 @@
+package edu.ncsu.csc216.wolf_scheduler.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Random;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests CatalogConflictMatrix.
+ * @author Dania Swelam
+ */
+public class CatalogConflictMatrixTest {
+
+	/** Meeting day patterns of the random courses */
+	private static final String[] DAY_PATTERNS = { "MW", "TH", "MWF", "M", "F", "WF", "A" };
+
+	/**
+	 * Returns random courses, many sharing their days and times.
+	 * @param count number of courses
+	 * @param seed seed of the random courses
+	 * @return the courses
+	 */
+	private static ArrayList<Course> randomCourses(int count, long seed) {
+		Random random = new Random(seed);
+		ArrayList<Course> courses = new ArrayList<Course>();
+		for (int i = 0; i < count; i++) {
+			String section = String.format("%03d", i % 999 + 1);
+			String name = "CSC " + (100 + i / 999);
+			String days = DAY_PATTERNS[random.nextInt(DAY_PATTERNS.length)];
+			if ("A".equals(days)) {
+				courses.add(new Course(name, "Title", section, 3, "inst", days));
+			} else {
+				int start = 800 + 100 * random.nextInt(10) + 5 * random.nextInt(2);
+				courses.add(new Course(name, "Title", section, 3, "inst", days, start, start + (random.nextBoolean() ? 50 : 115)));
+			}
+		}
+		return courses;
+	}
+
+	/**
+	 * Checks every query of the matrix against comparing each pair of courses.
+	 * @param matrix the matrix
+	 * @param catalog the catalog of the matrix
+	 */
+	private static void assertMatches(CatalogConflictMatrix matrix, CourseCatalog catalog) {
+		assertEquals(catalog.size(), matrix.size());
+		for (int i = 0; i < catalog.size(); i++) {
+			BitSet expected = new BitSet();
+			for (int j = 0; j < catalog.size(); j++) {
+				if (i != j && catalog.getCourse(i).conflictsWith(catalog.getCourse(j))) {
+					expected.set(j);
+				}
+				assertEquals(expected.get(j), matrix.conflicts(i, j));
+			}
+			assertEquals(expected, matrix.getConflicts(i));
+			assertEquals(expected.cardinality(), matrix.getConflictCount(i));
+		}
+	}
+
+	/**
+	 * Tests that the matrix built on one thread or several matches the pairwise conflicts.
+	 */
+	@Test
+	public void testBuild() {
+		for (long seed = 1; seed <= 3; seed++) {
+			ListCourseCatalog catalog = new ListCourseCatalog(randomCourses(300, seed));
+			CatalogConflictMatrix sequential = new CatalogConflictMatrix(catalog, 1);
+			assertMatches(sequential, catalog);
+			CatalogConflictMatrix parallel = new CatalogConflictMatrix(catalog, 3);
+			assertMatches(parallel, catalog);
+			assertEquals(sequential.getPatternCount(), parallel.getPatternCount());
+			assertTrue(sequential.getPatternCount() < 300);
+		}
+
+		CatalogConflictMatrix empty = new CatalogConflictMatrix(new ListCourseCatalog(new ArrayList<Course>()));
+		assertEquals(0, empty.size());
+		assertThrows(IndexOutOfBoundsException.class, () -> empty.getConflicts(0));
+		assertThrows(IllegalArgumentException.class, () -> new CatalogConflictMatrix(null));
+		assertThrows(IllegalArgumentException.class,
+				() -> new CatalogConflictMatrix(new ListCourseCatalog(new ArrayList<Course>()), 0));
+	}
+
+	/**
+	 * Tests the conflicts of activities that are not in the catalog.
+	 */
+	@Test
+	public void testActivityConflicts() {
+		ListCourseCatalog catalog = new ListCourseCatalog(randomCourses(200, 4));
+		CatalogConflictMatrix matrix = new CatalogConflictMatrix(catalog);
+		Event[] events = { new Event("Lunch", "MTWHF", 1200, 1300, ""), new Event("Gym", "U", 800, 2359, ""),
+			new Event("Nothing", "S", 2200, 2300, "") };
+		for (Event event : events) {
+			BitSet expected = new BitSet();
+			for (int i = 0; i < catalog.size(); i++) {
+				if (event.conflictsWith(catalog.getCourse(i))) {
+					expected.set(i);
+				}
+			}
+			assertEquals(expected, matrix.getConflicts(event));
+		}
+		assertTrue(matrix.getConflicts(events[2]).isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> matrix.getConflicts(null));
+	}
+
+	/**
+	 * Tests keeping the matrix up to date as courses are appended and changed.
+	 */
+	@Test
+	public void testUpdate() {
+		ColumnarCourseCatalog columnar = new ColumnarCourseCatalog(randomCourses(100, 5));
+		CatalogConflictMatrix matrix = new CatalogConflictMatrix(columnar, 2);
+		for (Course course : randomCourses(200, 6)) {
+			columnar.add(new Course("MA " + course.getName().substring(4), course.getTitle(), course.getSection(),
+					course.getCredits(), course.getInstructorId(), course.getMeetingDays(), course.getStartTime(),
+					course.getEndTime()));
+		}
+		columnar.add(new Course("PY 205", "Physics", "001", 4, "inst", "F", 2300, 2350));
+		matrix.update();
+		assertMatches(matrix, columnar);
+
+		ArrayList<Course> courses = randomCourses(120, 7);
+		ListCourseCatalog list = new ListCourseCatalog(courses);
+		matrix = new CatalogConflictMatrix(list);
+		courses.get(3).setMeetingDaysAndTime("H", 1000, 1100);
+		matrix.update(3);
+		courses.get(4).setMeetingDaysAndTime("A", 0, 0);
+		matrix.update(4);
+		courses.get(5).setMeetingDaysAndTime("F", 600, 700);
+		matrix.update(5);
+		assertMatches(matrix, list);
+		CatalogConflictMatrix updated = matrix;
+		assertThrows(IndexOutOfBoundsException.class, () -> updated.update(120));
+	}
+}
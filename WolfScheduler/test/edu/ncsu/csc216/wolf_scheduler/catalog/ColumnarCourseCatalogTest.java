@@ -0,0 +1,119 @@
+package edu.ncsu.csc216.wolf_scheduler.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Tests ColumnarCourseCatalog.
+ * @author Dania Swelam
+ */
+public class ColumnarCourseCatalogTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Tests that the catalog gives back courses equal to the ones it was built from.
+	 */
+	@Test
+	public void testGetCourse() throws FileNotFoundException {
+		ArrayList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile);
+		courses.add(new Course("CSC 316", "Data Structures and Algorithms", "002", 4, "jtking", "FWM", 0, 2359));
+		courses.add(new Course("CSC 316", "Data Structures and Algorithms", "002", 3, "sesmith5", "TH", 830, 945));
+		ColumnarCourseCatalog catalog = new ColumnarCourseCatalog(courses);
+
+		assertEquals(15, catalog.size());
+		for (int i = 0; i < courses.size(); i++) {
+			assertEquals(courses.get(i).toString(), catalog.getCourse(i).toString());
+			assertEquals(courses.get(i).getMeetingString(), catalog.getCourse(i).getMeetingString());
+		}
+		assertEquals("FWM", catalog.getCourse(13).getMeetingDays());
+		assertEquals("A", catalog.getCourse("CSC 217", "601").getMeetingDays());
+
+		// The first course with a name and section is found
+		assertEquals("jtking", catalog.getCourse("CSC 316", "002").getInstructorId());
+		assertEquals("spbalik", catalog.getCourse("CSC 116", "002").getInstructorId());
+		assertNull(catalog.getCourse("CSC 316", "003"));
+		assertNull(catalog.getCourse("CSC 999", "001"));
+		assertNull(catalog.getCourse(null, null));
+		assertThrows(IndexOutOfBoundsException.class, () -> catalog.getCourse(15));
+		assertThrows(IndexOutOfBoundsException.class, () -> catalog.getCourse(-1));
+
+		// Courses are copies of the catalog's
+		Course course = catalog.getCourse(0);
+		assertNotSame(course, catalog.getCourse(0));
+		course.setTitle("Changed");
+		assertEquals("Intro to Programming - Java", catalog.getCourse(0).getTitle());
+
+		assertThrows(IllegalArgumentException.class, () -> new ColumnarCourseCatalog(null));
+		assertThrows(IllegalArgumentException.class, () -> catalog.add(null));
+	}
+
+	/**
+	 * Tests that the field accessors and display rows match the courses the catalog was
+	 * built from, that rows are built anew rather than kept, and that courses meeting
+	 * at the same days and times share a meeting string.
+	 */
+	@Test
+	public void testColumns() throws FileNotFoundException {
+		ArrayList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile);
+		courses.add(new Course("CSC 316", "Data Structures and Algorithms", "002", 4, "jtking", "FWM", 910, 1100));
+		ColumnarCourseCatalog catalog = new ColumnarCourseCatalog(courses);
+
+		for (int i = 0; i < courses.size(); i++) {
+			Course course = courses.get(i);
+			assertEquals(course.getName(), catalog.getName(i));
+			assertEquals(course.getTitle(), catalog.getTitle(i));
+			assertEquals(course.getSection(), catalog.getSection(i));
+			assertEquals(course.getCredits(), catalog.getCredits(i));
+			assertEquals(course.getInstructorId(), catalog.getInstructorId(i));
+			assertEquals(course.getMeetingDaysMask(), catalog.getMeetingDaysMask(i));
+			assertEquals(course.getStartTime(), catalog.getStartTime(i));
+			assertEquals(course.getEndTime(), catalog.getEndTime(i));
+			assertArrayEquals(course.getShortDisplayArray(), catalog.getDisplayRow(i));
+		}
+		assertNotSame(catalog.getDisplayRow(3), catalog.getDisplayRow(3));
+		assertSame(catalog.getDisplayRow(3)[3], catalog.getDisplayRow(3)[3]);
+		assertEquals("FWM 9:10AM-11:00AM", catalog.getDisplayRow(13)[3]);
+		assertEquals("Arranged", catalog.getDisplayRow(5)[3]);
+
+		catalog.add(new Course("CSC 499", "Independent Study", "001", 3, "jdyoung2", "MW", 910, 1100));
+		for (int i = 14; i < 40; i++) {
+			catalog.add(new Course("CSC 499", "Independent Study", String.format("%03d", i), 3, "jdyoung2", "A"));
+		}
+		assertSame(catalog.getDisplayRow(0)[3], catalog.getDisplayRow(14)[3]);
+		assertEquals("Arranged", catalog.getDisplayRow(40)[3]);
+		assertSame(catalog.getDisplayRow(5)[3], catalog.getDisplayRow(40)[3]);
+		assertArrayEquals(courses.get(3).getShortDisplayArray(), catalog.getDisplayRow(3));
+		assertThrows(IndexOutOfBoundsException.class, () -> catalog.getDisplayRow(41));
+		assertThrows(IndexOutOfBoundsException.class, () -> catalog.getName(-1));
+	}
+
+	/**
+	 * Tests a catalog that grows past its initial capacity.
+	 */
+	@Test
+	public void testAddManyCourses() {
+		ColumnarCourseCatalog catalog = new ColumnarCourseCatalog();
+		assertEquals(0, catalog.size());
+		for (int i = 0; i < 5000; i++) {
+			catalog.add(new Course("CSC " + (100 + i / 100), "Title " + i % 7, String.format("%03d", i % 100), 1 + i % 5,
+					"instructor" + i % 13, "MWF", 800 + i % 60, 1000));
+		}
+		assertEquals(5000, catalog.size());
+		for (int i = 0; i < 5000; i += 37) {
+			Course course = catalog.getCourse("CSC " + (100 + i / 100), String.format("%03d", i % 100));
+			assertEquals(catalog.getCourse(i).toString(), course.toString());
+			assertEquals(800 + i % 60, course.getStartTime());
+			assertEquals(1 + i % 5, course.getCredits());
+			assertArrayEquals(course.getShortDisplayArray(), catalog.getDisplayRow(i));
+		}
+	}
+}
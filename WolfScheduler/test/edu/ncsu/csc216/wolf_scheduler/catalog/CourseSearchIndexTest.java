@@ -0,0 +1,183 @@
+package edu.ncsu.csc216.wolf_scheduler.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CourseSearchIndex and CourseQuery.
+ * @author Dania Swelam
+ */
+public class CourseSearchIndexTest {
+
+	/**
+	 * Returns a small catalog with arranged courses, shared instructors and titles.
+	 * @return the catalog
+	 */
+	private static CourseCatalog catalog() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310));
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "003", 3, "tbdimitr", "TH", 1120, 1310));
+		courses.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330, 1445));
+		courses.add(new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"));
+		courses.add(new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3, "tmbarnes", "MWF", 935, 1025));
+		courses.add(new Course("CSC 230", "C and Software Tools", "001", 3, "dbsturgi", "MW", 1145, 1300));
+		courses.add(new Course("CSC 316", "Data Structures and Algorithms", "001", 3, "jtking", "MW", 1500, 1615));
+		courses.add(new Course("MA 141", "Calculus I", "001", 4, "spbalik", "TWHF", 800, 850));
+		return new ListCourseCatalog(courses);
+	}
+
+	/**
+	 * Returns the name and section of each course on a page.
+	 * @param page the page
+	 * @return the name and section of each course
+	 */
+	private static List<String> keys(CourseSearchPage page) {
+		ArrayList<String> keys = new ArrayList<String>();
+		for (Course course : page.getCourses()) {
+			keys.add(course.getName() + "-" + course.getSection());
+		}
+		return keys;
+	}
+
+	/**
+	 * Tests searches on each criterion and on several criteria together.
+	 */
+	@Test
+	public void testSearch() {
+		CourseSearchIndex index = new CourseSearchIndex(catalog());
+		assertEquals(9, index.size());
+
+		CourseQuery query = new CourseQuery();
+		assertEquals(9, index.count(query));
+
+		query.setNamePrefix("csc 2");
+		assertEquals(List.of("CSC 216-001", "CSC 216-601", "CSC 226-001", "CSC 230-001"),
+				keys(index.search(query, 0, 10)));
+		query.setNamePrefix("CSC 3");
+		assertEquals(List.of("CSC 316-001"), keys(index.search(query, 0, 10)));
+		query.setNamePrefix("EE");
+		assertEquals(0, index.count(query));
+		query.setNamePrefix(null);
+
+		query.setTitleKeywords("SOFTWARE");
+		assertEquals(List.of("CSC 216-001", "CSC 216-601", "CSC 230-001"), keys(index.search(query, 0, 10)));
+		query.setTitleKeywords("software, tools");
+		assertEquals(List.of("CSC 230-001"), keys(index.search(query, 0, 10)));
+		query.setTitleKeywords("java");
+		assertEquals(3, index.count(query));
+		query.setTitleKeywords("soft");
+		assertEquals(0, index.count(query));
+		query.setTitleKeywords(" ");
+		assertNull(query.getTitleKeywords());
+
+		query.setInstructorId("spbalik");
+		assertEquals(List.of("CSC 116-002", "MA 141-001"), keys(index.search(query, 0, 10)));
+		query.setInstructorId("nobody");
+		assertEquals(0, index.count(query));
+		query.setInstructorId(null);
+
+		query.setCredits(4);
+		assertEquals(List.of("MA 141-001"), keys(index.search(query, 0, 10)));
+		query.setCredits(5);
+		assertEquals(0, index.count(query));
+		query.setCredits(0);
+
+		query.setMeetingDays("TH");
+		assertEquals(List.of("CSC 116-003", "CSC 216-001", "MA 141-001"), keys(index.search(query, 0, 10)));
+		query.setMeetingDays("F");
+		assertEquals(List.of("CSC 226-001", "MA 141-001"), keys(index.search(query, 0, 10)));
+		query.setMeetingDays(null);
+
+		query.setEarliestStart(1120);
+		assertEquals(List.of("CSC 116-002", "CSC 116-003", "CSC 216-001", "CSC 230-001", "CSC 316-001"),
+				keys(index.search(query, 0, 10)));
+		query.setLatestEnd(1310);
+		assertEquals(List.of("CSC 116-002", "CSC 116-003", "CSC 230-001"), keys(index.search(query, 0, 10)));
+		query.setEarliestStart(-1);
+		assertEquals(6, index.count(query));
+		query.setLatestEnd(-1);
+
+		query.setNamePrefix("CSC 1");
+		query.setMeetingDays("M");
+		query.setEarliestStart(1000);
+		assertEquals(List.of("CSC 116-002"), keys(index.search(query, 0, 10)));
+
+		assertThrows(IllegalArgumentException.class, () -> index.search(null, 0, 10));
+		assertThrows(IllegalArgumentException.class, () -> index.count(null));
+		assertThrows(IllegalArgumentException.class, () -> new CourseSearchIndex(null));
+	}
+
+	/**
+	 * Tests paging through the matches of a search.
+	 */
+	@Test
+	public void testPages() {
+		CourseSearchIndex index = new CourseSearchIndex(catalog());
+		CourseQuery query = new CourseQuery();
+		query.setNamePrefix("CSC");
+
+		CourseSearchPage page = index.search(query, 0, 3);
+		assertEquals(List.of("CSC 116-001", "CSC 116-002", "CSC 116-003"), keys(page));
+		assertEquals(0, page.getOffset());
+		assertEquals(8, page.getTotal());
+		assertTrue(page.hasNext());
+
+		page = index.search(query, 6, 3);
+		assertEquals(List.of("CSC 230-001", "CSC 316-001"), keys(page));
+		assertEquals(6, page.getOffset());
+		assertEquals(8, page.getTotal());
+		assertFalse(page.hasNext());
+		String[][] rows = page.getDisplayRows();
+		assertEquals(2, rows.length);
+		assertArrayEquals(new String[] {"CSC 316", "001", "Data Structures and Algorithms", "MW 3:00PM-4:15PM"},
+				rows[1]);
+
+		page = index.search(query, 8, 3);
+		assertTrue(page.getCourses().isEmpty());
+		assertFalse(page.hasNext());
+		CourseSearchPage last = page;
+		assertThrows(UnsupportedOperationException.class, () -> last.getCourses().clear());
+
+		assertThrows(IllegalArgumentException.class, () -> index.search(query, -1, 3));
+		assertThrows(IllegalArgumentException.class, () -> index.search(query, 0, 0));
+	}
+
+	/**
+	 * Tests finding the positions of the courses with an exact name.
+	 */
+	@Test
+	public void testGetPositions() {
+		CourseSearchIndex index = new CourseSearchIndex(catalog());
+		assertArrayEquals(new int[] { 0, 1, 2 }, index.getPositions("CSC 116"));
+		assertArrayEquals(new int[] { 3, 4 }, index.getPositions("CSC 216"));
+		assertArrayEquals(new int[] { 8 }, index.getPositions("MA 141"));
+		assertEquals(0, index.getPositions("csc 116").length);
+		assertEquals(0, index.getPositions("CSC 11").length);
+		assertEquals(0, index.getPositions("CSC 499").length);
+		assertThrows(IllegalArgumentException.class, () -> index.getPositions(null));
+	}
+
+	/**
+	 * Tests that invalid query criteria are rejected.
+	 */
+	@Test
+	public void testInvalidQuery() {
+		CourseQuery query = new CourseQuery();
+		assertThrows(IllegalArgumentException.class, () -> query.setCredits(-1));
+		assertThrows(IllegalArgumentException.class, () -> query.setMeetingDays("MX"));
+		assertThrows(IllegalArgumentException.class, () -> query.setMeetingDays("A"));
+		assertThrows(IllegalArgumentException.class, () -> query.setEarliestStart(2400));
+		assertThrows(IllegalArgumentException.class, () -> query.setLatestEnd(1160));
+		assertEquals(0, query.getCredits());
+		assertNull(query.getMeetingDays());
+		assertEquals(-1, query.getEarliestStart());
+		assertEquals(-1, query.getLatestEnd());
+	}
+}
@@ -0,0 +1,129 @@
+package edu.ncsu.csc216.wolf_scheduler.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests ListCourseCatalog.
+ * @author Dania Swelam
+ */
+public class ListCourseCatalogTest {
+
+	/**
+	 * Tests getting courses by position and by name and section.
+	 */
+	@Test
+	public void testGetCourse() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310));
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "002", 3, "jtking", "TH", 910, 1100));
+		courses.add(new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"));
+		ListCourseCatalog catalog = new ListCourseCatalog(courses);
+		courses.clear();
+
+		assertEquals(4, catalog.size());
+		assertEquals("jtking", catalog.getCourse(2).getInstructorId());
+		assertSame(catalog.getCourse(1), catalog.getCourse("CSC 116", "002"));
+		assertSame(catalog.getCourse(3), catalog.getCourse("CSC 216", "601"));
+		assertNull(catalog.getCourse("CSC 216", "001"));
+		assertNull(catalog.getCourse(null, "001"));
+		assertNull(catalog.getCourse("CSC 216", null));
+		assertThrows(IndexOutOfBoundsException.class, () -> catalog.getCourse(4));
+
+		assertThrows(IllegalArgumentException.class, () -> new ListCourseCatalog(null));
+		courses.add(null);
+		assertThrows(IllegalArgumentException.class, () -> new ListCourseCatalog(courses));
+	}
+
+	/**
+	 * Tests that the field accessors and display rows are those of the courses held.
+	 */
+	@Test
+	public void testColumns() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		courses.add(new Course("CSC 216", "Software Development Fundamentals", "601", 4, "jctetter", "A"));
+		ListCourseCatalog catalog = new ListCourseCatalog(courses);
+
+		assertEquals("CSC 116", catalog.getName(0));
+		assertEquals("Software Development Fundamentals", catalog.getTitle(1));
+		assertEquals("601", catalog.getSection(1));
+		assertEquals(4, catalog.getCredits(1));
+		assertEquals("jdyoung2", catalog.getInstructorId(0));
+		assertEquals(courses.get(0).getMeetingDaysMask(), catalog.getMeetingDaysMask(0));
+		assertEquals(0, catalog.getMeetingDaysMask(1));
+		assertEquals(910, catalog.getStartTime(0));
+		assertEquals(1100, catalog.getEndTime(0));
+		assertSame(courses.get(1).getShortDisplayArray(), catalog.getDisplayRow(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> catalog.getDisplayRow(2));
+
+		long changes = catalog.getChangeCount();
+		courses.get(1).setTitle("Software Development");
+		assertNotEquals(changes, catalog.getChangeCount());
+		assertEquals("Software Development", catalog.getDisplayRow(1)[2]);
+	}
+
+	/**
+	 * Tests that a catalog counts the changes to its own courses only.
+	 */
+	@Test
+	public void testGetChangeCount() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		ListCourseCatalog catalog = new ListCourseCatalog(courses);
+		Course other = new Course("CSC 216", "Software Development Fundamentals", "601", 4, "jctetter", "A");
+		ListCourseCatalog otherCatalog = new ListCourseCatalog(Arrays.asList(other));
+		Event event = new Event("Lunch", "MW", 1200, 1300, "Food");
+		assertEquals(0, catalog.getChangeCount());
+
+		event.getShortDisplayArray();
+		event.setTitle("Brunch");
+		other.getShortDisplayArray();
+		other.setCredits(3);
+		assertEquals(0, catalog.getChangeCount());
+		assertEquals(1, otherCatalog.getChangeCount());
+
+		courses.get(0).setMeetingDaysAndTime("TH", 910, 1100);
+		courses.get(0).setInstructorId("spbalik");
+		assertEquals(2, catalog.getChangeCount());
+		assertEquals(1, otherCatalog.getChangeCount());
+	}
+
+	/**
+	 * Tests the positions of the changed courses, and that the oldest are forgotten
+	 * once the catalog has seen more changes than it remembers.
+	 */
+	@Test
+	public void testGetChangedPositions() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310));
+		courses.add(new Course("CSC 116", "Intro to Programming - Java", "002", 3, "jtking", "TH", 910, 1100));
+		ListCourseCatalog catalog = new ListCourseCatalog(courses);
+		assertEquals(0, catalog.getChangedPositions(0).length);
+
+		courses.get(1).setTitle("Intro to Java");
+		courses.get(2).setCredits(4);
+		long changes = catalog.getChangeCount();
+		courses.get(0).setInstructorId("spbalik");
+		assertArrayEquals(new int[] { 1, 2, 0 }, catalog.getChangedPositions(0));
+		assertArrayEquals(new int[] { 0 }, catalog.getChangedPositions(changes));
+		assertThrows(IllegalArgumentException.class, () -> catalog.getChangedPositions(-1));
+		assertThrows(IllegalArgumentException.class, () -> catalog.getChangedPositions(4));
+
+		for (int i = 0; i < 20; i++) {
+			courses.get(2).setCredits(1 + i % 5);
+		}
+		assertEquals(23, catalog.getChangeCount());
+		assertNull(catalog.getChangedPositions(0));
+		assertArrayEquals(new int[] { 2 }, catalog.getChangedPositions(22));
+	}
+}
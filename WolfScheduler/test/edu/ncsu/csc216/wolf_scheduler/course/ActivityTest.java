@@ -193,5 +193,145 @@ class ActivityTest {
 	    assertDoesNotThrow(() -> a5.checkConflict(a1));
 	}
 	
+	/**
+	 * Tests conflictsWith() agrees with checkConflict() without throwing.
+	 */
+	@Test
+	public void testConflictsWith() {
+		Activity a1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445);
+		Activity a2 = new Event("Exercise", "MW", 1445, 1530, "Cardio");
+		Activity a3 = new Event("Exercise", "TH", 1330, 1445, "Cardio");
+		Activity a4 = new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A");
+		Activity a5 = new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1, "sesmith5", "A");
+		
+		assertTrue(a1.conflictsWith(a2));
+		assertTrue(a2.conflictsWith(a1));
+		assertTrue(a1.conflictsWith(a1));
+		assertFalse(a1.conflictsWith(a3));
+		assertFalse(a3.conflictsWith(a1));
+		assertFalse(a1.conflictsWith(a4));
+		assertFalse(a4.conflictsWith(a5));
+		
+		Exception e1 = assertThrows(ConflictException.class, () -> a1.checkConflict(a2));
+		assertEquals("Schedule conflict.", e1.getMessage());
+		assertDoesNotThrow(() -> a1.checkConflict(a3));
+	}
+	
+	/**
+	 * Tests getOverlap() reports the shared days and times of conflicting activities.
+	 */
+	@Test
+	public void testGetOverlap() {
+		Activity a1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MWF", 1330, 1445);
+		Activity a2 = new Event("Exercise", "UWF", 1400, 1530, "Cardio");
+		Activity a3 = new Event("Exercise", "M", 1445, 1530, "Cardio");
+		Activity a4 = new Event("Exercise", "TH", 1330, 1445, "Cardio");
+		
+		long overlap = a1.getOverlap(a2);
+		assertEquals(overlap, a2.getOverlap(a1));
+		assertEquals(0b0101000, Conflict.getOverlapDays(overlap));
+		assertEquals(1400, Conflict.getOverlapStartTime(overlap));
+		assertEquals(1445, Conflict.getOverlapEndTime(overlap));
+		
+		overlap = a1.getOverlap(a3);
+		assertEquals(0b0000010, Conflict.getOverlapDays(overlap));
+		assertEquals(1445, Conflict.getOverlapStartTime(overlap));
+		assertEquals(1445, Conflict.getOverlapEndTime(overlap));
+		
+		assertEquals(Conflict.NO_OVERLAP, a1.getOverlap(a4));
+		assertEquals(Conflict.NO_OVERLAP, a4.getOverlap(a1));
+	}
+	
+	/**
+	 * Tests getMeetingString() for every minute of the day against the 12-hour clock
+	 * format, and that it follows changes to the meeting days and times.
+	 */
+	@Test
+	public void testGetMeetingStringAllTimes() {
+		Activity e1 = new Event("Exercise", "MW", 0, 0, "Cardio");
+		for (int hour = 0; hour < 24; hour++) {
+			for (int minute = 0; minute < 60; minute++) {
+				int time = hour * 100 + minute;
+				e1.setMeetingDaysAndTime("MW", time, 2359);
+				String expected = "MW " + ((hour + 11) % 12 + 1) + ":" + (minute < 10 ? "0" : "") + minute
+						+ (hour < 12 ? "AM" : "PM") + "-11:59PM";
+				assertEquals(expected, e1.getMeetingString());
+				assertSame(e1.getMeetingString(), e1.getMeetingString());
+			}
+		}
+		
+		e1.setMeetingDaysAndTime("SU", 0, 1200);
+		assertEquals("SU 12:00AM-12:00PM", e1.getMeetingString());
+		assertThrows(IllegalArgumentException.class, () -> e1.setMeetingDaysAndTime("SU", 0, 1260));
+		assertEquals("SU 12:00AM-12:00PM", e1.getMeetingString());
+		
+		Activity c1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445);
+		c1.setMeetingDaysAndTime("A", 0, 0);
+		assertEquals("Arranged", c1.getMeetingString());
+	}
+	
+	/**
+	 * Tests getMeetingDaysMask() and that it follows changes to the meeting days.
+	 */
+	@Test
+	public void testGetMeetingDaysMask() {
+		Activity c1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445);
+		Activity c2 = new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A");
+		Activity e1 = new Event("Exercise", "UMTWHFS", 800, 900, "Cardio");
+		Activity e2 = new Event("Exercise", "SU", 800, 900, "Weekends");
+		
+		assertEquals(0b0001010, c1.getMeetingDaysMask());
+		assertEquals(0, c2.getMeetingDaysMask());
+		assertEquals(0b1111111, e1.getMeetingDaysMask());
+		assertEquals(0b1000001, e2.getMeetingDaysMask());
+		
+		c1.setMeetingDaysAndTime("TH", 1330, 1445);
+		assertEquals(0b0010100, c1.getMeetingDaysMask());
+		
+		//An invalid change leaves the mask as it was
+		assertThrows(IllegalArgumentException.class, () -> c1.setMeetingDaysAndTime("TX", 1330, 1445));
+		assertEquals(0b0010100, c1.getMeetingDaysMask());
+	}
+	
+	/**
+	 * Tests that listeners are told about each change to an activity's fields.
+	 */
+	@Test
+	public void testAddActivityListener() {
+		Activity c1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445);
+		int[] changes = new int[1];
+		c1.addActivityListener(activity -> {
+			assertSame(c1, activity);
+			changes[0]++;
+		});
+		c1.setTitle("Software Development");
+		c1.setMeetingDaysAndTime("TH", 1330, 1445);
+		assertEquals(2, changes[0]);
+		
+		//An invalid change is not reported
+		assertThrows(IllegalArgumentException.class, () -> c1.setTitle(""));
+		assertEquals(2, changes[0]);
+		assertThrows(IllegalArgumentException.class, () -> c1.addActivityListener(null));
+	}
+	
+	/**
+	 * Tests that checkConflict() finds conflicts on weekend days and when activities
+	 * only touch at their start or end times.
+	 */
+	@Test
+	public void testCheckConflictWeekendsAndEndpoints() {
+		Activity e1 = new Event("Brunch", "SU", 1000, 1100, "Weekends");
+		Activity e2 = new Event("Hike", "U", 1100, 1400, "Sunday");
+		Activity e3 = new Event("Hike", "S", 1101, 1400, "Saturday");
+		Activity c1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MTWHF", 1000, 1100);
+		
+		assertThrows(ConflictException.class, () -> e1.checkConflict(e2));
+		assertThrows(ConflictException.class, () -> e2.checkConflict(e1));
+		assertDoesNotThrow(() -> e1.checkConflict(e3));
+		assertDoesNotThrow(() -> e3.checkConflict(e1));
+		assertDoesNotThrow(() -> e1.checkConflict(c1));
+		assertDoesNotThrow(() -> c1.checkConflict(e1));
+	}
+	
 
 }
@@ -0,0 +1,90 @@
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests ConflictAudit.
+ * @author Dania Swelam
+ */
+public class ConflictAuditTest {
+
+	/** Meeting days of the random events */
+	private static final String[] DAY_PATTERNS = { "MW", "TH", "MWF", "U", "S", "US", "MTWHF", "H" };
+
+	/**
+	 * Tests that the audit finds the same pairs as checking every pair, in order, for
+	 * lists long enough to sweep and short enough to compare pair by pair.
+	 */
+	@Test
+	public void testAudit() {
+		Random random = new Random(3);
+		for (int round = 0; round < 5; round++) {
+			ArrayList<Activity> activities = new ArrayList<Activity>();
+			int count = round % 2 == 0 ? 150 : 20;
+			for (int i = 0; i < count; i++) {
+				if (random.nextInt(8) == 0) {
+					activities.add(new Course("CSC 216", "Title", String.format("%03d", i + 1), 3, "inst", "A"));
+				} else {
+					int start = 600 + 100 * random.nextInt(14) + 5 * random.nextInt(6);
+					int end = start + 15 + 100 * random.nextInt(2);
+					activities.add(new Event("Event " + i, DAY_PATTERNS[random.nextInt(DAY_PATTERNS.length)],
+							start, end, ""));
+				}
+			}
+			List<String> expected = new ArrayList<String>();
+			for (int i = 0; i < activities.size(); i++) {
+				for (int j = i + 1; j < activities.size(); j++) {
+					try {
+						activities.get(i).checkConflict(activities.get(j));
+					} catch (ConflictException e) {
+						expected.add(i + "-" + j);
+					}
+				}
+			}
+			ConflictAudit audit = new ConflictAudit(activities);
+			List<String> found = new ArrayList<String>();
+			for (int p = 0; p < audit.size(); p++) {
+				found.add(audit.getFirstIndex(p) + "-" + audit.getSecondIndex(p));
+				assertSame(activities.get(audit.getFirstIndex(p)), audit.getFirst(p));
+				assertSame(activities.get(audit.getSecondIndex(p)), audit.getSecond(p));
+				assertNotEquals(Conflict.NO_OVERLAP, audit.getOverlap(p));
+			}
+			assertEquals(expected, found);
+			assertEquals(!expected.isEmpty(), audit.hasConflicts());
+		}
+	}
+
+	/**
+	 * Tests touching endpoints, arranged activities and activities on different days.
+	 */
+	@Test
+	public void testEdges() {
+		List<Activity> activities = Arrays.asList(
+				new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100),
+				new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"),
+				new Event("Lunch", "MTWHF", 1100, 1130, ""),
+				new Event("Study", "TH", 1000, 1100, ""),
+				new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1, "sesmith5", "A"),
+				new Event("Gym", "U", 1100, 1130, ""));
+		ConflictAudit audit = new ConflictAudit(activities);
+		assertEquals(2, audit.size());
+		assertEquals(0, audit.getFirstIndex(0));
+		assertEquals(2, audit.getSecondIndex(0));
+		assertEquals(1100, Conflict.getOverlapStartTime(audit.getOverlap(0)));
+		assertEquals(1100, Conflict.getOverlapEndTime(audit.getOverlap(0)));
+		assertEquals(2, audit.getFirstIndex(1));
+		assertEquals(3, audit.getSecondIndex(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> audit.getFirst(2));
+
+		assertFalse(new ConflictAudit(new ArrayList<Activity>()).hasConflicts());
+		assertThrows(IllegalArgumentException.class, () -> new ConflictAudit(null));
+		assertThrows(IllegalArgumentException.class, () -> new ConflictAudit(Arrays.asList((Activity) null)));
+	}
+}
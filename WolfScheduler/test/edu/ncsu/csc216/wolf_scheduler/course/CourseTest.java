@@ -2,6 +2,11 @@ package edu.ncsu.csc216.wolf_scheduler.course;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -494,4 +499,98 @@ public class CourseTest {
 		assertEquals(s2, c2.toString());
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests that appendTo() writes the same record as toString() to an Appendable
+	 * and to a ByteBuffer, and leaves a buffer that is too small unchanged.
+	 */
+	@Test
+	public void testAppendTo() throws IOException {
+		Course c1 = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
+		Course c2 = new Course(NAME, TITLE, SECTION, 4, INSTRUCTOR_ID, "A");
+		StringBuilder sb = new StringBuilder("start:");
+		c1.appendTo(sb);
+		assertEquals("start:" + c1.toString(), sb.toString());
+		sb.setLength(0);
+		c2.appendTo(sb);
+		assertEquals("CSC 216,Software Development Fundamentals,001,4,sesmith5,A", sb.toString());
+
+		ByteBuffer buffer = ByteBuffer.allocate(128);
+		assertTrue(c1.appendTo(buffer));
+		assertTrue(c2.appendTo(buffer));
+		byte[] expected = (c1.toString() + c2.toString()).getBytes(Charset.defaultCharset());
+		assertEquals(expected.length, buffer.position());
+		assertArrayEquals(expected, Arrays.copyOf(buffer.array(), buffer.position()));
+
+		ByteBuffer small = ByteBuffer.allocate(c1.toString().length() - 1);
+		small.put((byte) 'x');
+		assertFalse(c1.appendTo(small));
+		assertEquals(1, small.position());
+	}
+
+	/**
+	 * Tests that the display arrays are reused until a displayed field changes.
+	 */
+	@Test
+	public void testDisplayArraysRefreshAfterChanges() {
+		Course c = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
+		String[] shortDisplay = c.getShortDisplayArray();
+		String[] longDisplay = c.getLongDisplayArray();
+		assertSame(shortDisplay, c.getShortDisplayArray());
+		assertSame(longDisplay, c.getLongDisplayArray());
+		
+		c.setSection("002");
+		assertEquals("002", c.getShortDisplayArray()[1]);
+		assertEquals("002", c.getLongDisplayArray()[1]);
+		c.setTitle("New Title");
+		assertEquals("New Title", c.getShortDisplayArray()[2]);
+		c.setCredits(4);
+		assertEquals("4", c.getLongDisplayArray()[3]);
+		c.setInstructorId("jdyoung2");
+		assertEquals("jdyoung2", c.getLongDisplayArray()[4]);
+		c.setMeetingDaysAndTime("TH", 1000, 1115);
+		assertEquals("TH 10:00AM-11:15AM", c.getShortDisplayArray()[3]);
+		assertEquals("TH 10:00AM-11:15AM", c.getLongDisplayArray()[5]);
+		
+		//A rejected change keeps the current arrays
+		shortDisplay = c.getShortDisplayArray();
+		assertThrows(IllegalArgumentException.class, () -> c.setCredits(0));
+		assertSame(shortDisplay, c.getShortDisplayArray());
+	}
+
+	/**
+	 * Tests the static validators agree with the checks made when constructing a Course.
+	 */
+	@Test
+	public void testValidators() {
+		assertTrue(Course.isValidName("CSC 216"));
+		assertTrue(Course.isValidName("E 115"));
+		assertFalse(Course.isValidName("CSC216"));
+		assertFalse(Course.isValidName("CSCSC 216"));
+		assertFalse(Course.isValidName("CSC 2167"));
+		assertFalse(Course.isValidName(null));
+		assertTrue(Course.isValidTitle(TITLE));
+		assertFalse(Course.isValidTitle(""));
+		assertTrue(Course.isValidSection("001"));
+		assertFalse(Course.isValidSection("01"));
+		assertFalse(Course.isValidSection("0a1"));
+		assertTrue(Course.isValidCredits(1));
+		assertTrue(Course.isValidCredits(5));
+		assertFalse(Course.isValidCredits(0));
+		assertFalse(Course.isValidCredits(6));
+		assertTrue(Course.isValidInstructorId(INSTRUCTOR_ID));
+		assertFalse(Course.isValidInstructorId(""));
+		assertTrue(Course.isValidMeetingDaysAndTime("A", 0, 0));
+		assertFalse(Course.isValidMeetingDaysAndTime("A", START_TIME, END_TIME));
+		assertTrue(Course.isValidMeetingDaysAndTime("FWM", 0, 2359));
+		assertFalse(Course.isValidMeetingDaysAndTime("MM", START_TIME, END_TIME));
+		assertFalse(Course.isValidMeetingDaysAndTime("MU", START_TIME, END_TIME));
+		assertFalse(Course.isValidMeetingDaysAndTime("", START_TIME, END_TIME));
+		assertFalse(Course.isValidMeetingDaysAndTime(null, START_TIME, END_TIME));
+		assertFalse(Course.isValidMeetingDaysAndTime("MW", END_TIME, START_TIME));
+		assertFalse(Course.isValidMeetingDaysAndTime("MW", 1360, 1400));
+		assertFalse(Course.isValidMeetingDaysAndTime("MW", 1300, 2400));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, null, START_TIME, END_TIME));
+	}
+}
@@ -3,6 +3,11 @@ package edu.ncsu.csc216.wolf_scheduler.course;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -178,6 +183,23 @@ public class EventTest {
 		assertEquals(EVENT_DETAILS, actualLongDisplay[6]);
 	}
 
+	/**
+	 * Tests that the display arrays are reused until a displayed field changes.
+	 */
+	@Test
+	public void testDisplayArraysRefreshAfterChanges() {
+		Event event = new Event(EVENT_TITLE, EVENT_MEETING_DAYS, EVENT_START_TIME, EVENT_END_TIME, EVENT_DETAILS);
+		String [] longDisplay = event.getLongDisplayArray();
+		assertSame(longDisplay, event.getLongDisplayArray());
+		
+		event.setEventDetails("Weights");
+		assertEquals("Weights", event.getLongDisplayArray()[6]);
+		event.setTitle("Gym");
+		assertEquals("Gym", event.getShortDisplayArray()[2]);
+		event.setMeetingDaysAndTime("SU", 1000, 1130);
+		assertEquals("SU 10:00AM-11:30AM", event.getShortDisplayArray()[3]);
+	}
+
 	/**
 	 * Test.Event.setEventDetails().
 	 */
@@ -272,6 +294,28 @@ public class EventTest {
 		
 	}
 
+	/**
+	 * Tests that appendTo() writes the same record as toString() to an Appendable
+	 * and to a ByteBuffer, including characters outside of ASCII.
+	 */
+	@Test
+	public void testAppendTo() throws IOException {
+		Event event = new Event(EVENT_TITLE, EVENT_MEETING_DAYS, 0, 2359, "Caf\u00e9 \ud83d\ude00 run");
+		StringBuilder sb = new StringBuilder();
+		event.appendTo(sb);
+		assertEquals(event.toString(), sb.toString());
+		assertEquals(EVENT_TITLE + "," + EVENT_MEETING_DAYS + ",0,2359,Caf\u00e9 \ud83d\ude00 run", sb.toString());
+
+		ByteBuffer buffer = ByteBuffer.allocate(128);
+		assertTrue(event.appendTo(buffer));
+		byte[] expected = event.toString().getBytes(Charset.defaultCharset());
+		assertArrayEquals(expected, Arrays.copyOf(buffer.array(), buffer.position()));
+
+		ByteBuffer small = ByteBuffer.allocate(expected.length - 1);
+		assertFalse(event.appendTo(small));
+		assertEquals(0, small.position());
+	}
+
 	/**
 	 * Test Event.hashCode().
 	 */
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Scanner;
 
@@ -59,6 +61,54 @@ public class ActivityRecordIOTest {
 		checkFiles("test-files/expected_activity_records.txt", "test-files/actual_activity_records.txt");
 	}
 
+	/**
+	 * Tests writeActivityRecords() replacing a longer file, writing more records than
+	 * fit in one batch, and syncing the file.
+	 */
+	@Test
+	public void testWriteActivityRecordsReplace() {
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		for (int i = 0; i < 5000; i++) {
+			activities.add(new Event("Event " + i, "MW", 800, 900, "Details " + i));
+		}
+
+		try {
+			ActivityRecordIO.writeActivityRecords("test-files/actual_activity_records.txt", activities);
+			assertEquals(5000, Files.readAllLines(Paths.get("test-files/actual_activity_records.txt")).size());
+			assertEquals(activities.get(4999).toString(),
+					Files.readAllLines(Paths.get("test-files/actual_activity_records.txt")).get(4999));
+
+			activities.clear();
+			activities.add(new Course("CSC 116", "Intro to Programming - Java", "003", 3, "spbalik", "MW", 1250, 1440));
+			activities.add(new Event("Exercise", "UMTHFS", 800, 900, "Cardio with rest day on Wednesday."));
+			activities.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445));
+			activities.add(new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"));
+			ActivityRecordIO.writeActivityRecords("test-files/actual_activity_records.txt", activities, true);
+		} catch (IOException e) {
+			fail("Cannot write to activity records file");
+		}
+
+		checkFiles("test-files/expected_activity_records.txt", "test-files/actual_activity_records.txt");
+		try {
+			assertEquals(4, Files.readAllLines(Paths.get("test-files/actual_activity_records.txt")).size());
+		} catch (IOException e) {
+			fail("Error reading files.");
+		}
+	}
+
+	/**
+	 * Tests writeActivityRecords() to a directory that does not exist.
+	 */
+	@Test
+	public void testWriteActivityRecordsNoDirectory() {
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		activities.add(new Event("Exercise", "UMTHFS", 800, 900, "Cardio with rest day on Wednesday."));
+
+		assertThrows(IOException.class,
+				() -> ActivityRecordIO.writeActivityRecords("test-files/no_such_directory/actual_activity_records.txt", activities));
+		assertFalse(Files.exists(Paths.get("test-files/no_such_directory")));
+	}
+
 	/**
 	 * Helper method to compare two files for the same contents
 	 * @param expFile expected output
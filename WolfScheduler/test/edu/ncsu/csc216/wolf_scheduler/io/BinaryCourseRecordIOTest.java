@@ -0,0 +1,129 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests BinaryCourseRecordIO.
+ * @author Dania Swelam
+ */
+public class BinaryCourseRecordIOTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/** Directory for the binary files written by the tests */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Tests that converting text records to binary and reading them back gives the
+	 * same courses in the same order.
+	 */
+	@Test
+	public void testConvertCourseRecords() throws IOException {
+		String binaryFile = tempDir.resolve("course_records.bin").toString();
+		BinaryCourseRecordIO.convertCourseRecords(validTestFile, binaryFile);
+		assertTrue(BinaryCourseRecordIO.isBinaryCourseRecords(binaryFile));
+		assertFalse(BinaryCourseRecordIO.isBinaryCourseRecords(validTestFile));
+		assertFalse(BinaryCourseRecordIO.isBinaryCourseRecords(tempDir.resolve("missing.bin").toString()));
+
+		ArrayList<Course> expected = CourseRecordIO.readCourseRecords(validTestFile);
+		ArrayList<Course> actual = BinaryCourseRecordIO.readCourseRecords(binaryFile);
+		assertEquals(13, actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).toString(), actual.get(i).toString());
+		}
+		assertTrue(Files.size(tempDir.resolve("course_records.bin")) < Files.size(Path.of(validTestFile)));
+
+		// Repeated strings are decoded once and shared
+		assertSame(actual.get(0).getTitle(), actual.get(1).getTitle());
+		assertSame(actual.get(6).getInstructorId(), actual.get(9).getInstructorId());
+	}
+
+	/**
+	 * Tests writing courses with meeting days out of order and strings outside of ASCII.
+	 */
+	@Test
+	public void testWriteCourseRecords() throws IOException {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC 316", "Data Structures \u00e9\u00e8", "001", 3, "jtking", "FWM", 830, 945));
+		courses.add(new Course("CSC 316", "Data Structures \u00e9\u00e8", "002", 3, "jtking", "MWF", 0, 2359));
+		courses.add(new Course("CSC 316", "Data Structures \u00e9\u00e8", "601", 4, "jtking", "A"));
+		String binaryFile = tempDir.resolve("courses.bin").toString();
+		BinaryCourseRecordIO.writeCourseRecords(binaryFile, courses);
+
+		ArrayList<Course> actual = BinaryCourseRecordIO.readCourseRecords(binaryFile);
+		assertEquals(3, actual.size());
+		for (int i = 0; i < courses.size(); i++) {
+			assertEquals(courses.get(i).toString(), actual.get(i).toString());
+		}
+		assertEquals("FWM", actual.get(0).getMeetingDays());
+
+		BinaryCourseRecordIO.writeCourseRecords(binaryFile, new ArrayList<Course>());
+		assertEquals(0, BinaryCourseRecordIO.readCourseRecords(binaryFile).size());
+	}
+
+	/**
+	 * Tests reading files that are missing, truncated or corrupted.
+	 */
+	@Test
+	public void testReadInvalidCourseRecords() throws IOException {
+		assertThrows(FileNotFoundException.class,
+				() -> BinaryCourseRecordIO.readCourseRecords(tempDir.resolve("missing.bin").toString()));
+		assertThrows(IllegalArgumentException.class, () -> BinaryCourseRecordIO.readCourseRecords(validTestFile));
+
+		Path binaryFile = tempDir.resolve("course_records.bin");
+		BinaryCourseRecordIO.convertCourseRecords(validTestFile, binaryFile.toString());
+		byte[] bytes = Files.readAllBytes(binaryFile);
+
+		byte[] corrupted = bytes.clone();
+		corrupted[bytes.length / 2] ^= 1;
+		Files.write(binaryFile, corrupted);
+		assertThrows(IllegalArgumentException.class, () -> BinaryCourseRecordIO.readCourseRecords(binaryFile.toString()));
+
+		Files.write(binaryFile, Arrays.copyOf(bytes, bytes.length - 10));
+		assertThrows(IllegalArgumentException.class, () -> BinaryCourseRecordIO.readCourseRecords(binaryFile.toString()));
+
+		Files.write(binaryFile, Arrays.copyOf(bytes, 5));
+		assertThrows(IllegalArgumentException.class, () -> BinaryCourseRecordIO.readCourseRecords(binaryFile.toString()));
+	}
+
+	/**
+	 * Tests that files are taken for binary course records by their header alone, so
+	 * text records starting with the magic number are not and damaged binary files are.
+	 */
+	@Test
+	public void testIsBinaryCourseRecords() throws IOException {
+		Path textFile = tempDir.resolve("wscb_records.txt");
+		Files.write(textFile, ("WSCB,Invalid Name,001,3,instr,MW,910,1100\n"
+				+ "WSCB 101,Title,001,3,instr,MW,910,1100\n").getBytes(StandardCharsets.US_ASCII));
+		assertFalse(BinaryCourseRecordIO.isBinaryCourseRecords(textFile.toString()));
+
+		Path binaryFile = tempDir.resolve("course_records.bin");
+		BinaryCourseRecordIO.convertCourseRecords(validTestFile, binaryFile.toString());
+		byte[] bytes = Files.readAllBytes(binaryFile);
+		byte[] corrupted = bytes.clone();
+		corrupted[bytes.length / 2] ^= 1;
+		Files.write(binaryFile, corrupted);
+		assertTrue(BinaryCourseRecordIO.isBinaryCourseRecords(binaryFile.toString()));
+
+		Files.write(binaryFile, Arrays.copyOf(bytes, 9));
+		assertTrue(BinaryCourseRecordIO.isBinaryCourseRecords(binaryFile.toString()));
+
+		Files.write(binaryFile, Arrays.copyOf(bytes, 5));
+		assertFalse(BinaryCourseRecordIO.isBinaryCourseRecords(binaryFile.toString()));
+	}
+}
@@ -0,0 +1,157 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests CourseRecordGenerator.
+ * @author Dania Swelam
+ */
+public class CourseRecordGeneratorTest {
+
+	/** Directory for the files written by the tests */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Tests that generated records are read back as valid courses, and that the
+	 * same seed writes the same file.
+	 */
+	@Test
+	public void testWriteCourseRecords() throws IOException {
+		CourseRecordGenerator generator = new CourseRecordGenerator();
+		generator.setSeed(42);
+		String fileName = tempDir.resolve("courses.txt").toString();
+		generator.writeCourseRecords(fileName, 5000);
+		assertEquals(5000, generator.getUniqueCount());
+		assertEquals(0, generator.getDuplicateCount());
+		assertEquals(0, generator.getInvalidCount());
+
+		ArrayList<Course> courses = CourseRecordIO.readCourseRecords(fileName);
+		assertEquals(5000, courses.size());
+		assertEquals("CSC 100", courses.get(0).getName());
+		assertEquals("001", courses.get(0).getSection());
+		assertEquals("010", courses.get(9).getSection());
+		assertEquals("CSC 101", courses.get(10).getName());
+		HashSet<String> sections = new HashSet<String>();
+		for (Course c : courses) {
+			assertTrue(sections.add(c.getName() + "," + c.getSection()));
+		}
+
+		String otherFileName = tempDir.resolve("other.txt").toString();
+		generator.writeCourseRecords(otherFileName, 5000);
+		assertArrayEquals(Files.readAllBytes(Path.of(fileName)), Files.readAllBytes(Path.of(otherFileName)));
+
+		generator.setSeed(43);
+		generator.writeCourseRecords(otherFileName, 5000);
+		assertFalse(Arrays.equals(Files.readAllBytes(Path.of(fileName)), Files.readAllBytes(Path.of(otherFileName))));
+	}
+
+	/**
+	 * Tests that duplicate and invalid lines are written at the given rates and that
+	 * the reader keeps only the unique valid lines.
+	 */
+	@Test
+	public void testDuplicateAndInvalidLines() throws IOException {
+		CourseRecordGenerator generator = new CourseRecordGenerator();
+		generator.setSeed(7);
+		generator.setDuplicateRate(0.1);
+		generator.setInvalidRate(0.2);
+		String fileName = tempDir.resolve("courses.txt").toString();
+		generator.writeCourseRecords(fileName, 10000);
+
+		assertEquals(10000, generator.getUniqueCount() + generator.getDuplicateCount() + generator.getInvalidCount());
+		assertTrue(generator.getDuplicateCount() > 800 && generator.getDuplicateCount() < 1200);
+		assertTrue(generator.getInvalidCount() > 1800 && generator.getInvalidCount() < 2200);
+		assertEquals(generator.getUniqueCount(), CourseRecordIO.readCourseRecords(fileName).size());
+
+		generator.setDuplicateRate(0);
+		generator.setInvalidRate(1);
+		generator.writeCourseRecords(fileName, 100);
+		assertEquals(100, generator.getInvalidCount());
+		assertEquals(0, CourseRecordIO.readCourseRecords(fileName).size());
+	}
+
+	/**
+	 * Tests that sections follow the configured sections per course, day patterns,
+	 * time slots, class lengths and arranged rate.
+	 */
+	@Test
+	public void testTimetable() throws IOException {
+		CourseRecordGenerator generator = new CourseRecordGenerator();
+		generator.setSectionsPerCourse(3);
+		generator.setDayPatterns(new String[] { "TH", "FWM" }, new int[] { 1, 3 });
+		generator.setTimeSlots(900, 1000, 30);
+		generator.setClassLengths(75);
+		generator.setArrangedRate(0.25);
+		generator.setVocabulary(1, 1);
+		StringBuilder records = new StringBuilder();
+		generator.generate(records, 1000);
+
+		String fileName = tempDir.resolve("courses.txt").toString();
+		Files.write(Path.of(fileName), records.toString().getBytes());
+		ArrayList<Course> courses = CourseRecordIO.readCourseRecords(fileName);
+		assertEquals(1000, courses.size());
+		assertEquals("CSC 101", courses.get(3).getName());
+		assertEquals("003", courses.get(5).getSection());
+
+		int arranged = 0;
+		int fwm = 0;
+		for (Course c : courses) {
+			assertEquals("Course Title 0", c.getTitle());
+			assertEquals("inst0", c.getInstructorId());
+			if ("A".equals(c.getMeetingDays())) {
+				arranged++;
+				continue;
+			}
+			if ("FWM".equals(c.getMeetingDays())) {
+				fwm++;
+			} else {
+				assertEquals("TH", c.getMeetingDays());
+			}
+			assertTrue(c.getStartTime() == 900 || c.getStartTime() == 930 || c.getStartTime() == 1000);
+			assertEquals(c.getStartTime() + 115, c.getEndTime());
+		}
+		assertTrue(arranged > 200 && arranged < 300);
+		assertTrue(fwm > (1000 - arranged) * 2 / 3);
+	}
+
+	/**
+	 * Tests that invalid settings are rejected.
+	 */
+	@Test
+	public void testInvalidSettings() {
+		CourseRecordGenerator generator = new CourseRecordGenerator();
+		assertThrows(IllegalArgumentException.class, () -> generator.setSectionsPerCourse(0));
+		assertThrows(IllegalArgumentException.class, () -> generator.setSectionsPerCourse(1000));
+		assertThrows(IllegalArgumentException.class,
+				() -> generator.setDayPatterns(new String[] { "MW" }, new int[] { 1, 2 }));
+		assertThrows(IllegalArgumentException.class,
+				() -> generator.setDayPatterns(new String[] { "MM" }, new int[] { 1 }));
+		assertThrows(IllegalArgumentException.class,
+				() -> generator.setDayPatterns(new String[] { "A" }, new int[] { 1 }));
+		assertThrows(IllegalArgumentException.class,
+				() -> generator.setDayPatterns(new String[] { "MW" }, new int[] { 0 }));
+		assertThrows(IllegalArgumentException.class, () -> generator.setTimeSlots(900, 860, 5));
+		assertThrows(IllegalArgumentException.class, () -> generator.setTimeSlots(1000, 900, 5));
+		assertThrows(IllegalArgumentException.class, () -> generator.setTimeSlots(900, 1000, 0));
+		assertThrows(IllegalArgumentException.class, () -> generator.setClassLengths());
+		assertThrows(IllegalArgumentException.class, () -> generator.setClassLengths(50, -1));
+		assertThrows(IllegalArgumentException.class, () -> generator.setArrangedRate(1.5));
+		assertThrows(IllegalArgumentException.class, () -> generator.setDuplicateRate(-0.1));
+		assertThrows(IllegalArgumentException.class, () -> generator.setInvalidRate(Double.NaN));
+		assertThrows(IllegalArgumentException.class, () -> generator.setVocabulary(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> generator.generate(new StringBuilder(), -1));
+	}
+}
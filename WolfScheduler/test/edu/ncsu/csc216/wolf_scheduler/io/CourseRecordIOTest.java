@@ -16,6 +16,7 @@ import java.util.Scanner;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.metrics.Counter;
 
 /**
  * Tests CouresRecordIO.
@@ -108,6 +109,253 @@ public class CourseRecordIOTest {
 		}
 	}
 	
+	/**
+	 * Tests readCourseRecords() with mixed line endings, a missing final line ending,
+	 * and a record longer than the read buffer.
+	 */
+	@Test
+	public void testReadCourseRecordsLineEndings() {
+		StringBuilder longTitle = new StringBuilder();
+		for (int i = 0; i < 100000; i++) {
+			longTitle.append((char) ('a' + i % 26));
+		}
+		String contents = validCourse1 + "\r\n" + validCourse2 + "\r\r\n" + validCourse3 + "\n\n"
+				+ "CSC 499,Independent Study,001,3,sesmith5,A,\n"
+				+ "CSC 500," + longTitle + ",001,3,sesmith5,MW,0910,1100\r"
+				+ "CSC 501,Missing Times,001,3,sesmith5,MW\n"
+				+ "CSC 502,Bad Credits,001,three,sesmith5,MW,910,1100\n"
+				+ validCourse4;
+		try {
+			Path file = Files.createTempFile("course_records", ".txt");
+			try {
+				Files.write(file, contents.getBytes());
+				ArrayList<Course> courses = CourseRecordIO.readCourseRecords(file.toString());
+				assertEquals(6, courses.size());
+				assertEquals(validCourse1, courses.get(0).toString());
+				assertEquals(validCourse2, courses.get(1).toString());
+				assertEquals(validCourse3, courses.get(2).toString());
+				assertEquals("CSC 499,Independent Study,001,3,sesmith5,A", courses.get(3).toString());
+				assertEquals(longTitle.toString(), courses.get(4).getTitle());
+				assertEquals(910, courses.get(4).getStartTime());
+				assertEquals(validCourse4, courses.get(5).toString());
+			} finally {
+				Files.delete(file);
+			}
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+	}
+	
+	/**
+	 * Tests readCourseRecords() with a file that does not exist.
+	 */
+	@Test
+	public void testReadCourseRecordsMissingFile() {
+		assertThrows(FileNotFoundException.class, () -> CourseRecordIO.readCourseRecords("test-files/no_such_file.txt"));
+	}
+
+	/**
+	 * Tests that readCourseRecords() shares repeated Strings between the Courses it
+	 * reads, including across loads given the same dictionary.
+	 */
+	@Test
+	public void testReadCourseRecordsDictionary() throws FileNotFoundException {
+		StringDictionary dictionary = new StringDictionary();
+		ArrayList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile, dictionary);
+		assertEquals(13, courses.size());
+		for (int i = 0; i < validCourses.length; i++) {
+			assertEquals(validCourses[i], courses.get(i).toString());
+		}
+		assertSame(courses.get(0).getTitle(), courses.get(2).getTitle());
+		assertSame(courses.get(3).getName(), courses.get(5).getName());
+		assertSame(courses.get(6).getInstructorId(), courses.get(9).getInstructorId());
+		assertSame(courses.get(0).getMeetingDays(), courses.get(1).getMeetingDays());
+		// Each accepted course interns five Strings, each either added or reused
+		long hits = dictionary.getHits();
+		assertEquals(13 * 5 - dictionary.size(), hits);
+		assertTrue(hits > 25);
+
+		ArrayList<Course> again = CourseRecordIO.readCourseRecords(validTestFile, dictionary);
+		assertSame(courses.get(12).getTitle(), again.get(12).getTitle());
+		assertTrue(dictionary.getHits() > hits);
+		assertTrue(dictionary.getSavedBytes() > dictionary.getSavedChars());
+
+		ArrayList<Course> mapped = CourseRecordIO.readCourseRecordsMapped(validTestFile);
+		assertSame(mapped.get(0).getTitle(), mapped.get(2).getTitle());
+	}
+
+	/**
+	 * Tests that readCourseRecords() counts the invalid and duplicate lines it skips.
+	 */
+	@Test
+	public void testReadCourseRecordsSkippedLines() throws IOException {
+		Counter skipped = new Counter();
+		assertEquals(13, CourseRecordIO.readCourseRecords(validTestFile, new StringDictionary(), skipped).size());
+		assertEquals(1, skipped.getCount());
+
+		int invalidLines = Files.readAllLines(Path.of(invalidTestFile)).size();
+		StringDictionary rejected = new StringDictionary();
+		assertEquals(0, CourseRecordIO.readCourseRecords(invalidTestFile, rejected, skipped).size());
+		assertEquals(1 + invalidLines, skipped.getCount());
+		// Strings of rejected lines are not kept or counted as reused
+		assertEquals(0, rejected.size());
+		assertEquals(0, rejected.getHits());
+	}
+
+	/**
+	 * Tests that loadCourseRecords() reports the line number and reason of every line
+	 * it skips, and keeps only as many rejections as asked.
+	 */
+	@Test
+	public void testLoadCourseRecords() throws FileNotFoundException {
+		CourseLoadResult result = CourseRecordIO.loadCourseRecords(validTestFile);
+		assertEquals(13, result.getCourses().size());
+		RejectionReport report = result.getRejectionReport();
+		assertEquals(1, report.size());
+		assertEquals(4, report.getLineNumber(0));
+		assertEquals(RejectReason.DUPLICATE, report.getReason(0));
+
+		RejectReason[] expected = { RejectReason.INVALID_NAME, RejectReason.INVALID_NAME, RejectReason.INVALID_NAME,
+			RejectReason.INVALID_NAME, RejectReason.INVALID_NAME, RejectReason.INVALID_NAME, RejectReason.INVALID_NAME,
+			RejectReason.MISSING_FIELDS, RejectReason.MISSING_FIELDS, RejectReason.INVALID_SECTION,
+			RejectReason.MISSING_FIELDS, RejectReason.INVALID_CREDITS, RejectReason.INVALID_CREDITS,
+			RejectReason.MISSING_FIELDS, RejectReason.MISSING_FIELDS, RejectReason.MISSING_FIELDS,
+			RejectReason.INVALID_SECTION, RejectReason.INVALID_INSTRUCTOR_ID,
+			RejectReason.INVALID_MEETING_DAYS_AND_TIMES, RejectReason.EXTRA_FIELDS,
+			RejectReason.INVALID_MEETING_DAYS_AND_TIMES, RejectReason.INVALID_MEETING_DAYS_AND_TIMES,
+			RejectReason.INVALID_MEETING_DAYS_AND_TIMES, RejectReason.INVALID_MEETING_DAYS_AND_TIMES,
+			RejectReason.EXTRA_FIELDS };
+		result = CourseRecordIO.loadCourseRecords(invalidTestFile);
+		assertEquals(0, result.getCourses().size());
+		report = result.getRejectionReport();
+		assertEquals(expected.length, report.size());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(i + 1, report.getLineNumber(i));
+			assertEquals(expected[i], report.getReason(i), "line " + (i + 1));
+		}
+		assertFalse(report.isTruncated());
+
+		report = CourseRecordIO.loadCourseRecords(invalidTestFile, new StringDictionary(), 3).getRejectionReport();
+		assertEquals(3, report.size());
+		assertEquals(expected.length, report.getRejectedCount());
+		assertEquals(7, report.getCount(RejectReason.INVALID_NAME));
+		assertTrue(report.isTruncated());
+		assertThrows(IllegalArgumentException.class,
+				() -> CourseRecordIO.loadCourseRecords(invalidTestFile, new StringDictionary(), -1));
+	}
+
+	/**
+	 * Tests that readCourseRecordsMapped() reads the same courses as readCourseRecords(),
+	 * including when lines and line endings are split across mapped chunks.
+	 */
+	@Test
+	public void testReadCourseRecordsMapped() {
+		try {
+			assertEquals(CourseRecordIO.readCourseRecords(validTestFile).toString(),
+					CourseRecordIO.readCourseRecordsMapped(validTestFile).toString());
+			assertEquals(0, CourseRecordIO.readCourseRecordsMapped(invalidTestFile).size());
+			
+			String contents = validCourse1 + "\r\n" + validCourse2 + "\r\n" + validCourse3 + "\r\r\n"
+					+ "CSC 499,Caf\u00e9 Studies \u00fcber alles,001,3,sesmith5,A\n\n"
+					+ validCourse2 + "\n" + validCourse5 + "\r" + validCourse6 + ",\n"
+					+ "CSC 502,Bad Credits,001,three,sesmith5,MW,910,1100\n" + validCourse7;
+			Path file = Files.createTempFile("course_records", ".txt");
+			try {
+				Files.write(file, contents.getBytes());
+				String expected = CourseRecordIO.readCourseRecords(file.toString()).toString();
+				assertEquals(expected, CourseRecordIO.readCourseRecordsMapped(file.toString()).toString());
+				for (int chunkSize = 1; chunkSize < 120; chunkSize += 7) {
+					assertEquals(expected, CourseRecordIO.readCourseRecordsMapped(file.toString(), chunkSize).toString());
+				}
+				
+				Files.write(file, new byte[0]);
+				assertEquals(0, CourseRecordIO.readCourseRecordsMapped(file.toString()).size());
+			} finally {
+				Files.delete(file);
+			}
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+		
+		assertThrows(FileNotFoundException.class, () -> CourseRecordIO.readCourseRecordsMapped("test-files/no_such_file.txt"));
+	}
+	
+	/**
+	 * Tests that readCourseRecordsParallel() reads the same courses in the same order as
+	 * readCourseRecords(), keeping the first of any duplicate records, for several levels
+	 * of parallelism and chunk and split sizes.
+	 */
+	@Test
+	public void testReadCourseRecordsParallel() {
+		StringBuilder contents = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			String section = String.format("%03d", i % 700);
+			String lineEnding = i % 3 == 0 ? "\r\n" : i % 3 == 1 ? "\n" : "\r";
+			contents.append("CSC ").append(100 + i % 7).append(",Title ").append(i).append(",").append(section)
+					.append(",3,instr").append(i % 11).append(i % 5 == 0 ? ",A" : ",MW,910,1100").append(lineEnding);
+			if (i % 13 == 0) {
+				contents.append("CSC 1000,Invalid Name,001,3,instr,MW,910,1100").append(lineEnding);
+			}
+		}
+		try {
+			Path file = Files.createTempFile("course_records", ".txt");
+			try {
+				Files.write(file, contents.toString().getBytes());
+				String expected = CourseRecordIO.readCourseRecords(file.toString()).toString();
+				assertEquals(expected, CourseRecordIO.readCourseRecordsParallel(file.toString(), 1).toString());
+				assertEquals(expected, CourseRecordIO.readCourseRecordsParallel(file.toString(), 4).toString());
+				for (int parallelism = 1; parallelism <= 8; parallelism *= 2) {
+					assertEquals(expected, CourseRecordIO.readCourseRecordsParallel(file.toString(), parallelism, 10000, 1).toString());
+					assertEquals(expected, CourseRecordIO.readCourseRecordsParallel(file.toString(), parallelism, 97, 50).toString());
+				}
+			} finally {
+				Files.delete(file);
+			}
+			
+			assertEquals(CourseRecordIO.readCourseRecords(validTestFile).toString(),
+					CourseRecordIO.readCourseRecordsParallel(validTestFile, 2).toString());
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+		
+		Exception e = assertThrows(IllegalArgumentException.class, () -> CourseRecordIO.readCourseRecordsParallel(validTestFile, 0));
+		assertEquals("Invalid parallelism.", e.getMessage());
+		assertThrows(FileNotFoundException.class, () -> CourseRecordIO.readCourseRecordsParallel("test-files/no_such_file.txt", 2));
+	}
+	
+	/**
+	 * Tests that readCourseRecords() keeps the first of several records with the same
+	 * name and section when every other record is a duplicate. How loading time grows
+	 * with the number of duplicates is measured by DuplicateRecordsBenchmark.
+	 */
+	@Test
+	public void testReadCourseRecordsDuplicates() {
+		try {
+			Path file = Files.createTempFile("course_records", ".txt");
+			try {
+				int records = 20000;
+				StringBuilder contents = new StringBuilder();
+				for (int i = 0; i < records / 2; i++) {
+					String name = "CSC " + (100 + i / 1000);
+					String section = String.format("%03d", i % 1000);
+					contents.append(name).append(",Title,").append(section).append(",3,instr,MW,910,1100\n");
+					contents.append(name).append(",Duplicate,").append(section).append(",3,other,TH,910,1100\n");
+				}
+				Files.write(file, contents.toString().getBytes());
+				
+				ArrayList<Course> courses = CourseRecordIO.readCourseRecords(file.toString());
+				assertEquals(records / 2, courses.size());
+				for (Course course : courses) {
+					assertEquals("Title", course.getTitle());
+				}
+			} finally {
+				Files.delete(file);
+			}
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+	}
+
 	/**
 	 * Tests writeCourseRecords()
 	 */
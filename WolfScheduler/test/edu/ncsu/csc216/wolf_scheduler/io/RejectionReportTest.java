@@ -0,0 +1,51 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests RejectionReport.
+ * @author Dania Swelam
+ */
+public class RejectionReportTest {
+
+	/**
+	 * Tests that rejections are counted by reason and kept up to the capacity.
+	 */
+	@Test
+	public void testReject() {
+		RejectionReport report = new RejectionReport(2);
+		assertEquals("0 lines rejected", report.getSummary());
+		report.reject(3, RejectReason.INVALID_NAME);
+		report.reject(5, RejectReason.DUPLICATE);
+		report.reject(8, RejectReason.INVALID_NAME);
+
+		assertEquals(2, report.size());
+		assertEquals(3, report.getRejectedCount());
+		assertTrue(report.isTruncated());
+		assertEquals(3, report.getLineNumber(0));
+		assertEquals(RejectReason.INVALID_NAME, report.getReason(0));
+		assertEquals(5, report.getLineNumber(1));
+		assertEquals(RejectReason.DUPLICATE, report.getReason(1));
+		assertEquals(2, report.getCount(RejectReason.INVALID_NAME));
+		assertEquals(0, report.getCount(RejectReason.INVALID_TITLE));
+		assertEquals("3 lines rejected: 2 INVALID_NAME, 1 DUPLICATE", report.getSummary());
+		assertEquals("Invalid course name.", report.getReason(0).getMessage());
+
+		assertThrows(IndexOutOfBoundsException.class, () -> report.getLineNumber(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> report.getReason(-1));
+		assertThrows(IllegalArgumentException.class, () -> new RejectionReport(-1));
+
+		RejectionReport counts = new RejectionReport(0);
+		counts.reject(1, RejectReason.EXTRA_FIELDS);
+		assertEquals(0, counts.size());
+		assertEquals(1, counts.getRejectedCount());
+
+		RejectionReport defaults = new RejectionReport();
+		for (int i = 0; i <= RejectionReport.DEFAULT_CAPACITY; i++) {
+			defaults.reject(i + 1, RejectReason.MISSING_FIELDS);
+		}
+		assertEquals(RejectionReport.DEFAULT_CAPACITY, defaults.size());
+	}
+}
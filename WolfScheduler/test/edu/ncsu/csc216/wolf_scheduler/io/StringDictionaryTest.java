@@ -0,0 +1,95 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests StringDictionary.
+ * @author Dania Swelam
+ */
+public class StringDictionaryTest {
+
+	/**
+	 * Tests that intern() returns the same String for the same characters and counts
+	 * the reused Strings.
+	 */
+	@Test
+	public void testIntern() {
+		StringDictionary dictionary = new StringDictionary();
+		char[] line = "CSC 216,Software Development,CSC 216,CSC 217".toCharArray();
+
+		String first = dictionary.intern(line, 0, 7);
+		assertEquals("CSC 216", first);
+		assertEquals(1, dictionary.size());
+		assertEquals(0, dictionary.getHits());
+
+		assertSame(first, dictionary.intern(line, 29, 36));
+		assertEquals("CSC 217", dictionary.intern(line, 37, 44));
+		assertEquals("Software Development", dictionary.intern(line, 8, 28));
+		assertSame(dictionary.intern(line, 7, 7), dictionary.intern(line, 28, 28));
+
+		assertEquals(4, dictionary.size());
+		assertEquals(2, dictionary.getHits());
+		assertEquals(7, dictionary.getSavedChars());
+		// 24 byte String objects with 16 + 7 and 16 + 0 byte arrays rounded up to 8
+		assertEquals(24 + 24 + 24 + 16, dictionary.getSavedBytes());
+		assertEquals("4 distinct strings, 2 reused (7 chars), about 0 KB of heap saved", dictionary.getHeapReport());
+	}
+
+	/**
+	 * Tests that lookup() neither adds nor counts Strings, and that interning a looked
+	 * up String adds it or returns the dictionary's equal String.
+	 */
+	@Test
+	public void testLookup() {
+		StringDictionary dictionary = new StringDictionary();
+		char[] line = "CSC 216,CSC 216,jdyoung2".toCharArray();
+
+		String looked = dictionary.lookup(line, 0, 7);
+		assertEquals("CSC 216", looked);
+		assertEquals(0, dictionary.size());
+		assertEquals(0, dictionary.getHits());
+		assertNotSame(looked, dictionary.lookup(line, 8, 15));
+
+		assertSame(looked, dictionary.intern(looked));
+		assertEquals(1, dictionary.size());
+		assertEquals(0, dictionary.getHits());
+		assertSame(looked, dictionary.lookup(line, 8, 15));
+		assertEquals(0, dictionary.getHits());
+
+		assertSame(looked, dictionary.intern(new String(line, 8, 7)));
+		assertSame(looked, dictionary.intern(line, 8, 15));
+		assertEquals(2, dictionary.getHits());
+		assertEquals("jdyoung2", dictionary.intern(dictionary.lookup(line, 16, 24)));
+		assertEquals(2, dictionary.size());
+	}
+
+	/**
+	 * Tests Strings with the same hash code and a dictionary that grows.
+	 */
+	@Test
+	public void testInternManyStrings() {
+		StringDictionary dictionary = new StringDictionary();
+		char[] collisions = "AaBB".toCharArray();
+		assertEquals("Aa".hashCode(), "BB".hashCode());
+		String aa = dictionary.intern(collisions, 0, 2);
+		String bb = dictionary.intern(collisions, 2, 4);
+		assertEquals("Aa", aa);
+		assertEquals("BB", bb);
+
+		String[] strings = new String[10000];
+		for (int i = 0; i < strings.length; i++) {
+			char[] chars = ("instructor" + i).toCharArray();
+			strings[i] = dictionary.intern(chars, 0, chars.length);
+		}
+		for (int i = 0; i < strings.length; i++) {
+			char[] chars = ("instructor" + i).toCharArray();
+			assertSame(strings[i], dictionary.intern(chars, 0, chars.length));
+		}
+		assertSame(aa, dictionary.intern(collisions, 0, 2));
+		assertSame(bb, dictionary.intern(collisions, 2, 4));
+		assertEquals(10002, dictionary.size());
+		assertEquals(10002, dictionary.getHits());
+	}
+}
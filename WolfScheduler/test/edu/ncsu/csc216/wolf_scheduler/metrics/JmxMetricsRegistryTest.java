@@ -0,0 +1,69 @@
+package edu.ncsu.csc216.wolf_scheduler.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.RuntimeOperationsException;
+
+/**
+ * Tests JmxMetricsRegistry.
+ * @author Dania Swelam
+ */
+public class JmxMetricsRegistryTest {
+
+	/**
+	 * Tests reading metrics through the platform MBean server.
+	 */
+	@Test
+	public void testRegister() throws Exception {
+		JmxMetricsRegistry metrics = new JmxMetricsRegistry();
+		String name = "edu.ncsu.csc216.wolf_scheduler:type=Metrics,name=JmxMetricsRegistryTest";
+		ObjectName objectName = new ObjectName(name);
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		metrics.register(name);
+		try {
+			assertTrue(server.isRegistered(objectName));
+			assertThrows(IllegalArgumentException.class, () -> metrics.register(name));
+			assertThrows(IllegalArgumentException.class, () -> new JmxMetricsRegistry().register(name));
+
+			metrics.counter("conflictChecks").add(3);
+			metrics.histogram("catalogLoad").record(2000);
+			assertEquals(3L, server.getAttribute(objectName, "conflictChecks"));
+			assertEquals(1L, server.getAttribute(objectName, "catalogLoad.count"));
+			assertEquals(2000.0, server.getAttribute(objectName, "catalogLoad.meanNanos"));
+			assertEquals(2000L, server.getAttribute(objectName, "catalogLoad.p99Nanos"));
+			assertEquals(2000L, server.getAttribute(objectName, "catalogLoad.maxNanos"));
+			assertTrue(((String) server.getAttribute(objectName, "Report")).contains("conflictChecks: 3"));
+			assertThrows(AttributeNotFoundException.class, () -> server.getAttribute(objectName, "catalogLoad.p42Nanos"));
+			assertThrows(AttributeNotFoundException.class, () -> server.getAttribute(objectName, "missing"));
+			assertEquals(2, server.getAttributes(objectName, new String[] { "conflictChecks", "missing", "Report" }).size());
+
+			MBeanAttributeInfo[] attributes = server.getMBeanInfo(objectName).getAttributes();
+			assertEquals(1 + 1 + 7, attributes.length);
+		} finally {
+			metrics.unregister();
+		}
+		assertFalse(server.isRegistered(objectName));
+		metrics.unregister();
+		assertThrows(IllegalArgumentException.class, () -> metrics.register("not an object name"));
+	}
+
+	/**
+	 * Tests that a null attribute name is rejected as an invalid argument.
+	 */
+	@Test
+	public void testGetAttributeNull() throws Exception {
+		JmxMetricsRegistry metrics = new JmxMetricsRegistry();
+		metrics.counter("conflictChecks").add(1);
+		RuntimeOperationsException e = assertThrows(RuntimeOperationsException.class, () -> metrics.getAttribute(null));
+		assertTrue(e.getTargetException() instanceof IllegalArgumentException);
+		assertEquals(1, metrics.getAttributes(new String[] { null, "conflictChecks" }).size());
+	}
+}
@@ -0,0 +1,97 @@
+package edu.ncsu.csc216.wolf_scheduler.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests LatencyHistogram.
+ * @author Dania Swelam
+ */
+public class LatencyHistogramTest {
+
+	/**
+	 * Tests counts, totals, means and maximums.
+	 */
+	@Test
+	public void testRecord() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMean());
+		assertEquals(0, histogram.getValueAtPercentile(99));
+
+		histogram.record(100);
+		histogram.record(300);
+		histogram.record(0);
+		assertEquals(3, histogram.getCount());
+		assertEquals(400, histogram.getTotal());
+		assertEquals(400 / 3.0, histogram.getMean(), 1e-9);
+		assertEquals(300, histogram.getMax());
+		assertEquals(0, histogram.getValueAtPercentile(0));
+		assertEquals(100, histogram.getValueAtPercentile(50));
+		assertEquals(300, histogram.getValueAtPercentile(100));
+
+		histogram.record(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+
+		assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+		assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+		assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(Double.NaN));
+	}
+
+	/**
+	 * Tests that percentiles of a wide range of values are within the histogram's precision.
+	 */
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1; value <= 1000000; value++) {
+			histogram.record(value * 1000);
+		}
+		long[] expected = { 500000000L, 900000000L, 990000000L, 999000000L };
+		double[] percentiles = { 50, 90, 99, 99.9 };
+		for (int i = 0; i < percentiles.length; i++) {
+			long actual = histogram.getValueAtPercentile(percentiles[i]);
+			assertTrue(actual >= expected[i], percentiles[i] + ": " + actual);
+			assertTrue(actual <= expected[i] * 1.016, percentiles[i] + ": " + actual);
+		}
+		assertEquals(1000000000L, histogram.getValueAtPercentile(100));
+	}
+
+	/**
+	 * Tests recording from many threads at once.
+	 */
+	@Test
+	public void testConcurrentRecord() throws InterruptedException {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 10000; i++) {
+					histogram.record(i);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(40000, histogram.getCount());
+		assertEquals(9999, histogram.getMax());
+		assertEquals(4L * 9999 * 10000 / 2, histogram.getTotal());
+		assertTrue(histogram.getStripeCount() <= 16);
+	}
+
+	/**
+	 * Tests that a histogram recorded from one thread keeps a single stripe of counts.
+	 */
+	@Test
+	public void testSingleStripe() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 0; i < 10000; i++) {
+			histogram.record(i);
+		}
+		assertEquals(1, histogram.getStripeCount());
+		assertEquals(5000, histogram.getValueAtPercentile(50), 5000 * 0.016);
+	}
+}
@@ -0,0 +1,42 @@
+package edu.ncsu.csc216.wolf_scheduler.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests SimpleMetricsRegistry and Counter.
+ * @author Dania Swelam
+ */
+public class SimpleMetricsRegistryTest {
+
+	/**
+	 * Tests creating, finding and listing metrics.
+	 */
+	@Test
+	public void testMetrics() {
+		SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+		Counter counter = metrics.counter("lines");
+		assertSame(counter, metrics.counter("lines"));
+		counter.increment();
+		counter.add(4);
+		assertEquals(5, metrics.counter("lines").getCount());
+		assertThrows(IllegalArgumentException.class, () -> counter.add(-1));
+
+		LatencyHistogram histogram = metrics.histogram("load");
+		assertSame(histogram, metrics.histogram("load"));
+		histogram.record(1500);
+		metrics.counter("adds");
+
+		assertArrayEquals(new String[] { "adds", "lines" }, metrics.getCounters().keySet().toArray());
+		assertArrayEquals(new String[] { "load" }, metrics.getHistograms().keySet().toArray());
+		assertEquals("adds: 0\nlines: 5\nload: count 1, mean 1.5 us, p50 1.5 us, p99 1.5 us, max 1.5 us\n",
+				metrics.getReport());
+
+		assertThrows(IllegalArgumentException.class, () -> metrics.counter("load"));
+		assertThrows(IllegalArgumentException.class, () -> metrics.histogram("lines"));
+		assertThrows(IllegalArgumentException.class, () -> metrics.counter(null));
+		assertThrows(IllegalArgumentException.class, () -> metrics.histogram(null));
+		assertThrows(UnsupportedOperationException.class, () -> metrics.getCounters().clear());
+	}
+}
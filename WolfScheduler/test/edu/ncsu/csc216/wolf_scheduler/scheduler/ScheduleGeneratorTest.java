@@ -0,0 +1,142 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests ScheduleGenerator.
+ * @author Dania Swelam
+ */
+public class ScheduleGeneratorTest {
+
+	/** Meeting day patterns of the random sections */
+	private static final String[] DAY_PATTERNS = { "MW", "TH", "MWF", "M", "H", "A" };
+	/** Lengths of the random sections, added to start times on the hour */
+	private static final int[] LENGTHS = { 50, 115, 150 };
+
+	/**
+	 * Returns random sections of several courses, each with the same number of sections.
+	 * @param courses number of courses
+	 * @param sections number of sections of each course
+	 * @param seed seed of the random sections
+	 * @return the sections of each course
+	 */
+	private static List<List<Course>> randomSections(int courses, int sections, long seed) {
+		Random random = new Random(seed);
+		List<List<Course>> courseSections = new ArrayList<List<Course>>();
+		for (int c = 0; c < courses; c++) {
+			ArrayList<Course> list = new ArrayList<Course>();
+			for (int s = 0; s < sections; s++) {
+				String name = "CSC " + (100 + c);
+				String section = String.format("%03d", s + 1);
+				String days = DAY_PATTERNS[random.nextInt(DAY_PATTERNS.length)];
+				if ("A".equals(days)) {
+					list.add(new Course(name, "Title", section, 3, "inst", days));
+				} else {
+					int start = 800 + 100 * random.nextInt(9);
+					list.add(new Course(name, "Title", section, 3, "inst", days, start, start + LENGTHS[random.nextInt(LENGTHS.length)]));
+				}
+			}
+			courseSections.add(list);
+		}
+		return courseSections;
+	}
+
+	/**
+	 * Returns every conflict free combination by trying all of them, in the order of
+	 * the sections with the first course varying slowest.
+	 * @param courseSections the sections of each course
+	 * @return the conflict free combinations
+	 */
+	private static List<List<Course>> bruteForce(List<List<Course>> courseSections) {
+		List<List<Course>> schedules = new ArrayList<List<Course>>();
+		int[] choice = new int[courseSections.size()];
+		while (true) {
+			Course[] schedule = new Course[choice.length];
+			boolean conflict = false;
+			for (int i = 0; i < choice.length; i++) {
+				schedule[i] = courseSections.get(i).get(choice[i]);
+				for (int j = 0; j < i; j++) {
+					conflict |= schedule[i].conflictsWith(schedule[j]);
+				}
+			}
+			if (!conflict) {
+				schedules.add(Arrays.asList(schedule));
+			}
+			int i = choice.length - 1;
+			while (i >= 0 && ++choice[i] == courseSections.get(i).size()) {
+				choice[i--] = 0;
+			}
+			if (i < 0) {
+				return schedules;
+			}
+		}
+	}
+
+	/**
+	 * Tests that the generator finds exactly the conflict free combinations, in order,
+	 * on one thread and on several.
+	 */
+	@Test
+	public void testGenerate() {
+		for (long seed = 1; seed <= 5; seed++) {
+			List<List<Course>> courseSections = randomSections(6, 4, seed);
+			List<List<Course>> expected = bruteForce(courseSections);
+			ScheduleGenerator generator = new ScheduleGenerator(courseSections);
+			assertEquals(expected, generator.generate(Integer.MAX_VALUE));
+			assertEquals(expected, generator.generate(Integer.MAX_VALUE, 4));
+			int top = Math.min(3, expected.size());
+			if (top > 0) {
+				assertEquals(expected.subList(0, top), generator.generate(3));
+				assertEquals(expected.subList(0, top), generator.generate(3, 4));
+			}
+		}
+	}
+
+	/**
+	 * Tests that courses with fewer sections are searched first while the schedules
+	 * list the courses in the order given.
+	 */
+	@Test
+	public void testCourseOrder() {
+		List<Course> big = List.of(
+				new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330, 1445),
+				new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "MW", 1330, 1445),
+				new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"));
+		List<Course> small = List.of(
+				new Course("CSC 217", "Software Development Fundamentals Lab", "202", 1, "sesmith5", "M", 1400, 1530));
+		List<List<Course>> schedules = new ScheduleGenerator(List.of(big, small)).generate(10, 2);
+		assertEquals(List.of(List.of(big.get(0), small.get(0)), List.of(big.get(2), small.get(0))), schedules);
+		assertThrows(UnsupportedOperationException.class, () -> schedules.get(0).set(0, big.get(1)));
+	}
+
+	/**
+	 * Tests courses without sections and invalid arguments.
+	 */
+	@Test
+	public void testInvalid() {
+		List<List<Course>> courseSections = randomSections(3, 2, 1);
+		courseSections.set(1, new ArrayList<Course>());
+		ScheduleGenerator generator = new ScheduleGenerator(courseSections);
+		assertTrue(generator.generate(5).isEmpty());
+		assertTrue(generator.generate(5, 3).isEmpty());
+		assertEquals(List.of(List.of()), new ScheduleGenerator(new ArrayList<List<Course>>()).generate(5));
+
+		assertThrows(IllegalArgumentException.class, () -> generator.generate(0));
+		assertThrows(IllegalArgumentException.class, () -> generator.generate(0, 2));
+		assertThrows(IllegalArgumentException.class, () -> generator.generate(5, 0));
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleGenerator(null));
+		courseSections.set(1, null);
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleGenerator(courseSections));
+		courseSections.set(1, Arrays.asList((Course) null));
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleGenerator(courseSections));
+	}
+}
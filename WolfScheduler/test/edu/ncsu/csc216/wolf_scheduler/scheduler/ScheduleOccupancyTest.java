@@ -0,0 +1,126 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ScheduleOccupancy class.
+ * 
+ * @author Dania Swelam
+ */
+public class ScheduleOccupancyTest {
+
+	/**
+	 * Tests conflictsWith() after adding activities, including activities that touch at
+	 * their start or end times and activities that cross word boundaries.
+	 */
+	@Test
+	public void testConflictsWith() {
+		ScheduleOccupancy occupancy = new ScheduleOccupancy();
+		Activity c1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445);
+		Activity c2 = new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A");
+		
+		assertFalse(occupancy.conflictsWith(c1));
+		occupancy.add(c1);
+		occupancy.add(c2);
+		assertTrue(occupancy.conflictsWith(c1));
+		assertFalse(occupancy.conflictsWith(c2));
+		
+		assertTrue(occupancy.conflictsWith(new Event("Before", "M", 1200, 1330, "")));
+		assertFalse(occupancy.conflictsWith(new Event("Before", "M", 1200, 1329, "")));
+		assertTrue(occupancy.conflictsWith(new Event("After", "W", 1445, 1600, "")));
+		assertFalse(occupancy.conflictsWith(new Event("After", "W", 1446, 1600, "")));
+		assertTrue(occupancy.conflictsWith(new Event("Inside", "MW", 1400, 1401, "")));
+		assertTrue(occupancy.conflictsWith(new Event("Around", "SMU", 0, 2359, "")));
+		assertFalse(occupancy.conflictsWith(new Event("Other days", "UTHFS", 0, 2359, "")));
+		assertTrue(occupancy.conflictsWith(c1.getMeetingDaysMask(), 1445, 1600));
+		assertFalse(occupancy.conflictsWith(c1.getMeetingDaysMask(), 1446, 1600));
+		assertFalse(occupancy.conflictsWith(0, 0, 0));
+		
+		Activity e1 = new Event("Midnight", "US", 0, 0, "");
+		Activity e2 = new Event("Late", "S", 2359, 2359, "");
+		occupancy.add(e1);
+		assertTrue(occupancy.conflictsWith(new Event("Early", "U", 0, 1, "")));
+		assertFalse(occupancy.conflictsWith(new Event("Early", "U", 1, 1, "")));
+		assertFalse(occupancy.conflictsWith(e2));
+		occupancy.add(e2);
+		assertTrue(occupancy.conflictsWith(new Event("Late", "S", 2300, 2359, "")));
+	}
+	
+	/**
+	 * Tests that remove() and clear() free the minutes of removed activities.
+	 */
+	@Test
+	public void testRemoveAndClear() {
+		ScheduleOccupancy occupancy = new ScheduleOccupancy();
+		Activity e1 = new Event("Exercise", "MTWHF", 800, 900, "Cardio");
+		Activity e2 = new Event("Lunch", "MWF", 1200, 1300, "Food");
+		occupancy.add(e1);
+		occupancy.add(e2);
+		
+		occupancy.remove(e1);
+		assertFalse(occupancy.conflictsWith(e1));
+		assertTrue(occupancy.conflictsWith(e2));
+		
+		occupancy.clear();
+		assertFalse(occupancy.conflictsWith(e2));
+	}
+	
+	/**
+	 * Tests that conflictsWith() agrees with Activity.conflictsWith() for random schedules
+	 * of activities that do not conflict with each other.
+	 */
+	@Test
+	public void testConflictsWithMatchesActivity() {
+		Random random = new Random(216);
+		for (int round = 0; round < 50; round++) {
+			ScheduleOccupancy occupancy = new ScheduleOccupancy();
+			ArrayList<Activity> schedule = new ArrayList<Activity>();
+			for (int i = 0; i < 200; i++) {
+				Activity candidate = randomEvent(random);
+				boolean expected = false;
+				for (Activity activity : schedule) {
+					expected |= activity.conflictsWith(candidate);
+				}
+				assertEquals(expected, occupancy.conflictsWith(candidate));
+				if (!expected) {
+					schedule.add(candidate);
+					occupancy.add(candidate);
+				} else if (random.nextBoolean() && !schedule.isEmpty()) {
+					occupancy.remove(schedule.remove(random.nextInt(schedule.size())));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns an event on random days at a random time.
+	 * @param random source of random values
+	 * @return a random event
+	 */
+	private Event randomEvent(Random random) {
+		String days = "";
+		for (char day : "UMTWHFS".toCharArray()) {
+			if (random.nextInt(4) == 0) {
+				days += day;
+			}
+		}
+		if (days.isEmpty()) {
+			days = "M";
+		}
+		int start = random.nextInt(24) * 100 + random.nextInt(60);
+		int end = Math.min(start + random.nextInt(200), 2359);
+		if (end % 100 > 59) {
+			end = end - end % 100 + 59;
+		}
+		return new Event("Event", days, start, end, "");
+	}
+}
@@ -0,0 +1,176 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseQuery;
+import edu.ncsu.csc216.wolf_scheduler.catalog.ListCourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictAudit;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.metrics.SimpleMetricsRegistry;
+
+/**
+ * Tests SessionManager.
+ * @author Dania Swelam
+ */
+public class SessionManagerTest {
+
+	/** Course records */
+	private static final String VALID_TEST_FILE = "test-files/course_records.txt";
+
+	/** The catalog shared by the sessions */
+	private CourseCatalog catalog;
+
+	/**
+	 * Reads the catalog shared by the sessions.
+	 * @throws FileNotFoundException if the course records cannot be read
+	 */
+	@BeforeEach
+	public void setUp() throws FileNotFoundException {
+		catalog = new ListCourseCatalog(CourseRecordIO.readCourseRecords(VALID_TEST_FILE));
+	}
+
+	/**
+	 * Tests opening and closing sessions.
+	 */
+	@Test
+	public void testSessions() {
+		SessionManager manager = new SessionManager(catalog);
+		assertEquals(0, manager.getSessionCount());
+		assertTrue(manager.openSession("alice"));
+		assertFalse(manager.openSession("alice"));
+		assertTrue(manager.openSession("bob"));
+		assertEquals(2, manager.getSessionCount());
+		assertTrue(manager.hasSession("alice"));
+		assertFalse(manager.hasSession("carol"));
+		assertFalse(manager.hasSession(null));
+
+		assertTrue(manager.closeSession("alice"));
+		assertFalse(manager.closeSession("alice"));
+		assertFalse(manager.hasSession("alice"));
+		assertEquals(1, manager.getSessionCount());
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> manager.addCourseToSchedule("alice", "CSC 216", "001"));
+		assertEquals("No session for alice", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> manager.openSession(null));
+		assertThrows(IllegalArgumentException.class, () -> manager.openSession(""));
+		assertThrows(IllegalArgumentException.class, () -> manager.withSession("bob", null));
+		assertThrows(IllegalArgumentException.class, () -> new SessionManager(null));
+		assertThrows(IllegalArgumentException.class, () -> new SessionManager(catalog, null, 4));
+		assertThrows(IllegalArgumentException.class, () -> new SessionManager(catalog, new SimpleMetricsRegistry(), 0));
+	}
+
+	/**
+	 * Tests that each session keeps its own schedule of the shared catalog.
+	 */
+	@Test
+	public void testSchedules() {
+		SessionManager manager = new SessionManager(catalog, new SimpleMetricsRegistry(), 1);
+		manager.openSession("alice");
+		manager.openSession("bob");
+
+		assertTrue(manager.addCourseToSchedule("alice", "CSC 116", "001"));
+		assertTrue(manager.addCourseToSchedule("bob", "CSC 116", "001"));
+		assertFalse(manager.addCourseToSchedule("bob", "CSC 999", "001"));
+		assertTrue(manager.addCourseToSchedule("bob", "CSC 216", "001"));
+		Exception e = assertThrows(IllegalArgumentException.class, () -> manager.addCourseToSchedule("alice", "CSC 316", "001"));
+		assertEquals("The course cannot be added due to a conflict.", e.getMessage());
+		manager.addEventToSchedule("alice", "Exercise", "UF", 1700, 1800, "Gym");
+
+		String[][] alice = manager.getScheduledActivities("alice");
+		assertEquals(2, alice.length);
+		assertEquals("CSC 116", alice[0][0]);
+		assertEquals("Exercise", alice[1][2]);
+		String[][] bob = manager.getScheduledActivities("bob");
+		assertEquals(2, bob.length);
+		assertEquals("CSC 216", bob[1][0]);
+
+		assertTrue(manager.removeActivityFromSchedule("bob", 0));
+		assertFalse(manager.removeActivityFromSchedule("bob", 5));
+		assertEquals(1, manager.getScheduledActivities("bob").length);
+		manager.resetSchedule("alice");
+		assertEquals(0, manager.getScheduledActivities("alice").length);
+		assertEquals("My Schedule", manager.withSession("bob", WolfScheduler::getScheduleTitle));
+
+		CourseQuery query = new CourseQuery();
+		query.setNamePrefix("CSC 116");
+		assertEquals(5, manager.getMetrics().histogram(WolfScheduler.ADD_COURSE_METRIC).getCount());
+		assertEquals(3, manager.searchCatalog(query, 0, 10).getTotal());
+	}
+
+	/**
+	 * Tests many threads changing the schedules of many users at once. Every schedule
+	 * must end without conflicts or duplicates, and every attempt to add a course must
+	 * be recorded.
+	 * @throws Exception if a thread fails
+	 */
+	@Test
+	public void testConcurrentSessions() throws Exception {
+		final int threads = 8;
+		final int users = 200;
+		final int operations = 2000;
+		SessionManager manager = new SessionManager(catalog, new SimpleMetricsRegistry(), 16);
+		for (int u = 0; u < users; u++) {
+			manager.openSession("user" + u);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+		for (int t = 0; t < threads; t++) {
+			final long seed = t;
+			results.add(executor.submit(() -> {
+				Random random = new Random(seed);
+				int attempts = 0;
+				for (int i = 0; i < operations; i++) {
+					String user = "user" + random.nextInt(users);
+					int choice = random.nextInt(10);
+					if (choice < 7) {
+						Course course = catalog.getCourse(random.nextInt(catalog.size()));
+						attempts++;
+						try {
+							manager.addCourseToSchedule(user, course.getName(), course.getSection());
+						} catch (IllegalArgumentException e) {
+							// conflicts and duplicates are expected
+						}
+					} else if (choice < 9) {
+						manager.removeActivityFromSchedule(user, random.nextInt(3));
+					} else {
+						manager.resetSchedule(user);
+					}
+				}
+				return attempts;
+			}));
+		}
+		int attempts = 0;
+		for (Future<Integer> result : results) {
+			attempts += result.get();
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(attempts, manager.getMetrics().histogram(WolfScheduler.ADD_COURSE_METRIC).getCount());
+		for (int u = 0; u < users; u++) {
+			ArrayList<Course> schedule = new ArrayList<Course>();
+			for (String[] row : manager.getScheduledActivities("user" + u)) {
+				for (Course course : schedule) {
+					assertNotEquals(course.getName(), row[0]);
+				}
+				schedule.add(catalog.getCourse(row[0], row[1]));
+			}
+			assertFalse(new ConflictAudit(schedule).hasConflicts());
+		}
+	}
+}
@@ -4,16 +4,28 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.Before;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
 
+import edu.ncsu.csc216.wolf_scheduler.catalog.CatalogConflictMatrix;
+import edu.ncsu.csc216.wolf_scheduler.catalog.ColumnarCourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseQuery;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseSearchPage;
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.BinaryCourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.metrics.SimpleMetricsRegistry;
 
 /**
  * Tests the WolfScheduler class.
@@ -90,6 +102,76 @@ public class WolfSchedulerTest {
 		assertEquals(13, ws2.getCourseCatalog().length);		
 	}
 	
+	/**
+	 * Tests WolfScheduler() with a catalog in the binary course records format.
+	 */
+	@Test
+	public void testWolfSchedulerBinaryCatalog(@TempDir Path tempDir) throws IOException {
+		String binaryFile = tempDir.resolve("course_records.bin").toString();
+		BinaryCourseRecordIO.convertCourseRecords(validTestFile, binaryFile);
+
+		WolfScheduler text = new WolfScheduler(validTestFile);
+		WolfScheduler binary = new WolfScheduler(binaryFile);
+		assertArrayEquals(text.getCourseCatalog(), binary.getCourseCatalog());
+		assertEquals("spbalik", binary.getCourseFromCatalog("CSC 116", "002").getInstructorId());
+	}
+	
+	/**
+	 * Tests that WolfScheduler() rejects a damaged binary catalog instead of reading it
+	 * as text records.
+	 */
+	@Test
+	public void testWolfSchedulerCorruptBinaryCatalog(@TempDir Path tempDir) throws IOException {
+		Path binaryFile = tempDir.resolve("course_records.bin");
+		BinaryCourseRecordIO.convertCourseRecords(validTestFile, binaryFile.toString());
+		byte[] bytes = Files.readAllBytes(binaryFile);
+		bytes[bytes.length / 2] ^= 1;
+		Files.write(binaryFile, bytes);
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new WolfScheduler(binaryFile.toString()));
+		assertEquals("Invalid binary course records.", e.getMessage());
+
+		Files.write(binaryFile, Arrays.copyOf(bytes, bytes.length - 10));
+		e = assertThrows(IllegalArgumentException.class, () -> new WolfScheduler(binaryFile.toString()));
+		assertEquals("Invalid binary course records.", e.getMessage());
+	}
+	
+	/**
+	 * Tests WolfScheduler() with a text catalog whose first line starts with the
+	 * binary course records magic number.
+	 */
+	@Test
+	public void testWolfSchedulerTextCatalogLikeBinary(@TempDir Path tempDir) throws IOException {
+		Path textFile = tempDir.resolve("wscb_records.txt");
+		Files.write(textFile, ("WSCB,Invalid Name,001,3,instr,MW,910,1100\n"
+				+ "WSCB 101,Title,001,3,instr,MW,910,1100\n").getBytes(StandardCharsets.US_ASCII));
+		WolfScheduler ws = new WolfScheduler(textFile.toString());
+		assertEquals(1, ws.getCourseCatalog().length);
+		assertEquals("WSCB 101", ws.getCourseCatalog()[0][0]);
+		assertEquals(1, ws.getCatalogRejectionReport().getRejectedCount());
+	}
+	
+	/**
+	 * Tests WolfScheduler() with a columnar catalog.
+	 */
+	@Test
+	public void testWolfSchedulerColumnarCatalog() throws IOException {
+		WolfScheduler text = new WolfScheduler(validTestFile);
+		WolfScheduler columnar = new WolfScheduler(new ColumnarCourseCatalog(CourseRecordIO.readCourseRecords(validTestFile)));
+		assertArrayEquals(text.getCourseCatalog(), columnar.getCourseCatalog());
+		assertEquals("spbalik", columnar.getCourseFromCatalog("CSC 116", "002").getInstructorId());
+		assertNull(columnar.getCourseFromCatalog("CSC 116", null));
+
+		assertTrue(columnar.addCourseToSchedule("CSC 216", "601"));
+		Exception e = assertThrows(IllegalArgumentException.class, () -> columnar.addCourseToSchedule("CSC 216", "601"));
+		assertEquals("You are already enrolled in CSC 216", e.getMessage());
+		assertTrue(columnar.addCourseToSchedule("CSC 116", "001"));
+		e = assertThrows(IllegalArgumentException.class, () -> columnar.addCourseToSchedule("CSC 116", "001"));
+		assertEquals("The course cannot be added due to a conflict.", e.getMessage());
+		assertEquals(2, columnar.getScheduledActivities().length);
+
+		assertThrows(IllegalArgumentException.class, () -> new WolfScheduler((CourseCatalog) null));
+	}
+	
 	/**
 	 * Test WolfScheduler.getCourseFromCatalog().
 	 */
@@ -103,6 +185,23 @@ public class WolfSchedulerTest {
 		//Attempt to get a course that does exist
 		Activity c = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
 		assertEquals(c, ws.getCourseFromCatalog("CSC 216", "001"));
+		
+		//Lookups need both the name and the section to match
+		assertNull(ws.getCourseFromCatalog("CSC 216", "003"));
+		assertNull(ws.getCourseFromCatalog("CSC 116", "601"));
+		assertNull(ws.getCourseFromCatalog(null, SECTION));
+		assertNull(ws.getCourseFromCatalog(NAME, null));
+		
+		//The first of two records with the same name and section is the one in the catalog
+		assertEquals("spbalik", ws.getCourseFromCatalog("CSC 116", "002").getInstructorId());
+		
+		//Every course in the catalog can be found by its name and section
+		String [][] catalog = ws.getCourseCatalog();
+		for (int i = 0; i < catalog.length; i++) {
+			Course course = ws.getCourseFromCatalog(catalog[i][0], catalog[i][1]);
+			assertEquals(catalog[i][0], course.getName());
+			assertEquals(catalog[i][1], course.getSection());
+		}
 	}
 	
 	/**
@@ -170,6 +269,37 @@ public class WolfSchedulerTest {
 		}
 	}
 	
+	/**
+	 * Tests that addEventToSchedule() reports duplicates before conflicts, and that
+	 * titles of removed events can be used again, on a schedule with many events.
+	 */
+	@Test
+	public void testAddEventToLargeSchedule() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		//One single minute event for every minute of Sunday
+		for (int minute = 0; minute < 24 * 60; minute++) {
+			ws.addEventToSchedule("Event " + minute, "U", minute / 60 * 100 + minute % 60, minute / 60 * 100 + minute % 60, "");
+		}
+		assertEquals(1440, ws.getScheduledActivities().length);
+		
+		Exception e1 = assertThrows(IllegalArgumentException.class, () -> ws.addEventToSchedule("Event 0", "M", 800, 900, ""));
+		assertEquals("You have already created an event called Event 0", e1.getMessage());
+		Exception e2 = assertThrows(IllegalArgumentException.class, () -> ws.addEventToSchedule("Event 0", "U", 800, 900, ""));
+		assertEquals("You have already created an event called Event 0", e2.getMessage());
+		Exception e3 = assertThrows(IllegalArgumentException.class, () -> ws.addEventToSchedule("Other", "U", 800, 900, ""));
+		assertEquals("The event cannot be added due to a conflict.", e3.getMessage());
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		
+		//Removing the first event frees its title and time
+		assertTrue(ws.removeActivityFromSchedule(0));
+		ws.addEventToSchedule("Event 0", "U", 0, 0, "");
+		
+		ws.resetSchedule();
+		ws.addEventToSchedule("Event 1", "M", 800, 900, "");
+		assertEquals(1, ws.getScheduledActivities().length);
+	}
+	
 	/**
 	 * Test WolfScheduler.removeCourse().
 	 */
@@ -220,6 +350,33 @@ public class WolfSchedulerTest {
 		assertEquals(1, ws.getFullScheduledActivities().length);
 	}
 	
+	/**
+	 * Tests that removing or resetting activities frees their times for new activities.
+	 */
+	@Test
+	public void testRemovedActivitiesDoNotConflict() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		Exception e1 = assertThrows(IllegalArgumentException.class, () -> ws.addEventToSchedule("Lab", "H", 1445, 1500, ""));
+		assertEquals("The event cannot be added due to a conflict.", e1.getMessage());
+		
+		assertTrue(ws.removeActivityFromSchedule(0));
+		ws.addEventToSchedule("Lab", "H", 1445, 1500, "");
+		Exception e2 = assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule(NAME, SECTION));
+		assertEquals("The course cannot be added due to a conflict.", e2.getMessage());
+		
+		ws.resetSchedule();
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		
+		//A conflict with an earlier activity is reported before enrollment in a later one
+		ws.resetSchedule();
+		ws.addEventToSchedule("Lab", "W", 1330, 1500, "");
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		Exception e3 = assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule(NAME, "002"));
+		assertEquals("The course cannot be added due to a conflict.", e3.getMessage());
+	}
+	
 	/**
 	 * Test WolfScheduler.resetSchedule()
 	 */
@@ -308,6 +465,48 @@ public class WolfSchedulerTest {
 		assertEquals("Data Structures and Algorithms", catalog[12][2]);
 	}
 	
+	/**
+	 * Tests that getCourseCatalog() reuses its rows until a course in the catalog changes.
+	 */
+	@Test
+	public void testGetCourseCatalogCached() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		
+		String [][] catalog = ws.getCourseCatalog();
+		String [] row = catalog[3];
+		assertSame(catalog, ws.getCourseCatalog());
+		assertSame(row, ws.getCourseCatalog()[3]);
+		
+		ws.getCourseFromCatalog("CSC 216", "001").setTitle("Software Development");
+		assertEquals("Software Development", ws.getCourseCatalog()[3][2]);
+		assertSame(catalog[4], ws.getCourseCatalog()[4]);
+		
+		assertEquals(0, new WolfScheduler().getCourseCatalog().length);
+	}
+	
+	/**
+	 * Tests that getCourseCatalog() only builds rows for courses added to a columnar
+	 * catalog since the last call.
+	 * @throws IOException if the course records cannot be read
+	 */
+	@Test
+	public void testGetCourseCatalogAppended() throws IOException {
+		ColumnarCourseCatalog columnar = new ColumnarCourseCatalog(CourseRecordIO.readCourseRecords(validTestFile));
+		WolfScheduler ws = new WolfScheduler(columnar);
+		
+		String [][] catalog = ws.getCourseCatalog();
+		assertSame(catalog, ws.getCourseCatalog());
+		
+		columnar.add(new Course("CSC 499", "Independent Study", "001", 3, "jdyoung2", "A"));
+		String [][] appended = ws.getCourseCatalog();
+		assertEquals(14, appended.length);
+		assertSame(catalog[0], appended[0]);
+		assertSame(catalog[12], appended[12]);
+		assertEquals("CSC 499", appended[13][0]);
+		assertEquals("Arranged", appended[13][3]);
+		assertSame(appended, ws.getCourseCatalog());
+	}
+	
 	/**
 	 * Test WolfScheduler.getScheduledCourses().
 	 */
@@ -477,4 +676,208 @@ public class WolfSchedulerTest {
 		
 	}
 
-}
\ No newline at end of file
+
+	/**
+	 * Tests that WolfScheduler measures catalog loads, lookups, adds and conflict checks.
+	 */
+	@Test
+	public void testMetrics() {
+		SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+		WolfScheduler ws = new WolfScheduler(validTestFile, metrics);
+		assertSame(metrics, ws.getMetrics());
+		assertEquals(1, metrics.histogram(WolfScheduler.CATALOG_LOAD_METRIC).getCount());
+		assertEquals(13, metrics.counter(WolfScheduler.CATALOG_COURSES_METRIC).getCount());
+		assertEquals(1, metrics.counter(WolfScheduler.CATALOG_SKIPPED_LINES_METRIC).getCount());
+		assertEquals(4, ws.getCatalogRejectionReport().getLineNumber(0));
+		assertEquals(0, new WolfScheduler().getCatalogRejectionReport().getRejectedCount());
+
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		assertFalse(ws.addCourseToSchedule("CSC 492", "001"));
+		assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule("CSC 216", "002"));
+		ws.addEventToSchedule(EVENT_TITLE, EVENT_MEETING_DAYS, EVENT_START_TIME, EVENT_END_TIME, EVENT_DETAILS);
+		assertThrows(IllegalArgumentException.class,
+				() -> ws.addEventToSchedule("Lunch", "T", 1400, 1430, EVENT_DETAILS));
+		assertNotNull(ws.getCourseFromCatalog("CSC 116", "001"));
+
+		assertEquals(3, metrics.histogram(WolfScheduler.ADD_COURSE_METRIC).getCount());
+		assertEquals(2, metrics.histogram(WolfScheduler.ADD_EVENT_METRIC).getCount());
+		assertEquals(4, metrics.histogram(WolfScheduler.GET_COURSE_METRIC).getCount());
+		assertEquals(4, metrics.counter(WolfScheduler.CONFLICT_CHECKS_METRIC).getCount());
+		assertEquals(1, metrics.counter(WolfScheduler.CONFLICT_REJECTIONS_METRIC).getCount());
+		assertTrue(metrics.getReport().contains("conflictRejections: 1"));
+
+		assertThrows(IllegalArgumentException.class, () -> new WolfScheduler(validTestFile, null));
+	}
+
+	/**
+	 * Tests searching the catalog a page at a time.
+	 */
+	@Test
+	public void testSearchCatalog() {
+		SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+		WolfScheduler ws = new WolfScheduler(validTestFile, metrics);
+		CourseQuery query = new CourseQuery();
+		query.setNamePrefix("CSC 21");
+		query.setMeetingDays("M");
+
+		CourseSearchPage page = ws.searchCatalog(query, 0, 1);
+		assertEquals(2, page.getTotal());
+		assertTrue(page.hasNext());
+		assertEquals("002", page.getCourses().get(0).getSection());
+		page = ws.searchCatalog(query, 1, 1);
+		assertFalse(page.hasNext());
+		assertEquals("CSC 217", page.getDisplayRows()[0][0]);
+		assertEquals("202", page.getDisplayRows()[0][1]);
+
+		query.setNamePrefix(null);
+		query.setMeetingDays(null);
+		query.setTitleKeywords("lab");
+		query.setEarliestStart(1000);
+		assertEquals(2, ws.searchCatalog(query, 0, 10).getTotal());
+		assertEquals(ws.getCourseCatalog().length, ws.searchCatalog(new CourseQuery(), 0, 100).getTotal());
+
+		assertThrows(IllegalArgumentException.class, () -> ws.searchCatalog(null, 0, 10));
+		assertThrows(IllegalArgumentException.class, () -> ws.searchCatalog(query, 0, 0));
+		assertEquals(6, metrics.histogram(WolfScheduler.SEARCH_METRIC).getCount());
+	}
+
+	/**
+	 * Tests that courses added to a columnar catalog after the first search are found by
+	 * later searches and schedule generation.
+	 * @throws IOException if the course records cannot be read
+	 */
+	@Test
+	public void testSearchCatalogAppended() throws IOException {
+		ColumnarCourseCatalog columnar = new ColumnarCourseCatalog(CourseRecordIO.readCourseRecords(validTestFile));
+		WolfScheduler ws = new WolfScheduler(columnar);
+		CourseQuery query = new CourseQuery();
+		query.setNamePrefix("CSC 499");
+		assertEquals(0, ws.searchCatalog(query, 0, 10).getTotal());
+		assertTrue(ws.generateSchedules(new String[] {"CSC 116", "CSC 499"}, 10).isEmpty());
+
+		columnar.add(new Course("CSC 499", "Independent Study", "001", 3, "jdyoung2", "F", 1500, 1600));
+		CourseSearchPage page = ws.searchCatalog(query, 0, 10);
+		assertEquals(1, page.getTotal());
+		assertEquals("Independent Study", page.getCourses().get(0).getTitle());
+		assertEquals(14, ws.searchCatalog(new CourseQuery(), 0, 100).getTotal());
+
+		List<List<Course>> schedules = ws.generateSchedules(new String[] {"CSC 116", "CSC 499"}, 10);
+		assertFalse(schedules.isEmpty());
+		assertEquals("CSC 499", schedules.get(0).get(1).getName());
+	}
+
+	/**
+	 * Tests that searches follow changes to the fields of catalog courses made after
+	 * the first search.
+	 */
+	@Test
+	public void testSearchCatalogChangedCourse() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		CourseQuery query = new CourseQuery();
+		query.setTitleKeywords("robotics");
+		assertEquals(0, ws.searchCatalog(query, 0, 10).getTotal());
+
+		ws.getCourseFromCatalog("CSC 116", "001").setTitle("Intro to Robotics");
+		CourseSearchPage page = ws.searchCatalog(query, 0, 10);
+		assertEquals(1, page.getTotal());
+		assertEquals("001", page.getCourses().get(0).getSection());
+
+		query.setTitleKeywords(null);
+		query.setMeetingDays("F");
+		int fridays = ws.searchCatalog(query, 0, 100).getTotal();
+		ws.getCourseFromCatalog("CSC 116", "001").setMeetingDaysAndTime("F", 1500, 1600);
+		assertEquals(fridays + 1, ws.searchCatalog(query, 0, 100).getTotal());
+	}
+
+	/**
+	 * Tests generating conflict free section combinations around the current schedule.
+	 */
+	@Test
+	public void testGenerateSchedules() {
+		SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+		WolfScheduler ws = new WolfScheduler(validTestFile, metrics);
+
+		List<List<Course>> schedules = ws.generateSchedules(new String[] {"CSC 116", "CSC 226", "CSC 230"}, 10);
+		assertEquals(1, schedules.size());
+		assertEquals("003", schedules.get(0).get(0).getSection());
+		assertEquals("CSC 226", schedules.get(0).get(1).getName());
+		assertEquals("CSC 230", schedules.get(0).get(2).getName());
+
+		String[] names = {"CSC 116", "CSC 216"};
+		assertEquals(9, ws.generateSchedules(names, 10).size());
+		assertEquals(4, ws.generateSchedules(names, 4, 3).size());
+
+		ws.addEventToSchedule("Lunch", "MW", 1300, 1330, "");
+		schedules = ws.generateSchedules(names, 10, 2);
+		assertEquals(4, schedules.size());
+		assertEquals("001", schedules.get(0).get(0).getSection());
+		assertEquals("001", schedules.get(0).get(1).getSection());
+		assertEquals("601", schedules.get(3).get(1).getSection());
+		assertEquals(schedules, ws.generateSchedules(names, 10));
+		assertEquals(1, ws.getScheduledActivities().length);
+
+		assertTrue(ws.generateSchedules(new String[] {"CSC 116", "CSC 999"}, 10).isEmpty());
+		assertTrue(ws.addCourseToSchedule("CSC 216", "601"));
+		Exception e = assertThrows(IllegalArgumentException.class, () -> ws.generateSchedules(names, 10));
+		assertEquals("You are already enrolled in CSC 216", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> ws.generateSchedules(null, 10));
+		assertThrows(IllegalArgumentException.class, () -> ws.generateSchedules(new String[0], 10));
+		assertThrows(IllegalArgumentException.class, () -> ws.generateSchedules(new String[] {"CSC 116", "CSC 116"}, 10));
+		assertThrows(IllegalArgumentException.class, () -> ws.generateSchedules(new String[] {"CSC 116"}, 0));
+		assertEquals(11, metrics.histogram(WolfScheduler.GENERATE_METRIC).getCount());
+	}
+
+	/**
+	 * Tests hiding the catalog sections that conflict with the schedule.
+	 */
+	@Test
+	public void testNonConflictingCourseCatalog() {
+		SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+		WolfScheduler ws = new WolfScheduler(validTestFile, metrics);
+		assertEquals(13, ws.getNonConflictingCourseCatalog().length);
+		assertEquals(13, ws.getConflictMatrix().size());
+		assertTrue(ws.getConflictMatrix().conflicts(0, 10));
+
+		assertTrue(ws.addCourseToSchedule("CSC 116", "001"));
+		ws.addEventToSchedule("Lunch", "TH", 1200, 1300, "");
+		String[][] open = ws.getNonConflictingCourseCatalog();
+		assertEquals(8, open.length);
+		assertEquals("CSC 116", open[0][0]);
+		assertEquals("002", open[0][1]);
+		assertEquals("CSC 216", open[1][0]);
+		assertEquals("001", open[1][1]);
+		assertEquals("CSC 230", open[7][0]);
+		assertEquals(1, metrics.histogram(WolfScheduler.CONFLICT_MATRIX_BUILD_METRIC).getCount());
+	}
+
+	/**
+	 * Tests that the conflict matrix follows changes to the days and times of catalog
+	 * courses, moving just the changed courses while the catalog remembers them.
+	 */
+	@Test
+	public void testConflictMatrixChangedCourse() {
+		SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+		WolfScheduler ws = new WolfScheduler(validTestFile, metrics);
+		CatalogConflictMatrix matrix = ws.getConflictMatrix();
+		assertTrue(matrix.conflicts(0, 10));
+
+		ws.getCourseFromCatalog("CSC 116", "001").setMeetingDaysAndTime("F", 1500, 1600);
+		WolfScheduler expected = new WolfScheduler(validTestFile);
+		expected.getCourseFromCatalog("CSC 116", "001").setMeetingDaysAndTime("F", 1500, 1600);
+		assertSame(matrix, ws.getConflictMatrix());
+		assertFalse(matrix.conflicts(0, 10));
+		for (int i = 0; i < matrix.size(); i++) {
+			assertEquals(expected.getConflictMatrix().getConflicts(i), matrix.getConflicts(i));
+		}
+		assertEquals(1, metrics.histogram(WolfScheduler.CONFLICT_MATRIX_BUILD_METRIC).getCount());
+
+		//More changes than the catalog remembers rebuild the matrix
+		Course course = ws.getCourseFromCatalog("CSC 216", "001");
+		for (int i = 0; i < 20; i++) {
+			course.setMeetingDaysAndTime("MW", 800 + i, 900);
+		}
+		course.setMeetingDaysAndTime("F", 1530, 1545);
+		assertTrue(ws.getConflictMatrix().conflicts(0, 3));
+		assertEquals(2, metrics.histogram(WolfScheduler.CONFLICT_MATRIX_BUILD_METRIC).getCount());
+	}
+}
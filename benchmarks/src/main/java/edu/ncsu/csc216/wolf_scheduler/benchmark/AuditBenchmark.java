@@ -0,0 +1,150 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictAudit;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Compares listing the conflicting pairs of a catalog, of activities that never
+ * conflict, and of many small schedules, with ConflictAudit and by checking every pair.
+ * @author Dania Swelam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditBenchmark {
+
+	/** Number of courses audited */
+	@Param({ "1000", "10000" })
+	public int size;
+
+	/** The courses audited */
+	private ArrayList<Course> courses;
+	/** Events that do not conflict with each other, one per course */
+	private ArrayList<Event> events;
+	/** Schedules of eight of the courses each, one per eight courses */
+	private ArrayList<List<Course>> schedules;
+
+	/**
+	 * Creates the courses.
+	 */
+	@Setup
+	public void setUp() {
+		courses = SyntheticCatalog.courses(size, 1);
+		events = SyntheticCatalog.events(size);
+		schedules = new ArrayList<List<Course>>();
+		for (int i = 0; i + 8 <= size; i += 8) {
+			schedules.add(courses.subList(i, i + 8));
+		}
+	}
+
+	/**
+	 * Lists the conflicting pairs with a sweep line.
+	 * @return the number of pairs
+	 */
+	@Benchmark
+	public int sweep() {
+		return new ConflictAudit(courses).size();
+	}
+
+	/**
+	 * Lists the conflicting pairs by checking every pair.
+	 * @return the number of pairs
+	 */
+	@Benchmark
+	public int pairwise() {
+		long[] pairs = new long[size];
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			Course course = courses.get(i);
+			for (int j = i + 1; j < size; j++) {
+				if (course.conflictsWith(courses.get(j))) {
+					if (count == pairs.length) {
+						pairs = Arrays.copyOf(pairs, count * 2);
+					}
+					pairs[count++] = (long) i << Integer.SIZE | j;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Audits many small schedules of eight sections with a sweep line.
+	 * @return the number of pairs
+	 */
+	@Benchmark
+	public int sweepSchedules() {
+		int count = 0;
+		for (List<Course> schedule : schedules) {
+			count += new ConflictAudit(schedule).size();
+		}
+		return count;
+	}
+
+	/**
+	 * Audits many small schedules of eight sections by checking every pair.
+	 * @return the number of pairs
+	 */
+	@Benchmark
+	public int pairwiseSchedules() {
+		int count = 0;
+		for (List<Course> schedule : schedules) {
+			for (int i = 0; i < schedule.size(); i++) {
+				for (int j = i + 1; j < schedule.size(); j++) {
+					if (schedule.get(i).conflictsWith(schedule.get(j))) {
+						count++;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Audits activities without conflicts with a sweep line.
+	 * @return the number of pairs
+	 */
+	@Benchmark
+	public int sweepWithoutConflicts() {
+		return new ConflictAudit(events).size();
+	}
+
+	/**
+	 * Audits activities without conflicts by checking every pair.
+	 * @return the number of pairs
+	 */
+	@Benchmark
+	public int pairwiseWithoutConflicts() {
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			Event event = events.get(i);
+			for (int j = i + 1; j < size; j++) {
+				if (event.conflictsWith(events.get(j))) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+}
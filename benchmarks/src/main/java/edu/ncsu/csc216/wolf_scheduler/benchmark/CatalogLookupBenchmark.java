@@ -0,0 +1,107 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.catalog.ColumnarCourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.catalog.ListCourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Compares WolfScheduler.getCourseFromCatalog on the list and columnar catalogs
+ * with the linear scan of the catalog it replaced.
+ * @author Dania Swelam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogLookupBenchmark {
+
+	/** Number of courses in the catalog */
+	@Param({ "1000", "10000", "100000" })
+	public int size;
+
+	/** The catalog courses */
+	private ArrayList<Course> catalog;
+	/** Scheduler with a list catalog */
+	private WolfScheduler listScheduler;
+	/** Scheduler with a columnar catalog */
+	private WolfScheduler columnarScheduler;
+	/** Names of the courses looked up */
+	private String[] names;
+	/** Sections of the courses looked up */
+	private String[] sections;
+	/** Position of the next course looked up */
+	private int next;
+
+	/**
+	 * Creates the catalog and picks the courses to look up, using copies of their
+	 * names and sections as the GUI would.
+	 */
+	@Setup
+	public void setUp() {
+		catalog = SyntheticCatalog.courses(size, 1);
+		listScheduler = new WolfScheduler(new ListCourseCatalog(catalog));
+		columnarScheduler = new WolfScheduler(new ColumnarCourseCatalog(catalog));
+		Random random = new Random(2);
+		names = new String[1024];
+		sections = new String[names.length];
+		for (int i = 0; i < names.length; i++) {
+			Course course = catalog.get(random.nextInt(size));
+			names[i] = new String(course.getName());
+			sections[i] = new String(course.getSection());
+		}
+	}
+
+	/**
+	 * Looks up a course through the list catalog's index.
+	 * @return the course found
+	 */
+	@Benchmark
+	public Course indexedLookup() {
+		int i = next++ & names.length - 1;
+		return listScheduler.getCourseFromCatalog(names[i], sections[i]);
+	}
+
+	/**
+	 * Looks up a course in the columnar catalog, which creates the Course.
+	 * @return the course found
+	 */
+	@Benchmark
+	public Course columnarLookup() {
+		int i = next++ & names.length - 1;
+		return columnarScheduler.getCourseFromCatalog(names[i], sections[i]);
+	}
+
+	/**
+	 * Looks up a course by scanning the catalog front to back.
+	 * @return the course found
+	 */
+	@Benchmark
+	public Course linearScan() {
+		int i = next++ & names.length - 1;
+		for (Course course : catalog) {
+			if (course.getName().equals(names[i]) && course.getSection().equals(sections[i])) {
+				return course;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,78 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.catalog.CatalogConflictMatrix;
+import edu.ncsu.csc216.wolf_scheduler.catalog.ColumnarCourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseSearchIndex;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Measures the work that reads every course of a columnar catalog: building its
+ * search index and conflict matrix, and a scheduler's first getCourseCatalog. Run
+ * with -prof gc to see the bytes allocated for each.
+ * @author Dania Swelam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class ColumnarCatalogBenchmark {
+
+	/** Number of courses in the catalog */
+	@Param({ "100000", "1000000" })
+	public int size;
+
+	/** The catalog read */
+	private ColumnarCourseCatalog catalog;
+
+	/**
+	 * Creates the catalog and builds its display rows, as a first display would.
+	 */
+	@Setup
+	public void setUp() {
+		catalog = new ColumnarCourseCatalog(SyntheticCatalog.courses(size, 1));
+		new WolfScheduler(catalog).getCourseCatalog();
+	}
+
+	/**
+	 * Builds the search index of the catalog.
+	 * @return the index
+	 */
+	@Benchmark
+	public CourseSearchIndex buildSearchIndex() {
+		return new CourseSearchIndex(catalog);
+	}
+
+	/**
+	 * Builds the conflict matrix of the catalog on one thread.
+	 * @return the matrix
+	 */
+	@Benchmark
+	public CatalogConflictMatrix buildConflictMatrix() {
+		return new CatalogConflictMatrix(catalog, 1);
+	}
+
+	/**
+	 * Displays the catalog from a new scheduler.
+	 * @return the display rows
+	 */
+	@Benchmark
+	public String[][] firstCourseCatalog() {
+		return new WolfScheduler(catalog).getCourseCatalog();
+	}
+}
@@ -0,0 +1,93 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
+
+/**
+ * Measures checking pairs of catalog courses for conflicts, both through
+ * Activity.checkConflict, which throws for conflicting pairs, and through the
+ * exception free conflictsWith and getOverlap.
+ * @author Dania Swelam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConflictBenchmark {
+
+	/** Number of activities the pairs are drawn from */
+	private static final int ACTIVITIES = 4096;
+
+	/** Seed of the catalog, giving a different share of conflicting pairs */
+	@Param({ "1" })
+	public long seed;
+
+	/** Activities checked against each other */
+	private Activity[] activities;
+	/** Position of the next pair checked */
+	private int next;
+
+	/**
+	 * Creates the activities from a shuffled catalog.
+	 */
+	@Setup
+	public void setUp() {
+		ArrayList<Activity> list = new ArrayList<Activity>(SyntheticCatalog.courses(ACTIVITIES, seed));
+		Collections.shuffle(list, new Random(seed));
+		activities = list.toArray(new Activity[0]);
+	}
+
+	/**
+	 * Checks a pair with checkConflict.
+	 * @return whether the pair conflicts
+	 */
+	@Benchmark
+	public boolean checkConflict() {
+		int i = next++ & ACTIVITIES - 1;
+		try {
+			activities[i].checkConflict(activities[(i * 7 + 1) & ACTIVITIES - 1]);
+			return false;
+		} catch (ConflictException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Checks a pair with conflictsWith.
+	 * @return whether the pair conflicts
+	 */
+	@Benchmark
+	public boolean conflictsWith() {
+		int i = next++ & ACTIVITIES - 1;
+		return activities[i].conflictsWith(activities[(i * 7 + 1) & ACTIVITIES - 1]);
+	}
+
+	/**
+	 * Finds the overlap of a pair with getOverlap.
+	 * @return the packed overlap
+	 */
+	@Benchmark
+	public long getOverlap() {
+		int i = next++ & ACTIVITIES - 1;
+		return activities[i].getOverlap(activities[(i * 7 + 1) & ACTIVITIES - 1]);
+	}
+}
@@ -0,0 +1,104 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.catalog.CatalogConflictMatrix;
+import edu.ncsu.csc216.wolf_scheduler.catalog.ListCourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Measures building the catalog conflict matrix, and finding the sections that
+ * conflict with one section from the matrix and by scanning the catalog.
+ * @author Dania Swelam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConflictMatrixBenchmark {
+
+	/** Number of courses in the catalog */
+	@Param({ "10000", "100000" })
+	public int size;
+
+	/** The catalog courses */
+	private ArrayList<Course> courses;
+	/** The catalog */
+	private ListCourseCatalog catalog;
+	/** The catalog's conflict matrix */
+	private CatalogConflictMatrix matrix;
+	/** Position of the next section queried */
+	private int next;
+
+	/**
+	 * Creates the catalog and its matrix.
+	 */
+	@Setup
+	public void setUp() {
+		courses = SyntheticCatalog.courses(size, 1);
+		catalog = new ListCourseCatalog(courses);
+		matrix = new CatalogConflictMatrix(catalog);
+	}
+
+	/**
+	 * Builds the matrix of the catalog.
+	 * @return the matrix
+	 */
+	@Benchmark
+	public CatalogConflictMatrix build() {
+		return new CatalogConflictMatrix(catalog);
+	}
+
+	/**
+	 * Counts the sections conflicting with a section from the matrix.
+	 * @return the number of conflicting sections
+	 */
+	@Benchmark
+	public int matrixCount() {
+		next = (next + 7919) % size;
+		return matrix.getConflictCount(next);
+	}
+
+	/**
+	 * Lists the sections conflicting with a section from the matrix.
+	 * @return the conflicting sections
+	 */
+	@Benchmark
+	public BitSet matrixRow() {
+		next = (next + 7919) % size;
+		return matrix.getConflicts(next);
+	}
+
+	/**
+	 * Lists the sections conflicting with a section by checking every other section.
+	 * @return the conflicting sections
+	 */
+	@Benchmark
+	public BitSet scanRow() {
+		next = (next + 7919) % size;
+		Course course = courses.get(next);
+		BitSet conflicts = new BitSet(size);
+		for (int i = 0; i < size; i++) {
+			if (i != next && course.conflictsWith(courses.get(i))) {
+				conflicts.set(i);
+			}
+		}
+		return conflicts;
+	}
+}
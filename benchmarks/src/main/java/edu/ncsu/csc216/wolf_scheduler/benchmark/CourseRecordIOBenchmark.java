@@ -0,0 +1,112 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.BinaryCourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordGenerator;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Measures loading a catalog with each of the course record readers.
+ * @author Dania Swelam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class CourseRecordIOBenchmark {
+
+	/** Number of courses in the catalog */
+	@Param({ "1000", "100000", "1000000" })
+	public int size;
+
+	/** Share of lines that are invalid, and share of lines that repeat an earlier section */
+	@Param({ "0", "0.01" })
+	public double dirtyRate;
+
+	/** Directory holding the catalog files */
+	private Path directory;
+	/** Catalog in the text format */
+	private String textFile;
+	/** Catalog in the binary format */
+	private String binaryFile;
+
+	/**
+	 * Writes the catalog in both formats.
+	 * @throws IOException if the files cannot be written
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("wolf-scheduler-bench");
+		textFile = directory.resolve("courses.txt").toString();
+		binaryFile = directory.resolve("courses.bin").toString();
+		CourseRecordGenerator generator = new CourseRecordGenerator();
+		generator.setSeed(1);
+		generator.setInvalidRate(dirtyRate);
+		generator.setDuplicateRate(dirtyRate);
+		generator.writeCourseRecords(textFile, size);
+		BinaryCourseRecordIO.convertCourseRecords(textFile, binaryFile);
+	}
+
+	/**
+	 * Deletes the catalog files.
+	 * @throws IOException if the files cannot be deleted
+	 */
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(Path.of(textFile));
+		Files.deleteIfExists(Path.of(binaryFile));
+		Files.deleteIfExists(directory);
+	}
+
+	/**
+	 * Reads the text catalog with the streaming reader.
+	 * @return the courses read
+	 * @throws FileNotFoundException if the file cannot be read
+	 */
+	@Benchmark
+	public ArrayList<Course> readCourseRecords() throws FileNotFoundException {
+		return CourseRecordIO.readCourseRecords(textFile);
+	}
+
+	/**
+	 * Reads the text catalog with the memory mapped reader.
+	 * @return the courses read
+	 * @throws FileNotFoundException if the file cannot be read
+	 */
+	@Benchmark
+	public ArrayList<Course> readCourseRecordsMapped() throws FileNotFoundException {
+		return CourseRecordIO.readCourseRecordsMapped(textFile);
+	}
+
+	/**
+	 * Reads the binary catalog.
+	 * @return the courses read
+	 * @throws FileNotFoundException if the file cannot be read
+	 */
+	@Benchmark
+	public ArrayList<Course> readBinaryCourseRecords() throws FileNotFoundException {
+		return BinaryCourseRecordIO.readCourseRecords(binaryFile);
+	}
+}
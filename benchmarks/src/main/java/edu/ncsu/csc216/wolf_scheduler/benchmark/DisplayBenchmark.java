@@ -0,0 +1,79 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.catalog.ListCourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Measures building the display arrays the GUI shows for the catalog and the
+ * schedule.
+ * @author Dania Swelam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisplayBenchmark {
+
+	/** Number of courses in the catalog and events in the schedule */
+	@Param({ "100", "10000" })
+	public int size;
+
+	/** Scheduler with the catalog and schedule */
+	private WolfScheduler scheduler;
+
+	/**
+	 * Creates the scheduler with its catalog and events.
+	 */
+	@Setup
+	public void setUp() {
+		scheduler = new WolfScheduler(new ListCourseCatalog(SyntheticCatalog.courses(size, 1)));
+		for (Event event : SyntheticCatalog.events(size)) {
+			scheduler.addEventToSchedule(event.getTitle(), event.getMeetingDays(), event.getStartTime(),
+					event.getEndTime(), event.getEventDetails());
+		}
+	}
+
+	/**
+	 * Gets the catalog display rows.
+	 * @return the catalog rows
+	 */
+	@Benchmark
+	public String[][] getCourseCatalog() {
+		return scheduler.getCourseCatalog();
+	}
+
+	/**
+	 * Gets the short schedule display rows.
+	 * @return the schedule rows
+	 */
+	@Benchmark
+	public String[][] getScheduledActivities() {
+		return scheduler.getScheduledActivities();
+	}
+
+	/**
+	 * Gets the full schedule display rows.
+	 * @return the schedule rows
+	 */
+	@Benchmark
+	public String[][] getFullScheduledActivities() {
+		return scheduler.getFullScheduledActivities();
+	}
+}
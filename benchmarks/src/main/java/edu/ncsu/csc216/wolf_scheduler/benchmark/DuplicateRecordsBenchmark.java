@@ -0,0 +1,83 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Measures how loading time grows with the number of records when every other record
+ * repeats the name and section of the one before it. Eight times the records should
+ * take about eight times as long; a quadratic duplicate check would take about 64
+ * times as long.
+ * @author Dania Swelam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class DuplicateRecordsBenchmark {
+
+	/** Number of records in the file, half of them duplicates */
+	@Param({ "125000", "1000000" })
+	public int records;
+
+	/** The course records file */
+	private Path file;
+
+	/**
+	 * Writes the course records, each followed by a duplicate of its name and section.
+	 * @throws IOException if the file cannot be written
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		file = Files.createTempFile("course_records", ".txt");
+		StringBuilder contents = new StringBuilder();
+		for (int i = 0; i < records / 2; i++) {
+			String name = "CSC " + (100 + i / 1000);
+			String section = String.format("%03d", i % 1000);
+			contents.append(name).append(",Title,").append(section).append(",3,instr,MW,910,1100\n");
+			contents.append(name).append(",Duplicate,").append(section).append(",3,other,TH,910,1100\n");
+		}
+		Files.write(file, contents.toString().getBytes());
+	}
+
+	/**
+	 * Deletes the course records file.
+	 * @throws IOException if the file cannot be deleted
+	 */
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	/**
+	 * Reads the course records, dropping the duplicates.
+	 * @return the courses read
+	 * @throws FileNotFoundException if the file cannot be read
+	 */
+	@Benchmark
+	public ArrayList<Course> readCourseRecords() throws FileNotFoundException {
+		return CourseRecordIO.readCourseRecords(file.toString());
+	}
+}
@@ -0,0 +1,83 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordIO;
+
+/**
+ * Measures exporting schedules with ActivityRecordIO, with and without forcing
+ * the file to storage.
+ * @author Dania Swelam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExportBenchmark {
+
+	/** Number of activities exported */
+	@Param({ "10", "1000", "100000" })
+	public int size;
+
+	/** Whether the file is forced to storage */
+	@Param({ "false", "true" })
+	public boolean sync;
+
+	/** Directory the file is exported to */
+	private Path directory;
+	/** File exported to */
+	private String file;
+	/** Activities exported */
+	private ArrayList<Activity> activities;
+
+	/**
+	 * Creates the activities, half courses and half events.
+	 * @throws IOException if the directory cannot be created
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("wolf-scheduler-bench");
+		file = directory.resolve("schedule.txt").toString();
+		activities = new ArrayList<Activity>(SyntheticCatalog.courses(size - size / 2, 1));
+		activities.addAll(SyntheticCatalog.events(size / 2));
+	}
+
+	/**
+	 * Deletes the exported file.
+	 * @throws IOException if the file cannot be deleted
+	 */
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(Path.of(file));
+		Files.deleteIfExists(directory);
+	}
+
+	/**
+	 * Exports the activities.
+	 * @throws IOException if the file cannot be written
+	 */
+	@Benchmark
+	public void writeActivityRecords() throws IOException {
+		ActivityRecordIO.writeActivityRecords(file, activities, sync);
+	}
+}
@@ -0,0 +1,85 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.catalog.ListCourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Measures WolfScheduler.generateSchedules finding every conflict free combination
+ * of sections of several courses, each with ten sections, on one thread and on four.
+ * @author Dania Swelam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerateBenchmark {
+
+	/** Number of courses to schedule */
+	@Param({ "4", "6", "8" })
+	public int courses;
+
+	/** Scheduler with the catalog */
+	private WolfScheduler scheduler;
+	/** Names of the courses to schedule */
+	private String[] names;
+
+	/**
+	 * Creates the catalog and picks courses spread through it.
+	 */
+	@Setup
+	public void setUp() {
+		ArrayList<Course> catalog = SyntheticCatalog.courses(10000, 1);
+		scheduler = new WolfScheduler(new ListCourseCatalog(catalog));
+		names = new String[courses];
+		for (int i = 0; i < courses; i++) {
+			names[i] = catalog.get(i * 1000).getName();
+		}
+		scheduler.generateSchedules(names, 1);
+	}
+
+	/**
+	 * Finds every schedule on the calling thread.
+	 * @return the schedules
+	 */
+	@Benchmark
+	public List<List<Course>> sequential() {
+		return scheduler.generateSchedules(names, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Finds every schedule on four threads.
+	 * @return the schedules
+	 */
+	@Benchmark
+	public List<List<Course>> parallel() {
+		return scheduler.generateSchedules(names, Integer.MAX_VALUE, 4);
+	}
+
+	/**
+	 * Finds the first hundred schedules on the calling thread.
+	 * @return the schedules
+	 */
+	@Benchmark
+	public List<List<Course>> firstHundred() {
+		return scheduler.generateSchedules(names, 100);
+	}
+}
@@ -0,0 +1,81 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordGenerator;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Measures how CourseRecordIO.readCourseRecordsParallel scales from one thread
+ * to many on a large catalog. Run with -p parallelism=... to match the machine.
+ * @author Dania Swelam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class ParallelReadBenchmark {
+
+	/** Number of threads parsing the catalog */
+	@Param({ "1", "2", "4", "8", "16", "32" })
+	public int parallelism;
+
+	/** Number of courses in the catalog */
+	@Param({ "1000000" })
+	public int size;
+
+	/** Catalog in the text format */
+	private Path textFile;
+
+	/**
+	 * Writes the catalog.
+	 * @throws IOException if the file cannot be written
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		textFile = Files.createTempFile("wolf-scheduler-bench", ".txt");
+		CourseRecordGenerator generator = new CourseRecordGenerator();
+		generator.setSeed(1);
+		generator.writeCourseRecords(textFile.toString(), size);
+	}
+
+	/**
+	 * Deletes the catalog.
+	 * @throws IOException if the file cannot be deleted
+	 */
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(textFile);
+	}
+
+	/**
+	 * Reads the catalog on a pool of the given number of threads.
+	 * @return the courses read
+	 * @throws FileNotFoundException if the file cannot be read
+	 */
+	@Benchmark
+	public ArrayList<Course> readCourseRecordsParallel() throws FileNotFoundException {
+		return CourseRecordIO.readCourseRecordsParallel(textFile.toString(), parallelism);
+	}
+}
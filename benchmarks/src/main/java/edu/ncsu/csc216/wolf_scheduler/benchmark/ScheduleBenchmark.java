@@ -0,0 +1,134 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.ncsu.csc216.wolf_scheduler.catalog.ListCourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Measures adding courses and events to schedules, including schedules of
+ * thousands of events like the ones calendar imports create.
+ * @author Dania Swelam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleBenchmark {
+
+	/** Number of courses tried for each schedule */
+	private static final int COURSES_PER_SCHEDULE = 16;
+
+	/** Number of events in the schedule before each operation */
+	@Param({ "0", "1000", "5000" })
+	public int events;
+
+	/** Number of courses in the catalog */
+	@Param({ "10000" })
+	public int catalogSize;
+
+	/** Scheduler with the catalog and events */
+	private WolfScheduler scheduler;
+	/** Names of the courses added */
+	private String[] names;
+	/** Sections of the courses added */
+	private String[] sections;
+	/** Position of the next course added */
+	private int next;
+
+	/**
+	 * Creates the scheduler, its events, and the courses to add.
+	 */
+	@Setup
+	public void setUp() {
+		ArrayList<Course> catalog = SyntheticCatalog.courses(catalogSize, 1);
+		scheduler = new WolfScheduler(new ListCourseCatalog(catalog));
+		addEvents();
+		Random random = new Random(2);
+		names = new String[1024];
+		sections = new String[names.length];
+		for (int i = 0; i < names.length; i++) {
+			Course course = catalog.get(random.nextInt(catalogSize));
+			names[i] = course.getName();
+			sections[i] = course.getSection();
+		}
+	}
+
+	/**
+	 * Builds a schedule of courses, as a student trying sections would: every
+	 * course is tried, and the ones that conflict or repeat are refused.
+	 * @param blackhole sink for the results
+	 */
+	@Benchmark
+	public void addCourseToSchedule(Blackhole blackhole) {
+		int added = 0;
+		for (int i = 0; i < COURSES_PER_SCHEDULE; i++) {
+			int course = next++ & names.length - 1;
+			try {
+				if (scheduler.addCourseToSchedule(names[course], sections[course])) {
+					added++;
+				}
+			} catch (IllegalArgumentException e) {
+				blackhole.consume(e);
+			}
+		}
+
+		// Remove the courses, which follow the events
+		for (int i = events + added - 1; i >= events; i--) {
+			blackhole.consume(scheduler.removeActivityFromSchedule(i));
+		}
+	}
+
+	/**
+	 * Adds an event that fits in the schedule and removes it again.
+	 * @return whether the event was removed
+	 */
+	@Benchmark
+	public boolean addEventToSchedule() {
+		scheduler.addEventToSchedule("New Event", "M", 2359, 2359, "Fits after the other events");
+		return scheduler.removeActivityFromSchedule(events);
+	}
+
+	/**
+	 * Adds an event whose title is already in the schedule, which is refused.
+	 * @return the refusal
+	 */
+	@Benchmark
+	public IllegalArgumentException addDuplicateEvent() {
+		try {
+			scheduler.addEventToSchedule("Event 0", "S", 2359, 2359, "Same title");
+			return null;
+		} catch (IllegalArgumentException e) {
+			return e;
+		}
+	}
+
+	/**
+	 * Adds the events to the schedule, taking the earliest minutes of each day.
+	 */
+	private void addEvents() {
+		for (Event event : SyntheticCatalog.events(events)) {
+			scheduler.addEventToSchedule(event.getTitle(), event.getMeetingDays(), event.getStartTime(),
+					event.getEndTime(), event.getEventDetails());
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseQuery;
+import edu.ncsu.csc216.wolf_scheduler.catalog.CourseSearchPage;
+import edu.ncsu.csc216.wolf_scheduler.catalog.ListCourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Compares a first page of WolfScheduler.searchCatalog with filtering the display
+ * rows of getCourseCatalog, for a query on name prefix, meeting days and start time.
+ * @author Dania Swelam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+
+	/** Number of courses in the catalog */
+	@Param({ "10000", "100000" })
+	public int size;
+
+	/** Number of courses on a page */
+	private static final int PAGE = 20;
+
+	/** Scheduler with the catalog, its search index already built */
+	private WolfScheduler scheduler;
+	/** The query searched */
+	private CourseQuery query;
+
+	/**
+	 * Creates the catalog and builds its search index with a first search.
+	 */
+	@Setup
+	public void setUp() {
+		scheduler = new WolfScheduler(new ListCourseCatalog(SyntheticCatalog.courses(size, 1)));
+		query = new CourseQuery();
+		query.setNamePrefix("CSC 2");
+		query.setMeetingDays("TH");
+		query.setEarliestStart(1000);
+		scheduler.searchCatalog(query, 0, PAGE);
+	}
+
+	/**
+	 * Searches the catalog index for the first page of matches.
+	 * @return the page
+	 */
+	@Benchmark
+	public CourseSearchPage indexedSearch() {
+		return scheduler.searchCatalog(query, 0, PAGE);
+	}
+
+	/**
+	 * Filters the full catalog display for the first page of matches and their count,
+	 * as a caller of getCourseCatalog must.
+	 * @return the rows of the page, followed by a row holding the count
+	 */
+	@Benchmark
+	public ArrayList<String[]> catalogScan() {
+		ArrayList<String[]> page = new ArrayList<String[]>(PAGE);
+		int total = 0;
+		for (String[] row : scheduler.getCourseCatalog()) {
+			if (row[0].startsWith("CSC 2")) {
+				Course course = scheduler.getCourseFromCatalog(row[0], row[1]);
+				if (course.getMeetingDays().contains("T") && course.getMeetingDays().contains("H")
+						&& course.getStartTime() >= 1000) {
+					if (page.size() < PAGE) {
+						page.add(row);
+					}
+					total++;
+				}
+			}
+		}
+		page.add(new String[] { Integer.toString(total) });
+		return page;
+	}
+}
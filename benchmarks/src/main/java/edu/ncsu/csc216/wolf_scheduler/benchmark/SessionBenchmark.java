@@ -0,0 +1,121 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.wolf_scheduler.catalog.ListCourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.metrics.SimpleMetricsRegistry;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.SessionManager;
+
+/**
+ * Measures the throughput of SessionManager.addCourseToSchedule with each benchmark
+ * thread acting for its own users, with every session behind one lock or spread over
+ * many lock stripes. Run with -t 1, 2, 4 and so on to see how throughput scales with
+ * threads.
+ * @author Dania Swelam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionBenchmark {
+
+	/** Number of courses in the catalog */
+	private static final int SIZE = 10000;
+	/** Number of users each thread acts for */
+	private static final int USERS_PER_THREAD = 64;
+	/** Number of courses a schedule holds before it is reset */
+	private static final int SCHEDULE_LIMIT = 8;
+
+	/** Number of lock stripes of the manager */
+	@Param({ "1", "256" })
+	public int stripes;
+
+	/** The courses of the catalog */
+	private Course[] courses;
+	/** The manager shared by every thread */
+	private SessionManager manager;
+	/** Number of threads that have opened their sessions */
+	private final AtomicInteger threads = new AtomicInteger();
+
+	/**
+	 * Creates the catalog and the manager.
+	 */
+	@Setup
+	public void setUp() {
+		ListCourseCatalog catalog = new ListCourseCatalog(SyntheticCatalog.courses(SIZE, 1));
+		courses = new Course[catalog.size()];
+		for (int i = 0; i < courses.length; i++) {
+			courses[i] = catalog.getCourse(i);
+		}
+		manager = new SessionManager(catalog, new SimpleMetricsRegistry(), stripes);
+	}
+
+	/**
+	 * The users of one benchmark thread.
+	 */
+	@State(Scope.Thread)
+	public static class Users {
+
+		/** Ids of the thread's users */
+		private String[] ids;
+		/** Number of courses added to each user's schedule since it was reset */
+		private int[] added;
+		/** Picks the users and courses */
+		private Random random;
+
+		/**
+		 * Opens the sessions of the thread's users.
+		 * @param benchmark the shared benchmark state
+		 */
+		@Setup
+		public void setUp(SessionBenchmark benchmark) {
+			int thread = benchmark.threads.getAndIncrement();
+			ids = new String[USERS_PER_THREAD];
+			added = new int[USERS_PER_THREAD];
+			random = new Random(thread);
+			for (int u = 0; u < USERS_PER_THREAD; u++) {
+				ids[u] = "user" + thread + "-" + u;
+				benchmark.manager.openSession(ids[u]);
+			}
+		}
+	}
+
+	/**
+	 * Adds a random course to a random user's schedule, resetting schedules that have
+	 * grown full.
+	 * @param users the users of the calling thread
+	 * @return whether the course was added
+	 */
+	@Benchmark
+	public boolean addCourseToSchedule(Users users) {
+		int u = users.random.nextInt(USERS_PER_THREAD);
+		if (users.added[u] == SCHEDULE_LIMIT) {
+			manager.resetSchedule(users.ids[u]);
+			users.added[u] = 0;
+		}
+		Course course = courses[users.random.nextInt(courses.length)];
+		users.added[u]++;
+		try {
+			return manager.addCourseToSchedule(users.ids[u], course.getName(), course.getSection());
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+}
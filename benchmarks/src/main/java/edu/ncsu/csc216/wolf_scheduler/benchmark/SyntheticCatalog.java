@@ -0,0 +1,106 @@
+package edu.ncsu.csc216.wolf_scheduler.benchmark;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Creates reproducible catalogs and schedules of any size for the benchmarks.
+ * Courses have ten sections each, titles and instructors repeat across courses,
+ * and meeting days, times and arranged sections follow a typical timetable.
+ * @author Dania Swelam
+ */
+public class SyntheticCatalog {
+
+	/** Meeting day patterns, weighted by how often they appear */
+	private static final String[] DAY_PATTERNS = { "MW", "MW", "TH", "TH", "MWF", "MWF", "M", "T", "W", "H", "F", "A" };
+	/** Class lengths in minutes */
+	private static final int[] LENGTHS = { 50, 75, 110, 170 };
+	/** Department prefixes of course names, before generated four letter prefixes */
+	private static final String[] DEPARTMENTS = { "CSC", "MA", "PY", "ECE", "ST", "CH", "BIO", "E", "HI", "ENG" };
+	/** Number of course numbers in a department, 100 through 999 */
+	private static final int NUMBERS = 900;
+	/** Number of sections of each course */
+	private static final int SECTIONS = 10;
+	/** Number of distinct titles */
+	private static final int TITLES = 500;
+	/** Number of distinct instructors */
+	private static final int INSTRUCTORS = 2000;
+
+	/**
+	 * Returns a catalog of the given number of sections.
+	 * @param sections number of courses in the catalog
+	 * @param seed seed of the random choices
+	 * @return the catalog courses
+	 */
+	public static ArrayList<Course> courses(int sections, long seed) {
+		Random random = new Random(seed);
+		ArrayList<Course> courses = new ArrayList<Course>(sections);
+		for (int i = 0; i < sections; i++) {
+			String name = name(i / SECTIONS);
+			String section = String.format("%03d", i % SECTIONS + 1);
+			String title = "Course Title " + random.nextInt(TITLES);
+			int credits = 1 + random.nextInt(4);
+			String instructor = "inst" + random.nextInt(INSTRUCTORS);
+			String days = DAY_PATTERNS[random.nextInt(DAY_PATTERNS.length)];
+			if ("A".equals(days)) {
+				courses.add(new Course(name, title, section, credits, instructor, days));
+			} else {
+				int start = 8 * 60 + 5 * random.nextInt(12 * 12);
+				int end = Math.min(start + LENGTHS[random.nextInt(LENGTHS.length)], 23 * 60 + 59);
+				courses.add(new Course(name, title, section, credits, instructor, days, toTime(start), toTime(end)));
+			}
+		}
+		return courses;
+	}
+
+	/**
+	 * Returns events that do not conflict with each other, each taking a single
+	 * minute of the week.
+	 * @param count number of events, at most the number of minutes in a week
+	 * @return the events
+	 */
+	public static ArrayList<Event> events(int count) {
+		ArrayList<Event> events = new ArrayList<Event>(count);
+		String days = "UMTWHFS";
+		for (int i = 0; i < count; i++) {
+			int minute = i / days.length();
+			events.add(new Event("Event " + i, String.valueOf(days.charAt(i % days.length())), toTime(minute),
+					toTime(minute), "Synthetic event " + i));
+		}
+		return events;
+	}
+
+	/**
+	 * Returns the name of the course with the given number, such as CSC 216.
+	 * @param course number of the course in the catalog
+	 * @return the course name
+	 */
+	private static String name(int course) {
+		int department = course / NUMBERS;
+		String prefix;
+		if (department < DEPARTMENTS.length) {
+			prefix = DEPARTMENTS[department];
+		} else {
+			char[] letters = new char[4];
+			int code = department - DEPARTMENTS.length;
+			for (int i = letters.length - 1; i >= 0; i--) {
+				letters[i] = (char) ('A' + code % 26);
+				code /= 26;
+			}
+			prefix = new String(letters);
+		}
+		return prefix + " " + (100 + course % NUMBERS);
+	}
+
+	/**
+	 * Converts minutes since midnight to a time in HHMM format.
+	 * @param minutes minutes since midnight
+	 * @return the time in HHMM format
+	 */
+	private static int toTime(int minutes) {
+		return minutes / 60 * 100 + minutes % 60;
+	}
+}